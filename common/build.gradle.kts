@@ -17,6 +17,12 @@ loom {
     accessWidenerPath.set(file("src/main/resources/yacl.accesswidener"))
 }
 
+// benchmarks run against the main classes, outside the game
+val jmh by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+    runtimeClasspath += output + compileClasspath + sourceSets.main.get().runtimeClasspath
+}
+
 dependencies {
     minecraft(libs.minecraft)
     mappings(loom.layered {
@@ -27,6 +33,12 @@ dependencies {
 
     implementation(libs.bundles.twelvemonkeys.imageio)
     implementation(libs.bundles.quilt.parsers)
+
+    "jmhImplementation"(libs.jmh.core)
+    "jmhAnnotationProcessor"(libs.jmh.generator.annprocess)
+
+    testImplementation(libs.junit.jupiter)
+    testRuntimeOnly(libs.junit.platform.launcher)
 }
 
 java {
@@ -39,6 +51,19 @@ tasks {
 
         from(rootProject.file("LICENSE"))
     }
+
+    test {
+        useJUnitPlatform()
+    }
+
+    register<JavaExec>("jmh") {
+        group = "benchmark"
+        description = "Runs the JMH benchmarks. JMH options can be passed with -PjmhArgs=\"...\""
+
+        classpath = jmh.runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+        args(findProperty("jmhArgs")?.toString()?.split(" ") ?: emptyList<String>())
+    }
 }
 
 publishing {
@@ -0,0 +1,133 @@
+package dev.isxander.yacl3.config.v2.impl;
+
+import dev.isxander.yacl3.config.v2.api.ConfigClassDescriptor;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Compares reading and writing a config field through each {@link InstanceFieldAccess}:
+ * plain reflection, exact-typed {@link java.lang.invoke.MethodHandle}s, and the direct accessors
+ * generated into a {@link ConfigClassDescriptor}, which are written out by hand here.
+ * <p>
+ * Run with {@code ./gradlew :common:jmh -PjmhArgs="FieldAccessBenchmark"}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldAccessBenchmark {
+    private InstanceFieldAccess<String> reflectionString;
+    private InstanceFieldAccess<String> methodHandleString;
+    private InstanceFieldAccess<String> descriptorString;
+    private InstanceFieldAccess<Integer> reflectionInt;
+    private InstanceFieldAccess<Integer> methodHandleInt;
+    private InstanceFieldAccess<Integer> descriptorInt;
+
+    private int counter;
+
+    @Setup
+    public void setup() throws NoSuchFieldException {
+        BenchmarkConfig config = new BenchmarkConfig();
+
+        Field stringField = BenchmarkConfig.class.getDeclaredField("name");
+        reflectionString = new ReflectionFieldAccess<>(stringField, config);
+        methodHandleString = MethodHandleFieldAccess.<String>tryCreate(stringField, config).orElseThrow();
+        descriptorString = DescriptorFieldAccess.of(descriptor("name", String.class, c -> c.name, (c, v) -> c.name = v, null), BenchmarkConfig.class, config);
+
+        Field intField = BenchmarkConfig.class.getDeclaredField("count");
+        reflectionInt = new ReflectionFieldAccess<>(intField, config);
+        methodHandleInt = MethodHandleFieldAccess.<Integer>tryCreate(intField, config).orElseThrow();
+        descriptorInt = DescriptorFieldAccess.of(descriptor("count", Integer.class, c -> c.count, (c, v) -> c.count = v, new ConfigClassDescriptor.PrimitiveAccessors<>() {
+            @Override
+            public int getInt(Object instance) {
+                return ((BenchmarkConfig) instance).count;
+            }
+
+            @Override
+            public void setInt(Object instance, int value) {
+                ((BenchmarkConfig) instance).count = value;
+            }
+        }), BenchmarkConfig.class, config);
+    }
+
+    @Benchmark
+    public String reflectionGet() {
+        return reflectionString.get();
+    }
+
+    @Benchmark
+    public String methodHandleGet() {
+        return methodHandleString.get();
+    }
+
+    @Benchmark
+    public String descriptorGet() {
+        return descriptorString.get();
+    }
+
+    @Benchmark
+    public void reflectionSet() {
+        reflectionString.set("value");
+    }
+
+    @Benchmark
+    public void methodHandleSet() {
+        methodHandleString.set("value");
+    }
+
+    @Benchmark
+    public void descriptorSet() {
+        descriptorString.set("value");
+    }
+
+    @Benchmark
+    public int reflectionGetInt() {
+        return reflectionInt.getInt();
+    }
+
+    @Benchmark
+    public int methodHandleGetInt() {
+        return methodHandleInt.getInt();
+    }
+
+    @Benchmark
+    public int descriptorGetInt() {
+        return descriptorInt.getInt();
+    }
+
+    @Benchmark
+    public void reflectionSetInt() {
+        reflectionInt.setInt(counter++);
+    }
+
+    @Benchmark
+    public void methodHandleSetInt() {
+        methodHandleInt.setInt(counter++);
+    }
+
+    @Benchmark
+    public void descriptorSetInt() {
+        descriptorInt.setInt(counter++);
+    }
+
+    private static <V> ConfigClassDescriptor.FieldDescriptor<Object, V> descriptor(String name, Class<V> type, Function<BenchmarkConfig, V> getter, BiConsumer<BenchmarkConfig, V> setter, @Nullable ConfigClassDescriptor.PrimitiveAccessors<Object> primitiveAccessors) {
+        return new ConfigClassDescriptor.FieldDescriptor<>(
+                name, type, type, null, null, null,
+                instance -> getter.apply((BenchmarkConfig) instance),
+                (instance, value) -> setter.accept((BenchmarkConfig) instance, value),
+                primitiveAccessors
+        );
+    }
+
+    public static class BenchmarkConfig {
+        public String name = "benchmark";
+        public int count = 42;
+    }
+}
@@ -0,0 +1,102 @@
+package dev.isxander.yacl3.config.v2.impl.serializer;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.GsonBuilder;
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.ConfigField;
+import dev.isxander.yacl3.config.v2.api.ConfigSerializer;
+import dev.isxander.yacl3.config.v2.api.FieldAccess;
+import dev.isxander.yacl3.config.v2.api.SerialEntry;
+import dev.isxander.yacl3.config.v2.api.serializer.GsonConfigSerializerBuilder;
+import dev.isxander.yacl3.config.v2.impl.ConfigFieldImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading a config by streaming each value straight into its type
+ * against the previous path, which read every value into a JSON tree first.
+ * <p>
+ * Run with {@code ./gradlew :common:jmh -PjmhArgs="GsonLoadBenchmark -prof gc"}
+ * to also compare how much each allocates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GsonLoadBenchmark {
+    @Param({"10", "1000", "10000"})
+    private int listSize;
+
+    private Path file;
+    private GsonConfigSerializer<BenchmarkConfig> serializer;
+    private Map<ConfigField<?>, FieldAccess<?>> buffer;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("yacl-benchmark", ".json");
+        // YACL's default adapters need a running game, and none of the fields need them
+        ConfigClassHandler<BenchmarkConfig> handler = ConfigClassHandler.createBuilder(BenchmarkConfig.class)
+                .serializer(config -> GsonConfigSerializerBuilder.create(config)
+                        .setPath(file)
+                        .overrideGsonBuilder(new GsonBuilder().setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES).serializeNulls())
+                        .build())
+                .build();
+
+        BenchmarkConfig config = handler.instance();
+        for (int i = 0; i < listSize; i++) {
+            config.names.add("entry_" + i);
+            config.values.add(i);
+            config.weights.add(i / 3.0);
+        }
+        handler.save();
+
+        serializer = (GsonConfigSerializer<BenchmarkConfig>) handler.serializer();
+        BenchmarkConfig target = new BenchmarkConfig();
+        buffer = new HashMap<>();
+        for (ConfigField<?> field : handler.fields()) {
+            buffer.put(field, ((ConfigFieldImpl<?>) field).access().withInstance(target));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public ConfigSerializer.LoadResult streaming() {
+        return serializer.load(buffer, true);
+    }
+
+    @Benchmark
+    public ConfigSerializer.LoadResult tree() {
+        return serializer.load(buffer, false);
+    }
+
+    public static class BenchmarkConfig {
+        @SerialEntry
+        public boolean enabled = true;
+        @SerialEntry
+        public int count = 42;
+        @SerialEntry
+        public double scale = 1.5;
+        @SerialEntry
+        public String title = "benchmark";
+        @SerialEntry
+        public List<String> names = new ArrayList<>();
+        @SerialEntry
+        public List<Integer> values = new ArrayList<>();
+        @SerialEntry
+        public List<Double> weights = new ArrayList<>();
+    }
+}
@@ -0,0 +1,48 @@
+package dev.isxander.yacl3.api;
+
+import dev.isxander.yacl3.impl.PrimitiveBindingImpl;
+import org.apache.commons.lang3.Validate;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
+
+/**
+ * A {@link Binding} to a {@code double}, which can be read and written without boxing.
+ * Options built with one are {@link DoubleOption}s.
+ */
+public interface DoubleBinding extends Binding<Double> {
+    double getDouble();
+
+    void setDouble(double value);
+
+    double defaultDouble();
+
+    @Override
+    default Double getValue() {
+        return getDouble();
+    }
+
+    @Override
+    default void setValue(Double value) {
+        setDouble(value);
+    }
+
+    @Override
+    default Double defaultValue() {
+        return defaultDouble();
+    }
+
+    /**
+     * Creates a generic binding to a {@code double}.
+     *
+     * @param def default value of the option, used to reset
+     * @param getter should return the current value of the option
+     * @param setter should set the option to the supplied value
+     */
+    static DoubleBinding generic(double def, DoubleSupplier getter, DoubleConsumer setter) {
+        Validate.notNull(getter, "`getter` must not be null");
+        Validate.notNull(setter, "`setter` must not be null");
+
+        return new PrimitiveBindingImpl.DoubleImpl(def, getter, setter);
+    }
+}
@@ -0,0 +1,55 @@
+package dev.isxander.yacl3.api;
+
+import dev.isxander.yacl3.impl.PrimitiveBindingImpl;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A {@link Binding} to a {@code float}, which can be read and written without boxing.
+ * Options built with one are {@link FloatOption}s.
+ */
+public interface FloatBinding extends Binding<Float> {
+    float getFloat();
+
+    void setFloat(float value);
+
+    float defaultFloat();
+
+    @Override
+    default Float getValue() {
+        return getFloat();
+    }
+
+    @Override
+    default void setValue(Float value) {
+        setFloat(value);
+    }
+
+    @Override
+    default Float defaultValue() {
+        return defaultFloat();
+    }
+
+    /**
+     * Creates a generic binding to a {@code float}.
+     *
+     * @param def default value of the option, used to reset
+     * @param getter should return the current value of the option
+     * @param setter should set the option to the supplied value
+     */
+    static FloatBinding generic(float def, Getter getter, Setter setter) {
+        Validate.notNull(getter, "`getter` must not be null");
+        Validate.notNull(setter, "`setter` must not be null");
+
+        return new PrimitiveBindingImpl.FloatImpl(def, getter, setter);
+    }
+
+    @FunctionalInterface
+    interface Getter {
+        float get();
+    }
+
+    @FunctionalInterface
+    interface Setter {
+        void set(float value);
+    }
+}
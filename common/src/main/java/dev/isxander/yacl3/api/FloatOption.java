@@ -0,0 +1,19 @@
+package dev.isxander.yacl3.api;
+
+/**
+ * An {@link Option} of a {@code float}, whose pending value can be read and set without boxing.
+ * Building an option with a {@link FloatBinding} creates one.
+ */
+public interface FloatOption extends Option<Float> {
+    /**
+     * Gets the pending value without boxing it.
+     */
+    float pendingFloat();
+
+    /**
+     * Sets the pending value. Unlike {@link Option#requestSet(Object)},
+     * listeners are not notified if the value is the same as the pending value,
+     * so setting it repeatedly, such as while dragging a slider, does not allocate.
+     */
+    void requestSetFloat(float value);
+}
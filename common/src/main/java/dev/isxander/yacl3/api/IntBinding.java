@@ -0,0 +1,48 @@
+package dev.isxander.yacl3.api;
+
+import dev.isxander.yacl3.impl.PrimitiveBindingImpl;
+import org.apache.commons.lang3.Validate;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+
+/**
+ * A {@link Binding} to a {@code int}, which can be read and written without boxing.
+ * Options built with one are {@link IntOption}s.
+ */
+public interface IntBinding extends Binding<Integer> {
+    int getInt();
+
+    void setInt(int value);
+
+    int defaultInt();
+
+    @Override
+    default Integer getValue() {
+        return getInt();
+    }
+
+    @Override
+    default void setValue(Integer value) {
+        setInt(value);
+    }
+
+    @Override
+    default Integer defaultValue() {
+        return defaultInt();
+    }
+
+    /**
+     * Creates a generic binding to a {@code int}.
+     *
+     * @param def default value of the option, used to reset
+     * @param getter should return the current value of the option
+     * @param setter should set the option to the supplied value
+     */
+    static IntBinding generic(int def, IntSupplier getter, IntConsumer setter) {
+        Validate.notNull(getter, "`getter` must not be null");
+        Validate.notNull(setter, "`setter` must not be null");
+
+        return new PrimitiveBindingImpl.IntImpl(def, getter, setter);
+    }
+}
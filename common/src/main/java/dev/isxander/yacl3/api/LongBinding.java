@@ -0,0 +1,48 @@
+package dev.isxander.yacl3.api;
+
+import dev.isxander.yacl3.impl.PrimitiveBindingImpl;
+import org.apache.commons.lang3.Validate;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link Binding} to a {@code long}, which can be read and written without boxing.
+ * Options built with one are {@link LongOption}s.
+ */
+public interface LongBinding extends Binding<Long> {
+    long getLong();
+
+    void setLong(long value);
+
+    long defaultLong();
+
+    @Override
+    default Long getValue() {
+        return getLong();
+    }
+
+    @Override
+    default void setValue(Long value) {
+        setLong(value);
+    }
+
+    @Override
+    default Long defaultValue() {
+        return defaultLong();
+    }
+
+    /**
+     * Creates a generic binding to a {@code long}.
+     *
+     * @param def default value of the option, used to reset
+     * @param getter should return the current value of the option
+     * @param setter should set the option to the supplied value
+     */
+    static LongBinding generic(long def, LongSupplier getter, LongConsumer setter) {
+        Validate.notNull(getter, "`getter` must not be null");
+        Validate.notNull(setter, "`setter` must not be null");
+
+        return new PrimitiveBindingImpl.LongImpl(def, getter, setter);
+    }
+}
@@ -2,6 +2,7 @@ package dev.isxander.yacl3.api;
 
 import com.google.common.collect.ImmutableSet;
 import dev.isxander.yacl3.api.controller.ControllerBuilder;
+import dev.isxander.yacl3.impl.OptionChangePropagator;
 import dev.isxander.yacl3.impl.OptionImpl;
 import net.minecraft.network.chat.Component;
 import org.jetbrains.annotations.NotNull;
@@ -106,6 +107,19 @@ public interface Option<T> {
      */
     void addListener(BiConsumer<Option<T>, T> changedListener);
 
+    /**
+     * Makes changes to any number of options, such as resetting all of them,
+     * holding back their listeners until every change is made.
+     * Each option that changed is then notified once, with its final pending value.
+     * <p>
+     * If called from a listener or from within another batch, the changes join that one instead.
+     *
+     * @param changes calls {@link Option#requestSet(Object)} and similar on the options to change
+     */
+    static void batch(@NotNull Runnable changes) {
+        OptionChangePropagator.batch(changes);
+    }
+
     static <T> Builder<T> createBuilder() {
         return new OptionImpl.BuilderImpl<>();
     }
@@ -159,6 +173,9 @@ public interface Option<T> {
         /**
          * Sets the binding for the option.
          * Used for default, getter and setter.
+         * <p>
+         * Bindings to primitives, such as {@link IntBinding}, build options that
+         * can be set without boxing, such as {@link IntOption}.
          *
          * @see Binding
          */
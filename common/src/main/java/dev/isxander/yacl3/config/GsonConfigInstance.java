@@ -1,6 +1,10 @@
 package dev.isxander.yacl3.config;
 
 import com.google.gson.*;
+import com.google.gson.annotations.SerializedName;
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.impl.ConfigClassHandlerImpl;
+import dev.isxander.yacl3.config.v2.impl.ConfigFieldImpl;
 import dev.isxander.yacl3.config.v2.impl.serializer.GsonConfigSerializer;
 import dev.isxander.yacl3.gui.utils.ItemRegistryHelper;
 import dev.isxander.yacl3.impl.utils.YACLConstants;
@@ -10,17 +14,20 @@ import net.minecraft.network.chat.Style;
 import net.minecraft.world.item.Item;
 
 import java.awt.*;
-import java.io.IOException;
+import java.lang.reflect.Field;
 import java.lang.reflect.Type;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 import java.util.function.UnaryOperator;
 
 /**
  * Uses GSON to serialize and deserialize config data from JSON to a file.
  * <p>
  * Only fields annotated with {@link ConfigEntry} are included in the JSON.
+ * The config runs on a config v2 {@link dev.isxander.yacl3.config.v2.api.ConfigClassHandler} behind the scenes,
+ * so it is streamed to and from the file field by field, and written atomically.
+ * Files written by older versions load as they did before. Files are read under JSON5 spec,
+ * so comments, unquoted names and single quoted strings are still accepted as GSON's lenient reading
+ * accepted them. {@code #} comments, unquoted string values and {@code =} between names and values are not.
  * {@link Component}, {@link Style} and {@link Color} have default type adapters, so there is no need to provide them in your GSON instance.
  * GSON is automatically configured to format fields as {@code lower_camel_case}.
  *
@@ -45,6 +52,7 @@ import java.util.function.UnaryOperator;
 public class GsonConfigInstance<T> extends ConfigInstance<T> {
     private final Gson gson;
     private final Path path;
+    private final ConfigClassHandlerImpl<T> handler;
 
     @Deprecated
     public GsonConfigInstance(Class<T> configClass, Path path) {
@@ -63,9 +71,7 @@ public class GsonConfigInstance<T> extends ConfigInstance<T> {
 
     @Deprecated
     public GsonConfigInstance(Class<T> configClass, Path path, GsonBuilder builder) {
-        super(configClass);
-        this.path = path;
-        this.gson = builder
+        this(configClass, path, builder
                 .setExclusionStrategies(new ConfigExclusionStrategy())
                 .registerTypeHierarchyAdapter(Component.class, new Component.SerializerAdapter())
                 .registerTypeHierarchyAdapter(Style.class, new GsonConfigSerializer.StyleTypeAdapter())
@@ -73,40 +79,79 @@ public class GsonConfigInstance<T> extends ConfigInstance<T> {
                 .registerTypeHierarchyAdapter(Item.class, new ItemTypeAdapter())
                 .serializeNulls()
                 .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
-                .create();
+                .create(), true);
     }
 
     private GsonConfigInstance(Class<T> configClass, Path path, Gson gson, boolean fromBuilder) {
         super(configClass);
         this.path = path;
         this.gson = gson;
+        this.handler = ConfigClassHandlerImpl.legacy(
+                configClass,
+                field -> serialName(gson, field),
+                config -> new GsonConfigSerializer.Builder<>(config)
+                        .setPath(path)
+                        .overrideGsonBuilder(gson)
+                        // GSON read the whole file leniently
+                        .setReadJson5(true)
+                        .build()
+        );
+    }
+
+    /**
+     * Names fields in the same way GSON did when it serialized the whole config object.
+     */
+    private static String serialName(Gson gson, Field field) {
+        SerializedName serializedName = field.getAnnotation(SerializedName.class);
+        if (serializedName != null) {
+            return serializedName.value();
+        }
+        return gson.fieldNamingStrategy().translateName(field);
     }
 
     @Override
     public void save() {
-        try {
-            YACLConstants.LOGGER.info("Saving {}...", getConfigClass().getSimpleName());
-            Files.writeString(path, gson.toJson(getConfig()), StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.CREATE);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        YACLConstants.LOGGER.info("Saving {}...", getConfigClass().getSimpleName());
+        handler.save();
     }
 
     @Override
     public void load() {
-        try {
-            if (Files.notExists(path)) {
-                save();
-                return;
-            }
-
-            YACLConstants.LOGGER.info("Loading {}...", getConfigClass().getSimpleName());
-            setConfig(gson.fromJson(Files.readString(path), getConfigClass()));
-        } catch (IOException e) {
-            e.printStackTrace();
+        YACLConstants.LOGGER.info("Loading {}...", getConfigClass().getSimpleName());
+        handler.load();
+    }
+
+    @Override
+    public T getConfig() {
+        return handler.instance();
+    }
+
+    @Override
+    protected void setConfig(T instance) {
+        for (ConfigFieldImpl<?> field : handler.fields()) {
+            setField(field, instance);
         }
     }
 
+    private static <U> void setField(ConfigFieldImpl<U> field, Object source) {
+        field.access().set(field.access().withInstance(source).get());
+    }
+
+    /**
+     * @return the frozen defaults of the config v2 handler, see {@link ConfigClassHandler#defaults()}
+     */
+    @Override
+    public T getDefaults() {
+        return handler.defaults();
+    }
+
+    /**
+     * @return the config v2 handler this config runs on
+     */
+    public ConfigClassHandler<T> getHandler() {
+        return this.handler;
+    }
+
     public Path getPath() {
         return this.path;
     }
@@ -0,0 +1,43 @@
+package dev.isxander.yacl3.config.v2.api;
+
+import java.util.List;
+
+/**
+ * Describes how a config class changed when it was loaded.
+ * Only fields with a {@link SerialEntry} are compared, as they are the only ones that are loaded.
+ *
+ * @param <T> the config class
+ */
+public interface ConfigChangeEvent<T> {
+    ConfigClassHandler<T> handler();
+
+    /**
+     * @return the instance that was replaced by the load
+     */
+    T oldInstance();
+
+    /**
+     * @return the instance that is now {@link ConfigClassHandler#instance()}
+     */
+    T newInstance();
+
+    /**
+     * @return the fields whose values changed, in declaration order.
+     *         A field holding a nested {@link SerialEntry} object is included if any of its fields changed.
+     */
+    List<ConfigField<?>> changedFields();
+
+    boolean hasChanged(ConfigField<?> field);
+
+    /**
+     * @param field a field of {@link #handler()}
+     * @return the value the field held before the load
+     */
+    <V> V oldValue(ConfigField<V> field);
+
+    /**
+     * @param field a field of {@link #handler()}
+     * @return the value the field holds after the load
+     */
+    <V> V newValue(ConfigField<V> field);
+}
@@ -0,0 +1,10 @@
+package dev.isxander.yacl3.config.v2.api;
+
+@FunctionalInterface
+public interface ConfigChangeListener<T> {
+    /**
+     * Called on the thread that loaded the config, after its instance has been replaced.
+     * This is not called if the load did not change any values.
+     */
+    void onChange(ConfigChangeEvent<T> event);
+}
@@ -0,0 +1,135 @@
+package dev.isxander.yacl3.config.v2.api;
+
+import dev.isxander.yacl3.config.v2.api.autogen.AutoGenField;
+import dev.isxander.yacl3.config.v2.impl.ConfigFieldImpl;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Static metadata of a config class, generated at compile time by the
+ * YACL annotation processor ({@code yet-another-config-lib-processor}).
+ * <p>
+ * When a descriptor is present, {@link ConfigClassHandler} uses it instead of
+ * discovering fields with reflection. The descriptor of {@code com.example.MyConfig}
+ * is {@code com.example.MyConfig_YACLDescriptor}, and the descriptor of a nested class
+ * {@code com.example.MyConfig.Inner} is {@code com.example.MyConfig_Inner_YACLDescriptor}.
+ *
+ * @param <T> the config class
+ */
+public interface ConfigClassDescriptor<T> {
+    /**
+     * The suffix appended to the config class name to get the descriptor class name.
+     */
+    String CLASS_SUFFIX = "_YACLDescriptor";
+
+    /**
+     * @return the config class this describes
+     */
+    Class<T> configClass();
+
+    /**
+     * @return all fields annotated with {@link SerialEntry} or {@link dev.isxander.yacl3.config.v2.api.autogen.AutoGen},
+     *         in declaration order
+     */
+    List<FieldDescriptor<T, ?>> fields();
+
+    static SerialField serial(String serialName, String comment, boolean required, boolean nullable) {
+        return serial(serialName, comment, required, nullable, false);
+    }
+
+    static SerialField serial(String serialName, String comment, boolean required, boolean nullable, boolean lazy) {
+        return new ConfigFieldImpl.SerialFieldImpl(serialName, "".equals(comment) ? Optional.empty() : Optional.of(comment), required, nullable, lazy);
+    }
+
+    static AutoGenField autoGen(String category, String group) {
+        return new ConfigFieldImpl.AutoGenFieldImpl(category, "".equals(group) ? Optional.empty() : Optional.of(group));
+    }
+
+    /**
+     * Describes a single field of a config class.
+     *
+     * @param name the name of the field in the class
+     * @param typeClass the erased type of the field
+     * @param type the generic type of the field
+     * @param serial the serial metadata, if annotated with {@link SerialEntry}
+     * @param autoGen the auto-gen metadata, if annotated with {@link dev.isxander.yacl3.config.v2.api.autogen.AutoGen}
+     * @param factoryAnnotation the option factory annotation on the field, if it could be determined at compile time
+     * @param getter reads the field directly, or null if the field cannot be accessed from the descriptor
+     * @param setter writes the field directly, or null if the field cannot be accessed from the descriptor
+     * @param primitiveAccessors reads and writes the field without boxing, or null if the field is not
+     *                           an {@code int}, {@code long}, {@code float}, {@code double} or {@code boolean}
+     *                           or cannot be accessed from the descriptor
+     * @param <T> the config class
+     * @param <V> the type of the field
+     */
+    record FieldDescriptor<T, V>(
+            String name,
+            Class<V> typeClass,
+            Type type,
+            @Nullable SerialField serial,
+            @Nullable AutoGenField autoGen,
+            @Nullable Class<? extends Annotation> factoryAnnotation,
+            @Nullable Function<T, V> getter,
+            @Nullable BiConsumer<T, V> setter,
+            @Nullable PrimitiveAccessors<T> primitiveAccessors
+    ) {
+        public FieldDescriptor(String name, Class<V> typeClass, Type type, @Nullable SerialField serial, @Nullable AutoGenField autoGen, @Nullable Class<? extends Annotation> factoryAnnotation, @Nullable Function<T, V> getter, @Nullable BiConsumer<T, V> setter) {
+            this(name, typeClass, type, serial, autoGen, factoryAnnotation, getter, setter, null);
+        }
+    }
+
+    /**
+     * Reads and writes a field of a primitive type directly, without boxing.
+     * The generated descriptor implements only the pair matching the field's type,
+     * the others throw {@link UnsupportedOperationException}.
+     *
+     * @param <T> the config class
+     */
+    interface PrimitiveAccessors<T> {
+        default int getInt(T instance) {
+            throw new UnsupportedOperationException("Field is not an int.");
+        }
+
+        default void setInt(T instance, int value) {
+            throw new UnsupportedOperationException("Field is not an int.");
+        }
+
+        default long getLong(T instance) {
+            throw new UnsupportedOperationException("Field is not a long.");
+        }
+
+        default void setLong(T instance, long value) {
+            throw new UnsupportedOperationException("Field is not a long.");
+        }
+
+        default float getFloat(T instance) {
+            throw new UnsupportedOperationException("Field is not a float.");
+        }
+
+        default void setFloat(T instance, float value) {
+            throw new UnsupportedOperationException("Field is not a float.");
+        }
+
+        default double getDouble(T instance) {
+            throw new UnsupportedOperationException("Field is not a double.");
+        }
+
+        default void setDouble(T instance, double value) {
+            throw new UnsupportedOperationException("Field is not a double.");
+        }
+
+        default boolean getBoolean(T instance) {
+            throw new UnsupportedOperationException("Field is not a boolean.");
+        }
+
+        default void setBoolean(T instance, boolean value) {
+            throw new UnsupportedOperationException("Field is not a boolean.");
+        }
+    }
+}
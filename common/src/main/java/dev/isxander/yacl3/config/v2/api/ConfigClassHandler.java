@@ -1,9 +1,12 @@
 package dev.isxander.yacl3.config.v2.api;
 
 import dev.isxander.yacl3.api.YetAnotherConfigLib;
+import dev.isxander.yacl3.config.v2.api.codec.ConfigCodecRegistry;
+import dev.isxander.yacl3.config.v2.api.migration.ConfigSchema;
 import dev.isxander.yacl3.config.v2.impl.ConfigClassHandlerImpl;
 import net.minecraft.resources.ResourceLocation;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 /**
@@ -15,13 +18,32 @@ public interface ConfigClassHandler<T> {
     /**
      * Gets the working instance of the config class.
      * This should be used to get and set fields like usual.
+     * <p>
+     * This is always the same object. Loads set its fields one at a time on the
+     * thread that owns the config, so other threads may see a load half-applied.
+     * Read {@link #snapshot()} instead when reading from any other thread.
      */
     T instance();
 
+    /**
+     * Gets a consistent, read-only snapshot of the config,
+     * safe to read from any thread without locking.
+     * This is a cheap read of the latest snapshot published by a load or save.
+     * By default, this copies the working instance on every call.
+     */
+    default ConfigSnapshot<T> snapshot() {
+        return ConfigSnapshot.copyOf(this);
+    }
+
     /**
      * Gets a second instance of the config class that
      * should be used to get default values only. No fields
      * should be modified in this instance.
+     * <p>
+     * The defaults are frozen when the handler is built: collections and maps held by its fields
+     * (and those of nested {@link SerialEntry} objects) are replaced with unmodifiable views wherever
+     * the declared type of the field allows it, and throw {@link UnsupportedOperationException} if modified.
+     * Arrays cannot be frozen, but must not be modified either. Copy a value before modifying it.
      */
     T defaults();
 
@@ -48,6 +70,24 @@ public interface ConfigClassHandler<T> {
      */
     ResourceLocation id();
 
+    /**
+     * The version history of this config class's serialized form,
+     * used to migrate files written by older versions of the config class.
+     * By default, this is {@link ConfigSchema#EMPTY}.
+     */
+    default ConfigSchema schema() {
+        return ConfigSchema.EMPTY;
+    }
+
+    /**
+     * The codecs used to convert fields to and from their format-neutral form,
+     * used by {@link ConfigDelta deltas}.
+     * By default, this is {@link ConfigCodecRegistry#create()}.
+     */
+    default ConfigCodecRegistry codecs() {
+        return ConfigCodecRegistry.create();
+    }
+
     /**
      * Auto-generates a GUI for this config class.
      * This throws an exception if auto-gen is not supported.
@@ -66,11 +106,72 @@ public interface ConfigClassHandler<T> {
      */
     boolean load();
 
+    /**
+     * Registers a listener notified of which fields changed
+     * whenever this config class is loaded.
+     * By default, listeners are ignored as nothing would notify them.
+     */
+    default void addChangeListener(ConfigChangeListener<T> listener) {
+    }
+
+    default void removeChangeListener(ConfigChangeListener<T> listener) {
+    }
+
+    /**
+     * By default, nothing is recorded and every counter is zero.
+     * @return the timings and counters of this config's loads and saves
+     */
+    default ConfigMetrics metrics() {
+        return ConfigMetrics.empty(this);
+    }
+
+    /**
+     * Exports the fields of the working instance which differ from {@link #defaults()}.
+     */
+    default ConfigDelta exportDelta() {
+        return exportDelta(defaults());
+    }
+
+    /**
+     * Exports the fields of the working instance which differ from the given baseline.
+     *
+     * @param baseline an instance of the config class to compare against
+     */
+    default ConfigDelta exportDelta(T baseline) {
+        return ConfigDelta.diff(this, baseline);
+    }
+
+    /**
+     * Applies a delta on top of the working instance. The delta is loaded into a copy of the instance,
+     * which replaces it just like a {@link #load()}, notifying change listeners and saving the config.
+     * Fields not in the delta are left as they are.
+     * By default, the fields of the copy are set back onto the working instance and the config is saved,
+     * without notifying change listeners.
+     *
+     * @return if the delta was applied successfully
+     */
+    default boolean applyDelta(ConfigDelta delta) {
+        return ConfigDelta.apply(this, delta);
+    }
+
     /**
      * Safely saves the config class using the provided serializer.
+     * The config has been written by the time this returns.
      */
     void save();
 
+    /**
+     * Serializes the config on the calling thread, then writes it on a background thread.
+     * Saves requested before the write runs are coalesced into a single write of the newest content.
+     * By default, this saves on the calling thread.
+     *
+     * @return a future completed once the config has been written
+     */
+    default CompletableFuture<Void> saveAsync() {
+        save();
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * The serializer for this config class.
      * Manages saving and loading of the config with fields
@@ -108,6 +209,29 @@ public interface ConfigClassHandler<T> {
          */
         Builder<T> serializer(Function<ConfigClassHandler<T>, ConfigSerializer<T>> serializerFactory);
 
+        /**
+         * The schema of the config class, describing how to migrate
+         * files written by older versions of it. By default, this is
+         * {@link ConfigSchema#EMPTY}.
+         * Builders that do not implement this throw {@link UnsupportedOperationException}.
+         *
+         * @return this builder
+         */
+        default Builder<T> schema(ConfigSchema schema) {
+            throw new UnsupportedOperationException("This builder does not support schemas.");
+        }
+
+        /**
+         * The codecs used to convert fields for {@link ConfigDelta deltas}.
+         * By default, this is {@link ConfigCodecRegistry#create()}.
+         * Builders that do not implement this throw {@link UnsupportedOperationException}.
+         *
+         * @return this builder
+         */
+        default Builder<T> codecs(ConfigCodecRegistry codecs) {
+            throw new UnsupportedOperationException("This builder does not support codecs.");
+        }
+
         ConfigClassHandler<T> build();
     }
 }
@@ -0,0 +1,84 @@
+package dev.isxander.yacl3.config.v2.api;
+
+import dev.isxander.yacl3.config.v2.impl.ConfigDeltaImpl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * The fields of a config which differ from a baseline, such as its defaults or another instance.
+ * <p>
+ * Values are held in the format-neutral form of the handler's {@link ConfigClassHandler#codecs() codecs},
+ * keyed by serial name. A nested {@link SerialEntry} object only holds its own fields which differ,
+ * so a delta is as small as the change it describes.
+ * <p>
+ * Deltas are written as JSON, one field at a time, which keeps them easy to review and diff.
+ * <pre>
+ * {@code
+ * // on the instance the change was made on
+ * try (Writer writer = Files.newBufferedWriter(deltaPath)) {
+ *     HANDLER.exportDelta().write(writer);
+ * }
+ *
+ * // on every other instance
+ * try (Reader reader = Files.newBufferedReader(deltaPath)) {
+ *     HANDLER.applyDelta(ConfigDelta.read(reader));
+ * }
+ * }
+ * </pre>
+ */
+public interface ConfigDelta {
+    /**
+     * A delta without any changes.
+     */
+    ConfigDelta EMPTY = of(Map.of());
+
+    /**
+     * @return the changed values, keyed by serial name
+     */
+    Map<String, Object> changes();
+
+    /**
+     * @return if the delta holds no changes
+     */
+    boolean isEmpty();
+
+    /**
+     * Writes this delta as JSON.
+     */
+    void write(Writer writer) throws IOException;
+
+    /**
+     * Reads a delta written by {@link #write(Writer)}.
+     */
+    static ConfigDelta read(Reader reader) throws IOException {
+        return ConfigDeltaImpl.read(reader);
+    }
+
+    /**
+     * @param changes the changed values in the form of the handler's codecs, keyed by serial name
+     */
+    static ConfigDelta of(Map<String, Object> changes) {
+        return new ConfigDeltaImpl(changes);
+    }
+
+    /**
+     * Finds the fields of the handler's working instance which differ from the baseline.
+     * This is what {@link ConfigClassHandler#exportDelta(Object)} does by default.
+     */
+    static <T> ConfigDelta diff(ConfigClassHandler<T> handler, T baseline) {
+        return ConfigDeltaImpl.diff(handler, baseline);
+    }
+
+    /**
+     * Applies the delta to the handler's working instance and saves it, without notifying change listeners.
+     * This is what {@link ConfigClassHandler#applyDelta(ConfigDelta)} does by default.
+     *
+     * @return if the delta was applied successfully
+     */
+    static <T> boolean apply(ConfigClassHandler<T> handler, ConfigDelta delta) {
+        return ConfigDeltaImpl.apply(handler, delta);
+    }
+}
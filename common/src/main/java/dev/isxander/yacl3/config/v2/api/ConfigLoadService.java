@@ -0,0 +1,75 @@
+package dev.isxander.yacl3.config.v2.api;
+
+import dev.isxander.yacl3.config.v2.impl.ConfigLoadServiceImpl;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Loads many config classes together, reading them in parallel on a bounded pool of worker threads.
+ * <p>
+ * Only reading each config into a new instance happens on the workers. The loaded instances
+ * replace the current ones on the thread that calls {@link #loadAll()}, in the order the
+ * config classes were registered, so errors are always reported in the same order.
+ * <pre>
+ * {@code
+ * ConfigLoadService.create()
+ *         .register(MyConfig.HANDLER)
+ *         .register(MyOtherConfig.HANDLER)
+ *         .loadAll();
+ * }
+ * </pre>
+ */
+public interface ConfigLoadService {
+    /**
+     * Creates a service that loads on a pool sized for the available processors.
+     */
+    static ConfigLoadService create() {
+        return new ConfigLoadServiceImpl(ConfigLoadServiceImpl.DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Creates a service that loads on at most the given number of worker threads.
+     */
+    static ConfigLoadService create(int parallelism) {
+        return new ConfigLoadServiceImpl(parallelism);
+    }
+
+    /**
+     * Registers a config class to be loaded by {@link #loadAll()}.
+     */
+    ConfigLoadService register(ConfigClassHandler<?> handler);
+
+    /**
+     * Loads every registered config class, blocking until all have loaded.
+     * The worker threads only live for the duration of this call.
+     *
+     * @return how each config class loaded, in the order they were registered
+     */
+    LoadReport loadAll();
+
+    /**
+     * @param entries the result of loading each config class, in the order they were registered
+     * @param totalTime the wall-clock time taken to load every config class
+     */
+    record LoadReport(List<Entry> entries, Duration totalTime) {
+        public boolean allSuccessful() {
+            return entries.stream().allMatch(Entry::success);
+        }
+
+        public List<Entry> failures() {
+            return entries.stream().filter(entry -> !entry.success()).toList();
+        }
+    }
+
+    /**
+     * @param handler the config class that was loaded
+     * @param success if the config class was loaded successfully
+     * @param readTime the time taken to read the config into a new instance, on a worker thread
+     * @param applyTime the time taken to replace the current instance, on the calling thread
+     * @param error the error that caused the load to fail, if any
+     */
+    record Entry(ConfigClassHandler<?> handler, boolean success, Duration readTime, Duration applyTime, @Nullable Throwable error) {
+    }
+}
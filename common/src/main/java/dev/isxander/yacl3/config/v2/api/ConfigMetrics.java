@@ -0,0 +1,101 @@
+package dev.isxander.yacl3.config.v2.api;
+
+import dev.isxander.yacl3.config.v2.impl.ConfigMetricsImpl;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Timings and counters of the loads and saves of one config, to find which configs are slow.
+ * <pre>
+ * {@code
+ * ConfigMetrics.all().stream()
+ *         .sorted(Comparator.comparingLong(ConfigMetrics::loadNanos).reversed())
+ *         .limit(10)
+ *         .forEach(metrics -> LOGGER.info("{} spent {} ms loading", metrics.name(), metrics.loadNanos() / 1_000_000));
+ * }
+ * </pre>
+ * Every load and save is also recorded as a {@code dev.isxander.yacl3.ConfigIO} event
+ * when Java Flight Recorder is available, so slow configs show up in profiling captures.
+ */
+public interface ConfigMetrics {
+    /**
+     * @return the id of the handler, if it has one
+     */
+    @Nullable ResourceLocation id();
+
+    Class<?> configClass();
+
+    /**
+     * @return the id of the handler, or the name of the config class if it has none
+     */
+    String name();
+
+    /**
+     * @return how many serial fields the config has, including those of nested objects
+     */
+    int fieldCount();
+
+    long loadCount();
+
+    /**
+     * @return the total time spent loading, in nanoseconds
+     */
+    long loadNanos();
+
+    /**
+     * @return the total size of the files loaded, in bytes
+     */
+    long bytesRead();
+
+    long loadFailures();
+
+    /**
+     * @return how many loads needed the config to be saved again straight away,
+     *         such as after a migration or when fields were missing
+     */
+    long dirtyResaves();
+
+    /**
+     * @return how many saves were run, including those that were skipped as nothing changed
+     */
+    long saveCount();
+
+    /**
+     * @return the total time spent saving, in nanoseconds
+     */
+    long saveNanos();
+
+    /**
+     * @return the total size of the files written, in bytes
+     */
+    long bytesWritten();
+
+    long saveFailures();
+
+    /**
+     * @see ConfigSerializer#skippedWriteCount()
+     */
+    long skippedWrites();
+
+    /**
+     * @return the metrics of every config handler that is still in use
+     */
+    static List<ConfigMetrics> all() {
+        return ConfigMetricsImpl.all();
+    }
+
+    /**
+     * Metrics with every counter at zero, which are not listed in {@link #all()}.
+     * This is what {@link ConfigClassHandler#metrics()} returns by default.
+     */
+    static ConfigMetrics empty(ConfigClassHandler<?> handler) {
+        return ConfigMetricsImpl.empty(handler);
+    }
+
+    static Optional<ConfigMetrics> find(ResourceLocation id) {
+        return all().stream().filter(metrics -> id.equals(metrics.id())).findFirst();
+    }
+}
@@ -1,6 +1,19 @@
 package dev.isxander.yacl3.config.v2.api;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The base class for config serializers,
@@ -10,6 +23,13 @@ import java.util.Map;
 public abstract class ConfigSerializer<T> {
     protected final ConfigClassHandler<T> config;
 
+    private final AtomicLong writeCount = new AtomicLong();
+    private final AtomicLong skippedWriteCount = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicLong bytesRead = new AtomicLong();
+    private volatile PersistedContent persistedContent;
+    private volatile int loadedSchemaVersion;
+
     public ConfigSerializer(ConfigClassHandler<T> config) {
         this.config = config;
     }
@@ -21,6 +41,19 @@ public abstract class ConfigSerializer<T> {
      */
     public abstract void save();
 
+    /**
+     * Serializes all fields in the config class on the calling thread, without writing them yet.
+     * The returned write no longer reads the config instance, so it can be performed on any thread.
+     * By default, this saves straight away on the calling thread, as {@link #save()} gives no way
+     * to separate the two.
+     *
+     * @return the write of the serialized config, to be run at most once
+     */
+    public Runnable prepareSave() {
+        this.save();
+        return () -> {};
+    }
+
     /**
      * Loads all fields into the config class.
      * @param bufferAccessMap a map of the field accesses. instead of directly setting the field with
@@ -43,6 +76,185 @@ public abstract class ConfigSerializer<T> {
         throw new IllegalArgumentException("load() is deprecated, use loadSafely() instead.");
     }
 
+    /**
+     * @return the file this serializer saves to and loads from, if it uses one
+     */
+    public Optional<Path> filePath() {
+        return Optional.empty();
+    }
+
+    /**
+     * Checks if the file holds exactly the content that this serializer last
+     * wrote to or loaded from it. This tells edits made outside the game apart
+     * from this serializer's own writes.
+     */
+    public boolean isUnchangedOnDisk(Path path) {
+        PersistedContent persisted = this.persistedContent;
+        if (persisted == null) {
+            return false;
+        }
+
+        MessageDigest digest = newContentDigest();
+        try (InputStream input = new DigestInputStream(Files.newInputStream(path), digest)) {
+            input.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            return false;
+        }
+        return persisted.matches(path, digest.digest());
+    }
+
+    /**
+     * @return how many times this serializer has written the config to disk
+     */
+    public long writeCount() {
+        return writeCount.get();
+    }
+
+    /**
+     * @return how many saves were skipped because the serialized config
+     *         was identical to what was last persisted
+     */
+    public long skippedWriteCount() {
+        return skippedWriteCount.get();
+    }
+
+    /**
+     * @return the total size of the files this serializer has written
+     */
+    public long bytesWritten() {
+        return bytesWritten.get();
+    }
+
+    /**
+     * @return the total size of the files this serializer has loaded
+     */
+    public long bytesRead() {
+        return bytesRead.get();
+    }
+
+    /**
+     * Checks if serialized content needs to be written to the file.
+     * Content is only skipped if it hashes the same as the content last
+     * written or loaded, and the file has not been modified since.
+     *
+     * @param path the file the content would be written to
+     * @param contentHash the hash of the serialized content, from {@link #newContentDigest()}
+     * @return false if the write can be skipped
+     */
+    protected final boolean shouldWrite(Path path, byte[] contentHash) {
+        PersistedContent persisted = this.persistedContent;
+        if (persisted != null && persisted.matches(path, contentHash)) {
+            skippedWriteCount.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records that the content with the given hash has just been written to the file.
+     */
+    protected final void markWritten(Path path, byte[] contentHash) {
+        writeCount.incrementAndGet();
+        PersistedContent persisted = PersistedContent.of(path, contentHash);
+        if (persisted != null) {
+            bytesWritten.addAndGet(persisted.size());
+        }
+        this.persistedContent = persisted;
+    }
+
+    /**
+     * Records that the content with the given hash has just been read from the file.
+     */
+    protected final void markLoaded(Path path, byte[] contentHash) {
+        PersistedContent persisted = PersistedContent.of(path, contentHash);
+        if (persisted != null) {
+            bytesRead.addAndGet(persisted.size());
+        }
+        this.persistedContent = persisted;
+    }
+
+    /**
+     * Records that the content with the given hash has just been read from the file
+     * on behalf of another serializer. This is used by serializers wrapping another
+     * which load the config without the wrapped serializer reading the file.
+     */
+    protected static void markLoaded(ConfigSerializer<?> serializer, Path path, byte[] contentHash) {
+        serializer.markLoaded(path, contentHash);
+    }
+
+    /**
+     * Gets the hash of the content the given serializer last wrote to or loaded from the file, if the
+     * file has not been modified since. Unlike {@link #isUnchangedOnDisk(Path)}, this trusts the file's
+     * size and modification time rather than reading it again.
+     */
+    protected static Optional<byte[]> persistedHash(ConfigSerializer<?> serializer, Path path) {
+        PersistedContent persisted = serializer.persistedContent;
+        if (persisted == null || !persisted.matches(path, persisted.hash())) {
+            return Optional.empty();
+        }
+        return Optional.of(persisted.hash().clone());
+    }
+
+    /**
+     * Records the schema version of the file that was just loaded, or 0 if it had none.
+     */
+    protected final void markSchemaVersion(int version) {
+        this.loadedSchemaVersion = version;
+    }
+
+    /**
+     * Checks if the file last loaded was written under a newer schema version than the config has.
+     * Saving over such a file would stamp it with the older version and drop anything the older
+     * version does not know of, so serializers should refuse to.
+     */
+    protected final boolean isNewerSchemaLoaded() {
+        return loadedSchemaVersion > config.schema().version();
+    }
+
+    /**
+     * Checks {@link #isNewerSchemaLoaded()} of another serializer, such as one being wrapped.
+     */
+    protected static boolean isNewerSchemaLoaded(ConfigSerializer<?> serializer) {
+        return serializer.isNewerSchemaLoaded();
+    }
+
+    /**
+     * @return a new digest used to hash serialized content
+     */
+    protected static MessageDigest newContentDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record PersistedContent(Path path, byte[] hash, FileTime lastModified, long size) {
+        private static PersistedContent of(Path path, byte[] hash) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return new PersistedContent(path, hash, attributes.lastModifiedTime(), attributes.size());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        private boolean matches(Path path, byte[] hash) {
+            if (!this.path.equals(path) || !Arrays.equals(this.hash, hash)) {
+                return false;
+            }
+
+            // the file may have been edited or replaced outside the game
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return attributes.lastModifiedTime().equals(lastModified) && attributes.size() == size;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
+
     public enum LoadResult {
         /**
          * Indicates that the config was loaded successfully and the temporary object should be applied.
@@ -0,0 +1,40 @@
+package dev.isxander.yacl3.config.v2.api;
+
+import dev.isxander.yacl3.config.v2.impl.ConfigSnapshotImpl;
+
+/**
+ * A consistent, read-only view of a config class, safe to read from any thread without locking.
+ * <p>
+ * A new snapshot is published whenever the config is loaded or saved, so edits made to
+ * {@link ConfigClassHandler#instance()} through the GUI become visible once they are saved.
+ * Holding onto a snapshot guarantees every value read from it came from the same publication.
+ *
+ * @param <T> the config class
+ */
+public interface ConfigSnapshot<T> {
+    /**
+     * A copy of the config instance taken when this snapshot was published.
+     * Only fields known to the handler are copied. YACL never modifies this
+     * copy after publication, and neither should you.
+     */
+    T instance();
+
+    /**
+     * @param field a field of the config class
+     * @return the value of the field in this snapshot
+     */
+    <V> V get(ConfigField<V> field);
+
+    /**
+     * @return a number that increases with every snapshot published by a handler
+     */
+    long version();
+
+    /**
+     * Copies the handler's working instance into a new snapshot of version 0.
+     * This is what {@link ConfigClassHandler#snapshot()} does by default.
+     */
+    static <T> ConfigSnapshot<T> copyOf(ConfigClassHandler<T> handler) {
+        return ConfigSnapshotImpl.copyOf(handler, handler.instance(), 0);
+    }
+}
@@ -0,0 +1,74 @@
+package dev.isxander.yacl3.config.v2.api;
+
+import dev.isxander.yacl3.config.v2.impl.ConfigWatcherImpl;
+import dev.isxander.yacl3.platform.YACLPlatform;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Watches config files for edits made outside the game, reloading
+ * only the config class whose file changed.
+ * <p>
+ * Bursts of file system events, like those from an editor saving a file,
+ * are debounced into a single reload. Writes made by YACL itself are recognised
+ * and never trigger a reload. Files are watched in their directory, which is
+ * usually {@link YACLPlatform#getConfigDir()}.
+ * <p>
+ * The file is read on the watcher's own thread, but the loaded config
+ * replaces the current one on the executor given to {@link #create(Executor)}.
+ * <pre>
+ * {@code
+ * ConfigWatcher watcher = ConfigWatcher.create(Minecraft.getInstance())
+ *         .watch(MyConfig.HANDLER, (handler, changedFields) -> rebuildCaches(changedFields));
+ * }
+ * </pre>
+ */
+public interface ConfigWatcher extends AutoCloseable {
+    /**
+     * Creates a watcher that replaces loaded configs on its own thread.
+     */
+    static ConfigWatcher create() {
+        return new ConfigWatcherImpl(Runnable::run);
+    }
+
+    /**
+     * Creates a watcher that replaces loaded configs on the given executor.
+     * This should usually be the game thread that reads the config.
+     */
+    static ConfigWatcher create(Executor applyExecutor) {
+        return new ConfigWatcherImpl(applyExecutor);
+    }
+
+    /**
+     * Reloads the config class whenever the file its serializer uses is edited.
+     * The serializer must report its file with {@link ConfigSerializer#filePath()}.
+     */
+    default <T> ConfigWatcher watch(ConfigClassHandler<T> handler) {
+        return watch(handler, (h, changedFields) -> {});
+    }
+
+    /**
+     * Reloads the config class whenever the file its serializer uses is edited,
+     * then notifies the listener of which fields changed.
+     * The serializer must report its file with {@link ConfigSerializer#filePath()}.
+     */
+    <T> ConfigWatcher watch(ConfigClassHandler<T> handler, ReloadListener<T> listener);
+
+    /**
+     * Stops watching all files.
+     */
+    @Override
+    void close();
+
+    @FunctionalInterface
+    interface ReloadListener<T> {
+        /**
+         * Called on the apply executor after the config has been reloaded.
+         * This is not called if no serialized value actually changed.
+         *
+         * @param changedFields the fields whose values changed, in declaration order
+         */
+        void onReload(ConfigClassHandler<T> handler, List<ConfigField<?>> changedFields);
+    }
+}
@@ -36,4 +36,15 @@ public @interface SerialEntry {
      * Whether the field can be null.
      */
     boolean nullable() default false;
+
+    /**
+     * Whether the field should only be deserialized when it is first used.
+     * This is intended for large lists that are rarely used, and is only supported
+     * for fields declared as {@link java.util.List}, {@link java.util.Collection}
+     * or {@link Iterable}. Other fields are always loaded straight away.
+     * <p>
+     * The field holds a list that deserializes its contents the first time
+     * any of them are read, so it can be used like any other list.
+     */
+    boolean lazy() default false;
 }
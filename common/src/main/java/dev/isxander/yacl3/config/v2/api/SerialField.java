@@ -13,4 +13,11 @@ public interface SerialField {
     boolean required();
 
     boolean nullable();
+
+    /**
+     * @see SerialEntry#lazy()
+     */
+    default boolean lazy() {
+        return false;
+    }
 }
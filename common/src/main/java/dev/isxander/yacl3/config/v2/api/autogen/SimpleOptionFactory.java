@@ -26,7 +26,7 @@ public abstract class SimpleOptionFactory<A extends Annotation, T> implements Op
         Option<T> option = Option.<T>createBuilder()
                 .name(this.name(annotation, field, optionAccess))
                 .description(v -> this.description(v, annotation, field, optionAccess).build())
-                .binding(new FieldBackedBinding<>(field.access(), field.defaultAccess()))
+                .binding(FieldBackedBinding.of(field.access(), field.defaultAccess()))
                 .controller(opt -> {
                     ControllerBuilder<T> builder = this.createController(annotation, field, optionAccess, opt);
 
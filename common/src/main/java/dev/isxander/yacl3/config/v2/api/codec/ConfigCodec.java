@@ -0,0 +1,55 @@
+package dev.isxander.yacl3.config.v2.api.codec;
+
+import java.util.function.Function;
+
+/**
+ * Converts the values of a config field's type to and from a format-neutral form,
+ * which any codec based serializer can write, such as
+ * {@link dev.isxander.yacl3.config.v2.api.serializer.TomlConfigSerializerBuilder TOML} or
+ * {@link dev.isxander.yacl3.config.v2.api.serializer.BinaryConfigSerializerBuilder binary}.
+ * <p>
+ * The neutral form of a value may only be made up of {@link Boolean booleans}, {@link Long longs},
+ * {@link Double doubles}, {@link String strings}, {@link java.util.List lists} of these,
+ * and {@link java.util.Map maps} from strings to these. Lists and maps may hold {@code null},
+ * but not every format can store it.
+ * <p>
+ * Decoders should accept any {@link Number} where a number is expected, and throw
+ * an exception if the value cannot be decoded, which leaves the field as its default.
+ *
+ * @param <T> the type of value
+ */
+public interface ConfigCodec<T> {
+    /**
+     * @param value the value to encode, never null
+     * @return the neutral form of the value
+     */
+    Object encode(T value);
+
+    /**
+     * @param value the neutral form of a value, never null
+     * @return the decoded value
+     */
+    T decode(Object value);
+
+    /**
+     * Creates a codec converting this codec's values to and from another type.
+     */
+    default <U> ConfigCodec<U> xmap(Function<? super T, ? extends U> to, Function<? super U, ? extends T> from) {
+        ConfigCodec<T> parent = this;
+        return of(value -> parent.encode(from.apply(value)), value -> to.apply(parent.decode(value)));
+    }
+
+    static <T> ConfigCodec<T> of(Function<? super T, ?> encoder, Function<Object, ? extends T> decoder) {
+        return new ConfigCodec<>() {
+            @Override
+            public Object encode(T value) {
+                return encoder.apply(value);
+            }
+
+            @Override
+            public T decode(Object value) {
+                return decoder.apply(value);
+            }
+        };
+    }
+}
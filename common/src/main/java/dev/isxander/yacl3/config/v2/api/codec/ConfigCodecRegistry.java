@@ -0,0 +1,70 @@
+package dev.isxander.yacl3.config.v2.api.codec;
+
+import dev.isxander.yacl3.config.v2.impl.codec.ConfigCodecRegistryImpl;
+
+import java.lang.reflect.Type;
+import java.util.Optional;
+
+/**
+ * Looks up the {@link ConfigCodec} for a field's type.
+ * <p>
+ * A registry from {@link #create()} already has codecs for primitives and their boxes, strings, enums,
+ * {@link java.awt.Color}, {@link net.minecraft.world.item.Item}, {@link net.minecraft.network.chat.Component},
+ * {@link net.minecraft.network.chat.Style}, arrays, lists, sets and maps with string keys of any of these.
+ * Nested {@link dev.isxander.yacl3.config.v2.api.SerialEntry} objects are handled by the serializer itself.
+ * <p>
+ * Codecs registered later take priority over those registered earlier, so any default can be replaced.
+ * <pre>
+ * {@code
+ * TomlConfigSerializerBuilder.create(config)
+ *         .appendCodecs(codecs -> codecs.register(UUID.class, ConfigCodec.of(UUID::toString, value -> UUID.fromString((String) value))))
+ * }
+ * </pre>
+ */
+public interface ConfigCodecRegistry {
+    /**
+     * @return a new registry holding YACL's default codecs
+     */
+    static ConfigCodecRegistry create() {
+        return ConfigCodecRegistryImpl.createDefault();
+    }
+
+    /**
+     * @return a new registry without any codecs
+     */
+    static ConfigCodecRegistry empty() {
+        return new ConfigCodecRegistryImpl();
+    }
+
+    /**
+     * Registers a codec for exactly the given type.
+     * For primitives, the boxed type must be registered separately.
+     */
+    <T> ConfigCodecRegistry register(Class<T> type, ConfigCodec<T> codec);
+
+    /**
+     * Registers a codec for the given type and all of its subtypes.
+     */
+    <T> ConfigCodecRegistry registerHierarchy(Class<T> type, ConfigCodec<T> codec);
+
+    /**
+     * Registers a factory which can create codecs for whole families of types,
+     * such as generic containers.
+     */
+    ConfigCodecRegistry registerFactory(Factory factory);
+
+    /**
+     * @return the codec for the given type, or empty if there is none
+     */
+    Optional<ConfigCodec<?>> find(Type type);
+
+    @FunctionalInterface
+    interface Factory {
+        /**
+         * @param type the type a codec is needed for
+         * @param registry the registry to look up the codecs of any type arguments with
+         * @return a codec for the type, or empty if this factory cannot create one
+         */
+        Optional<ConfigCodec<?>> create(Type type, ConfigCodecRegistry registry);
+    }
+}
@@ -0,0 +1,62 @@
+package dev.isxander.yacl3.config.v2.api.migration;
+
+import dev.isxander.yacl3.config.v2.impl.migration.ConfigSchemaImpl;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The version history of a config class's serialized form, and how to migrate between versions.
+ * <p>
+ * Every {@link #builder() step} bumps the schema version by one, and describes how fields serialized
+ * under the previous version map onto the next. Files written before the config class used a schema
+ * are version 0. When a file of an older version is loaded, the steps between its version and the
+ * current one are applied to each value as it is read, and the file is then re-saved at the
+ * current version.
+ * <pre>
+ * {@code
+ * ConfigSchema.builder()
+ *         // version 0 -> 1
+ *         .step(step -> step.rename("enable_thing", "thing_enabled"))
+ *         // version 1 -> 2
+ *         .step(step -> step
+ *                 .retype("volume", value -> new JsonPrimitive(value.getAsInt() / 100f))
+ *                 .merge(List.of("width", "height"), "size", values -> ...))
+ *         .build();
+ * }
+ * </pre>
+ */
+public interface ConfigSchema {
+    /**
+     * The key holding the schema version in serialized configs.
+     */
+    String VERSION_KEY = "$version";
+
+    /**
+     * A schema at version 0, with no migrations.
+     */
+    ConfigSchema EMPTY = builder().build();
+
+    static Builder builder() {
+        return new ConfigSchemaImpl.BuilderImpl();
+    }
+
+    /**
+     * @return the current schema version, which is the number of steps
+     */
+    int version();
+
+    /**
+     * @return each step, where the step at index {@code i} migrates version {@code i} to {@code i + 1}
+     */
+    List<MigrationStep> steps();
+
+    interface Builder {
+        /**
+         * Adds a step migrating from the current latest version to a new version.
+         */
+        Builder step(Consumer<MigrationStep.Builder> step);
+
+        ConfigSchema build();
+    }
+}
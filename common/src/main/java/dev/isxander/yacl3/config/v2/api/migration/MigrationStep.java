@@ -0,0 +1,63 @@
+package dev.isxander.yacl3.config.v2.api.migration;
+
+import com.google.gson.JsonElement;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Migrates the top-level values of a serialized config from one schema version to the next.
+ * Names are serial names, as written in the file. Each name may only be used by one
+ * operation per step, and names not used by any operation pass through unchanged.
+ */
+public interface MigrationStep {
+    /**
+     * @return the serial names this step reads, each mapped to the operation reading it
+     */
+    Map<String, Operation> operations();
+
+    sealed interface Operation {
+    }
+
+    record Rename(String from, String to) implements Operation {
+    }
+
+    record Retype(String name, UnaryOperator<JsonElement> converter) implements Operation {
+    }
+
+    /**
+     * @param into each new name mapped to the function deriving its value from the old value
+     */
+    record Split(String from, Map<String, Function<JsonElement, JsonElement>> into) implements Operation {
+    }
+
+    /**
+     * @param merger receives the old values by name. Any that were missing from the file are absent.
+     */
+    record Merge(List<String> from, String into, Function<Map<String, JsonElement>, JsonElement> merger) implements Operation {
+    }
+
+    interface Builder {
+        /**
+         * Moves a value to a new name, without reading it.
+         */
+        Builder rename(String from, String to);
+
+        /**
+         * Converts a value to the form expected by the next version, keeping its name.
+         */
+        Builder retype(String name, UnaryOperator<JsonElement> converter);
+
+        /**
+         * Derives several new values from one old value.
+         */
+        Builder split(String from, Map<String, Function<JsonElement, JsonElement>> into);
+
+        /**
+         * Combines several old values into one new value.
+         */
+        Builder merge(List<String> from, String into, Function<Map<String, JsonElement>, JsonElement> merger);
+    }
+}
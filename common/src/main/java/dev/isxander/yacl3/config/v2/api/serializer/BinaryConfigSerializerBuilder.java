@@ -0,0 +1,47 @@
+package dev.isxander.yacl3.config.v2.api.serializer;
+
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.ConfigSerializer;
+import dev.isxander.yacl3.config.v2.api.SerialEntry;
+import dev.isxander.yacl3.config.v2.api.codec.ConfigCodecRegistry;
+import dev.isxander.yacl3.config.v2.impl.serializer.BinaryConfigSerializer;
+
+import java.nio.file.Path;
+import java.util.function.UnaryOperator;
+
+/**
+ * Serializes config data to a compact binary file, with each field converted by a {@link dev.isxander.yacl3.config.v2.api.codec.ConfigCodec}.
+ * <p>
+ * Only fields annotated with {@link SerialEntry} are included. Fields are stored by name,
+ * so fields can be added, removed and reordered, and {@link dev.isxander.yacl3.config.v2.api.migration.ConfigSchema migrations}
+ * apply just as they do to other formats. The file is not meant to be edited by hand, so comments are not written.
+ * <p>
+ * Unlike {@link BinarySnapshotSerializerBuilder}, the binary file is the only copy of the config.
+ *
+ * @param <T> config data type
+ */
+public interface BinaryConfigSerializerBuilder<T> {
+    static <T> BinaryConfigSerializerBuilder<T> create(ConfigClassHandler<T> config) {
+        return new BinaryConfigSerializer.Builder<>(config);
+    }
+
+    /**
+     * Sets the file path to save and load the config from.
+     */
+    BinaryConfigSerializerBuilder<T> setPath(Path path);
+
+    /**
+     * Sets the codecs used to convert fields, replacing the {@link ConfigCodecRegistry#create() defaults}.
+     */
+    BinaryConfigSerializerBuilder<T> overrideCodecs(ConfigCodecRegistry codecs);
+
+    /**
+     * Adds to the codecs used to convert fields.
+     * This is the intended way to support types without a default codec.
+     *
+     * @param codecs the function to apply to the registry
+     */
+    BinaryConfigSerializerBuilder<T> appendCodecs(UnaryOperator<ConfigCodecRegistry> codecs);
+
+    ConfigSerializer<T> build();
+}
@@ -0,0 +1,51 @@
+package dev.isxander.yacl3.config.v2.api.serializer;
+
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.ConfigSerializer;
+import dev.isxander.yacl3.config.v2.impl.serializer.BinarySnapshotSerializer;
+
+import java.nio.file.Path;
+
+/**
+ * Wraps another serializer, keeping a compact binary snapshot of the config next to its file.
+ * <p>
+ * Whilst the file has the same modification time, size and hash as when the snapshot was taken,
+ * and the config class has not changed shape, the config is loaded from the snapshot
+ * instead of being parsed by the wrapped serializer. Otherwise, the wrapped serializer
+ * loads the file as normal and the snapshot is retaken. The file remains the source of truth,
+ * saving is always done by the wrapped serializer.
+ * <p>
+ * Only configs whose fields are primitives, strings, enums, {@link java.awt.Color colors},
+ * lists of these, or nested {@link dev.isxander.yacl3.config.v2.api.SerialEntry} objects can be snapshotted.
+ * Any other config is always loaded by the wrapped serializer.
+ * <pre>
+ * {@code
+ * .serializer(config -> BinarySnapshotSerializerBuilder.create(config, GsonConfigSerializerBuilder.create(config)
+ *                 .setPath(path)
+ *                 .build())
+ *         .setSourcePath(path)
+ *         .build())
+ * }
+ * </pre>
+ *
+ * @param <T> config data type
+ */
+public interface BinarySnapshotSerializerBuilder<T> {
+    static <T> BinarySnapshotSerializerBuilder<T> create(ConfigClassHandler<T> config, ConfigSerializer<T> delegate) {
+        return new BinarySnapshotSerializer.Builder<>(config, delegate);
+    }
+
+    /**
+     * Sets the file the wrapped serializer saves to and loads from.
+     * The snapshot is only used whilst this file is unchanged.
+     */
+    BinarySnapshotSerializerBuilder<T> setSourcePath(Path path);
+
+    /**
+     * Sets where the snapshot is stored.
+     * By default, this is next to the source file, with {@code .snapshot} appended to its name.
+     */
+    BinarySnapshotSerializerBuilder<T> setSnapshotPath(Path path);
+
+    ConfigSerializer<T> build();
+}
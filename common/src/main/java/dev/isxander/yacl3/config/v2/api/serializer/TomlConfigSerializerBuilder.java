@@ -0,0 +1,48 @@
+package dev.isxander.yacl3.config.v2.api.serializer;
+
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.ConfigSerializer;
+import dev.isxander.yacl3.config.v2.api.SerialEntry;
+import dev.isxander.yacl3.config.v2.api.codec.ConfigCodecRegistry;
+import dev.isxander.yacl3.config.v2.impl.serializer.TomlConfigSerializer;
+
+import java.nio.file.Path;
+import java.util.function.UnaryOperator;
+
+/**
+ * Serializes config data to a TOML file, with each field converted by a {@link dev.isxander.yacl3.config.v2.api.codec.ConfigCodec}.
+ * <p>
+ * Only fields annotated with {@link SerialEntry} are included, and {@link SerialEntry#comment()} is written
+ * as a comment above the field. Nested {@link SerialEntry} objects are written as tables.
+ * <p>
+ * TOML has no null, so null fields are left out of the file. A {@link SerialEntry#nullable() nullable}
+ * field that is missing from the file is loaded as null.
+ *
+ * @param <T> config data type
+ */
+public interface TomlConfigSerializerBuilder<T> {
+    static <T> TomlConfigSerializerBuilder<T> create(ConfigClassHandler<T> config) {
+        return new TomlConfigSerializer.Builder<>(config);
+    }
+
+    /**
+     * Sets the file path to save and load the config from.
+     * It's recommended to use the file extension {@code .toml}.
+     */
+    TomlConfigSerializerBuilder<T> setPath(Path path);
+
+    /**
+     * Sets the codecs used to convert fields, replacing the {@link ConfigCodecRegistry#create() defaults}.
+     */
+    TomlConfigSerializerBuilder<T> overrideCodecs(ConfigCodecRegistry codecs);
+
+    /**
+     * Adds to the codecs used to convert fields.
+     * This is the intended way to support types without a default codec.
+     *
+     * @param codecs the function to apply to the registry
+     */
+    TomlConfigSerializerBuilder<T> appendCodecs(UnaryOperator<ConfigCodecRegistry> codecs);
+
+    ConfigSerializer<T> build();
+}
@@ -0,0 +1,56 @@
+package dev.isxander.yacl3.config.v2.api.sync;
+
+import dev.isxander.yacl3.config.v2.api.ConfigChangeListener;
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.ConfigSnapshot;
+import dev.isxander.yacl3.config.v2.impl.sync.ConfigSyncClientImpl;
+
+/**
+ * Applies the payloads sent by a {@link ConfigSyncServer} on the client.
+ * <p>
+ * Synced values are kept apart from the handler, so its instance and file keep the client's own values
+ * and saving the handler never writes the server's. Read the values in effect through {@link #snapshot()},
+ * which falls back to those of the handler whilst nothing is synced.
+ *
+ * @param <T> the config class, which must have the same serial fields as that of the server
+ */
+public interface ConfigSyncClient<T> {
+    ConfigClassHandler<T> handler();
+
+    /**
+     * @return the values synced from the server, or the {@link ConfigClassHandler#snapshot() snapshot}
+     *         of the handler if the whole config has not been received
+     */
+    ConfigSnapshot<T> snapshot();
+
+    /**
+     * Applies a payload from the server, notifying the listeners of this client.
+     * This should be called on the thread that owns the config.
+     *
+     * @return if the payload was applied
+     */
+    boolean receive(byte[] payload);
+
+    /**
+     * Forgets the values synced from the server, so {@link #snapshot()} returns the handler's own again.
+     * This should be called when leaving the server.
+     */
+    void disconnect();
+
+    /**
+     * @return if the whole config has been received, so {@link #snapshot()} mirrors the server
+     */
+    boolean isSynced();
+
+    /**
+     * Registers a listener notified of which fields changed whenever the values
+     * returned by {@link #snapshot()} change, by a sync or a disconnect.
+     */
+    void addChangeListener(ConfigChangeListener<T> listener);
+
+    void removeChangeListener(ConfigChangeListener<T> listener);
+
+    static <T> ConfigSyncClient<T> create(ConfigClassHandler<T> handler) {
+        return new ConfigSyncClientImpl<>(handler);
+    }
+}
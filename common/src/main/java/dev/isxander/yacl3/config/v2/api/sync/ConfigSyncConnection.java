@@ -0,0 +1,24 @@
+package dev.isxander.yacl3.config.v2.api.sync;
+
+/**
+ * Carries sync payloads from a {@link ConfigSyncServer} to one client.
+ * <p>
+ * YACL does not register any packets itself, so this is usually a lambda sending the payload
+ * in a custom packet through the networking API of the mod loader. The connection must deliver
+ * payloads reliably and in order, as every Minecraft connection does.
+ */
+@FunctionalInterface
+public interface ConfigSyncConnection {
+    /**
+     * Sends a payload to be passed to {@link ConfigSyncClient#receive(byte[])} on the other side.
+     * The same array is sent to every connection, so it must not be modified.
+     */
+    void send(byte[] payload);
+
+    /**
+     * Delivers payloads straight to a client in the same process, for testing sync without a network.
+     */
+    static ConfigSyncConnection loopback(ConfigSyncClient<?> client) {
+        return client::receive;
+    }
+}
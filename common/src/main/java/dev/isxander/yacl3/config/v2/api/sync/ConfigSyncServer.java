@@ -0,0 +1,48 @@
+package dev.isxander.yacl3.config.v2.api.sync;
+
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.impl.sync.ConfigSyncServerImpl;
+
+/**
+ * Mirrors a config to connected clients.
+ * <p>
+ * A client is sent the whole config when it {@link #connect(ConfigSyncConnection) connects},
+ * as a compact binary payload. After that, it is only sent the fields which changed,
+ * batched into one payload per {@link #tick()} that is shared by every client.
+ * <p>
+ * Changes are picked up from each {@link ConfigClassHandler#snapshot() snapshot} published
+ * by a load or save of the handler.
+ * <pre>
+ * {@code
+ * ConfigSyncServer<MyConfig> sync = ConfigSyncServer.create(MyConfig.HANDLER);
+ *
+ * // when a player joins
+ * sync.connect(payload -> sendMyConfigPacket(player, payload));
+ *
+ * // at the end of every server tick
+ * sync.tick();
+ * }
+ * </pre>
+ *
+ * @param <T> the config class
+ */
+public interface ConfigSyncServer<T> {
+    ConfigClassHandler<T> handler();
+
+    /**
+     * Starts syncing to a client, sending it the whole config straight away.
+     */
+    void connect(ConfigSyncConnection connection);
+
+    void disconnect(ConfigSyncConnection connection);
+
+    /**
+     * Sends the fields which changed since the last tick to every connected client, if any did.
+     * This should be called once per server tick.
+     */
+    void tick();
+
+    static <T> ConfigSyncServer<T> create(ConfigClassHandler<T> handler) {
+        return new ConfigSyncServerImpl<>(handler);
+    }
+}
@@ -0,0 +1,24 @@
+package dev.isxander.yacl3.config.v2.impl;
+
+import dev.isxander.yacl3.config.v2.api.ConfigChangeEvent;
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.ConfigField;
+
+import java.util.List;
+
+public record ConfigChangeEventImpl<T>(ConfigClassHandler<T> handler, T oldInstance, T newInstance, List<ConfigField<?>> changedFields) implements ConfigChangeEvent<T> {
+    @Override
+    public boolean hasChanged(ConfigField<?> field) {
+        return changedFields.contains(field);
+    }
+
+    @Override
+    public <V> V oldValue(ConfigField<V> field) {
+        return ((ConfigFieldImpl<V>) field).access().withInstance(oldInstance).get();
+    }
+
+    @Override
+    public <V> V newValue(ConfigField<V> field) {
+        return ((ConfigFieldImpl<V>) field).access().withInstance(newInstance).get();
+    }
+}
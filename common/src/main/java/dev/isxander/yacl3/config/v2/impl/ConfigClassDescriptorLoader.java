@@ -0,0 +1,42 @@
+package dev.isxander.yacl3.config.v2.impl;
+
+import dev.isxander.yacl3.config.v2.api.ConfigClassDescriptor;
+import dev.isxander.yacl3.impl.utils.YACLConstants;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Optional;
+
+@ApiStatus.Internal
+public final class ConfigClassDescriptorLoader {
+    /**
+     * Finds the descriptor generated for a config class by the annotation processor.
+     *
+     * @return the descriptor, or empty if the class was not processed
+     */
+    public static <T> Optional<ConfigClassDescriptor<T>> find(Class<T> configClass) {
+        String name = configClass.getName();
+        int packageEnd = name.lastIndexOf('.');
+        String descriptorName = name.substring(0, packageEnd + 1)
+                + name.substring(packageEnd + 1).replace('$', '_')
+                + ConfigClassDescriptor.CLASS_SUFFIX;
+
+        Class<?> descriptorClass;
+        try {
+            descriptorClass = Class.forName(descriptorName, true, configClass.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        }
+
+        try {
+            ConfigClassDescriptor<T> descriptor = (ConfigClassDescriptor<T>) descriptorClass.getDeclaredConstructor().newInstance();
+            if (descriptor.configClass() != configClass) {
+                YACLConstants.LOGGER.warn("Config descriptor '{}' does not describe '{}'. Falling back to reflection.", descriptorName, name);
+                return Optional.empty();
+            }
+            return Optional.of(descriptor);
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            YACLConstants.LOGGER.warn("Failed to load config descriptor '{}'. Falling back to reflection.", descriptorName, e);
+            return Optional.empty();
+        }
+    }
+}
@@ -5,36 +5,71 @@ import dev.isxander.yacl3.config.ConfigEntry;
 import dev.isxander.yacl3.config.v2.api.*;
 import dev.isxander.yacl3.config.v2.api.autogen.AutoGen;
 import dev.isxander.yacl3.config.v2.api.autogen.OptionAccess;
+import dev.isxander.yacl3.config.v2.api.codec.ConfigCodecRegistry;
+import dev.isxander.yacl3.config.v2.api.migration.ConfigSchema;
 import dev.isxander.yacl3.config.v2.impl.autogen.OptionFactoryRegistry;
 import dev.isxander.yacl3.config.v2.impl.autogen.OptionAccessImpl;
 import dev.isxander.yacl3.config.v2.impl.autogen.YACLAutoGenException;
+import dev.isxander.yacl3.config.v2.impl.codec.ConfigTreeCodec;
 import dev.isxander.yacl3.impl.utils.YACLConstants;
 import dev.isxander.yacl3.platform.YACLPlatform;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class ConfigClassHandlerImpl<T> implements ConfigClassHandler<T> {
     private final Class<T> configClass;
     private final ResourceLocation id;
+    private final ConfigSchema schema;
+    private final ConfigCodecRegistry codecs;
+    private final ConfigTreeCodec deltaCodec;
     private final boolean supportsAutoGen;
     private final ConfigSerializer<T> serializer;
     private final ConfigFieldImpl<?>[] fields;
     private final Map<Class, ConfigFieldImpl<?>[]> subClasses = new HashMap<>();
+    private final ConfigSaveQueue saveQueue = new ConfigSaveQueue();
+    private final ConfigMetricsImpl metrics;
+    private final List<ConfigChangeListener<T>> changeListeners = new CopyOnWriteArrayList<>();
 
-    private T instance;
+    private final T instance;
+    private final AtomicReference<ConfigSnapshot<T>> snapshot = new AtomicReference<>();
+    private long snapshotVersion;
     private final T defaults;
     private final Constructor<T> noArgsConstructor;
+    private final @Nullable Function<Field, String> legacySerialNames;
 
     public ConfigClassHandlerImpl(Class<T> configClass, ResourceLocation id, Function<ConfigClassHandler<T>, ConfigSerializer<T>> serializerFactory) {
+        this(configClass, id, ConfigSchema.EMPTY, serializerFactory);
+    }
+
+    public ConfigClassHandlerImpl(Class<T> configClass, ResourceLocation id, ConfigSchema schema, Function<ConfigClassHandler<T>, ConfigSerializer<T>> serializerFactory) {
+        this(configClass, id, schema, ConfigCodecRegistry.create(), serializerFactory);
+    }
+
+    public ConfigClassHandlerImpl(Class<T> configClass, ResourceLocation id, ConfigSchema schema, ConfigCodecRegistry codecs, Function<ConfigClassHandler<T>, ConfigSerializer<T>> serializerFactory) {
+        this(configClass, id, schema, codecs, serializerFactory, null);
+    }
+
+    private ConfigClassHandlerImpl(Class<T> configClass, ResourceLocation id, ConfigSchema schema, ConfigCodecRegistry codecs, Function<ConfigClassHandler<T>, ConfigSerializer<T>> serializerFactory, @Nullable Function<Field, String> legacySerialNames) {
         this.configClass = configClass;
+        this.legacySerialNames = legacySerialNames;
         this.id = id;
+        this.schema = schema;
+        this.codecs = codecs;
+        // deltas are written as JSON, which can hold null
+        this.deltaCodec = new ConfigTreeCodec(this, codecs, false);
         this.supportsAutoGen = id != null && YACLPlatform.getEnvironment().isClient();
 
         try {
@@ -45,29 +80,95 @@ public class ConfigClassHandlerImpl<T> implements ConfigClassHandler<T> {
         this.instance = createNewObject();
         this.defaults = createNewObject();
 
-        detectOldAnnotation(configClass.getDeclaredFields());
+        if (legacySerialNames != null) {
+            this.fields = numbered(legacyFields(configClass, instance(), defaults).toArray(ConfigFieldImpl[]::new));
+        } else {
+            Optional<ConfigClassDescriptor<T>> descriptor = ConfigClassDescriptorLoader.find(configClass);
+            if (descriptor.isEmpty()) {
+                // the annotation processor already checks this at compile time
+                detectOldAnnotation(configClass.getDeclaredFields());
+            }
 
-        this.fields = discoverFields(configClass, instance, defaults)
+            this.fields = discoverFields(configClass, descriptor, instance(), defaults);
+        }
+        // the defaults are shared by every snapshot and load, so nothing may modify them
+        ConfigSnapshotImpl.freeze(this, fields, defaults);
         this.serializer = serializerFactory.apply(this);
+        this.metrics = new ConfigMetricsImpl(this);
+        publishSnapshot(instance());
     }
 
-    private ConfigFieldImpl<?>[] discoverFields(Class<?> clazz, Object instance, Object defaults) {
-        return Arrays.stream(clazz.getDeclaredFields())
-                .peek(field -> field.setAccessible(true))
-                .filter(field -> field.isAnnotationPresent(SerialEntry.class) || field.isAnnotationPresent(AutoGen.class))
-                .map(field -> new ConfigFieldImpl<>(
-                        new ReflectionFieldAccess<>(field, instance),
-                        new ReflectionFieldAccess<>(field, defaults),
-                        this,
-                        field.getAnnotation(SerialEntry.class),
-                        field.getAnnotation(AutoGen.class)
-                ))
+    private <U> ConfigFieldImpl<?>[] discoverFields(Class<U> clazz, Optional<ConfigClassDescriptor<U>> descriptor, Object instance, Object defaults) {
+        Stream<ConfigFieldImpl<?>> fields = descriptor.isPresent()
+                ? describedFields(descriptor.get(), instance, defaults)
+                : reflectFields(clazz, instance, defaults);
+
+        return numbered(fields
                 .peek(field -> {
                     if (field.defaultAccess().typeClass().isAnnotationPresent(SerialEntry.class)) {
-                        registerSubclass(field.defaultAccess().typeClass(), field.access().get(), field.defaultAccess().get());
+                        // loads update nested objects in place, so accesses bound to them stay current
+                        Object nestedDefaults = field.defaultAccess().get();
+                        Object nested = field.access().get() != null ? field.access().get() : nestedDefaults;
+                        registerSubclass(field.defaultAccess().typeClass(), nested, nestedDefaults);
                     }
                 })
-                .toArray(ConfigFieldImpl[]::new);
+                .toArray(ConfigFieldImpl[]::new));
+    }
+
+    private static ConfigFieldImpl<?>[] numbered(ConfigFieldImpl<?>[] fields) {
+        for (int i = 0; i < fields.length; i++) {
+            fields[i].ordinal(i);
+        }
+        return fields;
+    }
+
+    private Stream<ConfigFieldImpl<?>> describedFields(ConfigClassDescriptor<?> descriptor, Object instance, Object defaults) {
+        return descriptor.fields().stream()
+                .map(fieldDescriptor -> {
+                    InstanceFieldAccess<Object> access = DescriptorFieldAccess.of((ConfigClassDescriptor.FieldDescriptor<Object, Object>) fieldDescriptor, descriptor.configClass(), instance);
+                    return new ConfigFieldImpl<>(
+                            access,
+                            access.withInstance(defaults),
+                            this,
+                            fieldDescriptor.serial(),
+                            fieldDescriptor.autoGen(),
+                            fieldDescriptor.factoryAnnotation()
+                    );
+                });
+    }
+
+    private Stream<ConfigFieldImpl<?>> reflectFields(Class<?> clazz, Object instance, Object defaults) {
+        return Arrays.stream(clazz.getDeclaredFields())
+                .peek(field -> field.setAccessible(true))
+                .filter(field -> field.isAnnotationPresent(SerialEntry.class) || field.isAnnotationPresent(AutoGen.class))
+                .map(field -> {
+                    InstanceFieldAccess<Object> access = InstanceFieldAccess.of(field, instance);
+                    return new ConfigFieldImpl<>(
+                            access,
+                            access.withInstance(defaults),
+                            this,
+                            field.getAnnotation(SerialEntry.class),
+                            field.getAnnotation(AutoGen.class)
+                    );
+                });
+    }
+
+    /**
+     * Finds the fields of a deprecated {@link ConfigEntry} class, including those it inherits, as GSON would.
+     * Nested objects are left to GSON entirely, so only top-level fields are discovered.
+     */
+    private Stream<ConfigFieldImpl<?>> legacyFields(Class<?> clazz, Object instance, Object defaults) {
+        return Stream.<Class<?>>iterate(clazz, type -> type != null && type != Object.class, Class::getSuperclass)
+                .flatMap(type -> Arrays.stream(type.getDeclaredFields()))
+                .filter(field -> field.isAnnotationPresent(ConfigEntry.class))
+                .filter(field -> !Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()))
+                .peek(field -> field.setAccessible(true))
+                .map(field -> {
+                    InstanceFieldAccess<Object> access = InstanceFieldAccess.of(field, instance);
+                    // GSON happily read and wrote nulls, so legacy configs may well contain them
+                    SerialField serial = new ConfigFieldImpl.SerialFieldImpl(legacySerialNames.apply(field), Optional.empty(), true, true, false);
+                    return new ConfigFieldImpl<>(access, access.withInstance(defaults), this, serial, null, null);
+                });
     }
 
     @Override
@@ -75,6 +176,18 @@ public class ConfigClassHandlerImpl<T> implements ConfigClassHandler<T> {
         return this.instance;
     }
 
+    @Override
+    public ConfigSnapshot<T> snapshot() {
+        return this.snapshot.getAcquire();
+    }
+
+    /**
+     * Publishes a copy of the given instance for {@link #snapshot()} readers.
+     */
+    private synchronized void publishSnapshot(T instance) {
+        this.snapshot.setRelease(ConfigSnapshotImpl.sharedCopyOf(this, instance, this.snapshot.getAcquire(), ++snapshotVersion));
+    }
+
     @Override
     public T defaults() {
         return this.defaults;
@@ -93,10 +206,14 @@ public class ConfigClassHandlerImpl<T> implements ConfigClassHandler<T> {
     @Override
     public void registerSubclass(Class<?> subclass, Object instance, Object defaults) {
         if (!subClasses.containsKey(subclass) && subclass.isAnnotationPresent(SerialEntry.class)) {
-            subClasses.put(subclass, discoverFields(subclass, instance, defaults));
+            subClasses.put(subclass, discoverSubclassFields(subclass, instance, defaults));
         }
     }
 
+    private <U> ConfigFieldImpl<?>[] discoverSubclassFields(Class<U> subclass, Object instance, Object defaults) {
+        return discoverFields(subclass, ConfigClassDescriptorLoader.find(subclass), instance, defaults);
+    }
+
     @Override
     public boolean hasSubclass(Class<?> subclass) {
         return subClasses.containsKey(subclass);
@@ -107,6 +224,16 @@ public class ConfigClassHandlerImpl<T> implements ConfigClassHandler<T> {
         return subClasses.get(subclass);
     }
 
+    @Override
+    public ConfigSchema schema() {
+        return this.schema;
+    }
+
+    @Override
+    public ConfigCodecRegistry codecs() {
+        return this.codecs;
+    }
+
     @Override
     public ResourceLocation id() {
         return this.id;
@@ -163,7 +290,8 @@ public class ConfigClassHandlerImpl<T> implements ConfigClassHandler<T> {
         categories.values().forEach(CategoryAndGroups::finaliseGroups);
 
         YetAnotherConfigLib.Builder yaclBuilder = YetAnotherConfigLib.createBuilder()
-                .save(this.serializer()::save)
+                // the screen closes straight after saving, so the write shouldn't hold it up
+                .save(this::saveAsync)
                 .title(Component.translatable("yacl3.config.%s.title".formatted(this.id().toString())));
         categories.values().forEach(category -> yaclBuilder.category(category.category().build()));
 
@@ -171,7 +299,7 @@ public class ConfigClassHandlerImpl<T> implements ConfigClassHandler<T> {
     }
 
     private <U> Option<U> createOption(ConfigField<U> configField, OptionAccess storage) {
-        return OptionFactoryRegistry.createOption(((ReflectionFieldAccess<?>) configField.access()).field(), configField, storage)
+        return OptionFactoryRegistry.createOption(((InstanceFieldAccess<?>) configField.access()).field(), configField, storage)
                 .orElseThrow(() -> new YACLAutoGenException("Failed to create option for field %s".formatted(configField.access().name())));
     }
 
@@ -182,42 +310,115 @@ public class ConfigClassHandlerImpl<T> implements ConfigClassHandler<T> {
 
     @Override
     public boolean load() {
-        // create a new instance to load into
-        T newInstance = createNewObject();
-
-        // create field accesses for the new object
-        Map<ConfigFieldImpl<?>, ReflectionFieldAccess<?>> accessBufferImpl = Arrays.stream(fields())
-                .map(field -> new AbstractMap.SimpleImmutableEntry<>(
-                        field,
-                        new ReflectionFieldAccess<>(field.access().field(), newInstance)
-                ))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-        // convert the map into API safe field accesses
-        Map<ConfigField<?>, FieldAccess<?>> accessBuffer = accessBufferImpl.entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        return applyLoad(loadIntoBuffer());
+    }
+
+    /**
+     * Loads the config into a buffer without touching the current instance.
+     * This is safe to call from any thread, allowing many configs to be
+     * loaded in parallel before each is published with {@link #applyLoad(BufferedLoad)}.
+     * Only the fields the file holds are stored, the rest read as the defaults.
+     */
+    public BufferedLoad<T> loadIntoBuffer() {
+        // a queued write would otherwise overwrite what is about to be loaded
+        saveQueue.flush();
+
+        ConfigLoadBuffer<T> buffer = new ConfigLoadBuffer<>(this, defaults);
+        Map<ConfigField<?>, FieldAccess<?>> accessBuffer = buffer.accesses();
 
         // attempt to load the config
         ConfigSerializer.LoadResult loadResult = ConfigSerializer.LoadResult.FAILURE;
         Throwable error = null;
+        long bytesRead = serializer.bytesRead();
+        ConfigMetricsImpl.Operation operation = metrics.begin();
         try {
             loadResult = this.serializer().loadSafely(accessBuffer);
         } catch (Throwable e) {
             // handle any errors later in the loadResult switch case
             error = e;
         }
+        metrics.recordLoad(operation, loadResult, serializer.bytesRead() - bytesRead);
+
+        return new BufferedLoad<>(buffer, true, loadResult, error);
+    }
+
+    @Override
+    public ConfigDelta exportDelta() {
+        return exportDelta(defaults);
+    }
+
+    @Override
+    public ConfigDelta exportDelta(T baseline) {
+        try {
+            return ConfigDeltaImpl.diff(this, deltaCodec, baseline, instance());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to export delta of config class '%s'.".formatted(configClass.getSimpleName()), e);
+        }
+    }
+
+    @Override
+    public boolean applyDelta(ConfigDelta delta) {
+        return applyLoad(applyDeltaIntoBuffer(delta));
+    }
+
+    /**
+     * Applies a delta to a buffer over the current instance, without touching it.
+     * Like {@link #loadIntoBuffer()}, this can be called from any thread before publishing
+     * with {@link #applyLoad(BufferedLoad)}, which also saves the result.
+     */
+    public BufferedLoad<T> applyDeltaIntoBuffer(ConfigDelta delta) {
+        return applyDeltaIntoBuffer(instance(), delta);
+    }
+
+    /**
+     * Applies a delta to a buffer over the given instance of the config class, which need not be the current one.
+     * The given instance is left untouched, fields the delta does not change read as their value on it.
+     */
+    public BufferedLoad<T> applyDeltaIntoBuffer(T base, ConfigDelta delta) {
+        ConfigLoadBuffer<T> buffer = new ConfigLoadBuffer<>(this, base);
+        if (delta.isEmpty()) {
+            return new BufferedLoad<>(buffer, false, ConfigSerializer.LoadResult.NO_CHANGE, null);
+        }
+
+        try {
+            ConfigTreeCodec.ObjectDecoder decoder = deltaCodec.decoder(fields(), buffer.accesses()::get, "", true);
+            decoder.decodeAll(delta.changes());
+            decoder.finish();
+        } catch (Throwable e) {
+            return new BufferedLoad<>(buffer, false, ConfigSerializer.LoadResult.FAILURE, e);
+        }
+
+        // the file no longer matches the instance, so it must be saved straight away
+        return new BufferedLoad<>(buffer, false, ConfigSerializer.LoadResult.DIRTY, null);
+    }
 
-        switch (loadResult) {
+    /**
+     * Publishes a load made by {@link #loadIntoBuffer()}, setting the fields it holds on the current instance if it was successful.
+     * This should be called on the thread that owns the config.
+     *
+     * @return if the config was loaded successfully
+     */
+    public boolean applyLoad(BufferedLoad<T> load) {
+        switch (load.result()) {
             case DIRTY:
             case SUCCESS:
-                // replace the instance with the newly created one
-                this.instance = newInstance;
-                for (ConfigFieldImpl<?> field : fields()) {
-                    // update the field accesses to point to the correct object
-                    ((ConfigFieldImpl<Object>) field).setFieldAccess((ReflectionFieldAccess<Object>) accessBufferImpl.get(field));
+                // the instance is updated in place, so listeners are given a copy of it from beforehand as the old instance
+                T oldInstance = null;
+                if (!changeListeners.isEmpty()) {
+                    publishSnapshot(instance());
+                    oldInstance = snapshot().instance();
+                }
+
+                load.buffer().applyTo(instance(), load.resetUnwritten());
+                publishSnapshot(instance());
+
+                if (oldInstance != null) {
+                    notifyChangeListeners(oldInstance, instance());
                 }
 
-                if (loadResult == ConfigSerializer.LoadResult.DIRTY) {
+                if (load.result() == ConfigSerializer.LoadResult.DIRTY) {
                     // if the load result is dirty, we need to save the config again
+                    metrics.recordDirtyResave();
                     this.save();
                 }
             case NO_CHANGE:
@@ -225,16 +426,106 @@ public class ConfigClassHandlerImpl<T> implements ConfigClassHandler<T> {
             case FAILURE:
                 YACLConstants.LOGGER.error(
                         "Unsuccessful load of config class '{}'. The load will be abandoned and config remains unchanged.",
-                        configClass.getSimpleName(), error
+                        configClass.getSimpleName(), load.error()
                 );
         }
 
         return false;
     }
 
+    private void notifyChangeListeners(T oldInstance, T newInstance) {
+        // diffing every field is only worth it if someone is listening
+        if (changeListeners.isEmpty()) {
+            return;
+        }
+
+        List<ConfigField<?>> changedFields = ConfigDiff.changedFields(this, oldInstance, newInstance);
+        if (changedFields.isEmpty()) {
+            return;
+        }
+
+        ConfigChangeEvent<T> event = new ConfigChangeEventImpl<>(this, oldInstance, newInstance, List.copyOf(changedFields));
+        for (ConfigChangeListener<T> listener : changeListeners) {
+            try {
+                listener.onChange(event);
+            } catch (Exception e) {
+                YACLConstants.LOGGER.error("Config change listener of '{}' threw an exception.", configClass.getSimpleName(), e);
+            }
+        }
+    }
+
+    @Override
+    public ConfigMetrics metrics() {
+        return this.metrics;
+    }
+
+    @Override
+    public void addChangeListener(ConfigChangeListener<T> listener) {
+        changeListeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(ConfigChangeListener<T> listener) {
+        changeListeners.remove(listener);
+    }
+
     @Override
     public void save() {
-        serializer().save();
+        // anything edited since the last publication is now visible to snapshot readers
+        publishSnapshot(instance());
+        // replacing any write queued by saveAsync means its older content can't land after this
+        saveQueue.schedule(prepareSave());
+        saveQueue.flush();
+    }
+
+    @Override
+    public CompletableFuture<Void> saveAsync() {
+        publishSnapshot(instance());
+        return saveQueue.schedule(prepareSave());
+    }
+
+    /**
+     * Serializes the config on the calling thread, returning the write of the
+     * serialized content, which no longer reads the instance and may run on any thread.
+     */
+    private Runnable prepareSave() {
+        long writes = serializer.writeCount();
+        long skippedWrites = serializer.skippedWriteCount();
+        long bytesWritten = serializer.bytesWritten();
+
+        long startNanos = System.nanoTime();
+        Runnable write;
+        try {
+            write = serializer.prepareSave();
+        } catch (RuntimeException e) {
+            metrics.recordSave(metrics.begin(System.nanoTime() - startNanos), ConfigMetricsImpl.SaveResult.FAILURE, 0);
+            throw e;
+        }
+        long serializeNanos = System.nanoTime() - startNanos;
+
+        return ConfigSaveQueue.Write.of(() -> {
+            // time spent waiting in the queue is not part of the save
+            ConfigMetricsImpl.Operation operation = metrics.begin(serializeNanos);
+            try {
+                write.run();
+            } catch (RuntimeException e) {
+                metrics.recordSave(operation, ConfigMetricsImpl.SaveResult.FAILURE, 0);
+                throw e;
+            }
+
+            // serializers log and swallow their own errors, so a failure is a save that neither wrote nor skipped
+            ConfigMetricsImpl.SaveResult result;
+            if (serializer.writeCount() != writes) {
+                result = ConfigMetricsImpl.SaveResult.WRITTEN;
+            } else if (serializer.skippedWriteCount() != skippedWrites) {
+                result = ConfigMetricsImpl.SaveResult.SKIPPED;
+            } else if (serializer.filePath().isPresent()) {
+                result = ConfigMetricsImpl.SaveResult.FAILURE;
+            } else {
+                result = ConfigMetricsImpl.SaveResult.UNKNOWN;
+            }
+            metrics.recordSave(operation, result, serializer.bytesWritten() - bytesWritten);
+        }, () -> ConfigSaveQueue.Write.discard(write));
     }
 
     private T createNewObject() {
@@ -252,10 +543,31 @@ public class ConfigClassHandlerImpl<T> implements ConfigClassHandler<T> {
         Validate.isTrue(!hasOldConfigEntry, "At least one field in %s is still annotated with the deprecated @ConfigEntry annotation. This is incorrect. Use @SerialEntry.".formatted(configClass.getName()));
     }
 
+    /**
+     * Creates a handler for a config class still annotated with the deprecated {@link ConfigEntry},
+     * so that {@link dev.isxander.yacl3.config.ConfigInstance} implementations can run on config v2.
+     *
+     * @param serialNames names each field in the file, matching how the config was written before
+     */
+    @Deprecated
+    public static <T> ConfigClassHandlerImpl<T> legacy(Class<T> configClass, Function<Field, String> serialNames, Function<ConfigClassHandler<T>, ConfigSerializer<T>> serializerFactory) {
+        return new ConfigClassHandlerImpl<>(configClass, null, ConfigSchema.EMPTY, ConfigCodecRegistry.create(), serializerFactory, serialNames);
+    }
+
+    /**
+     * A config loaded into a buffer that has not yet been applied to the current instance.
+     *
+     * @param resetUnwritten if fields the buffer does not hold are set back to the defaults when applied
+     */
+    public record BufferedLoad<T>(ConfigLoadBuffer<T> buffer, boolean resetUnwritten, ConfigSerializer.LoadResult result, Throwable error) {
+    }
+
     public static class BuilderImpl<T> implements Builder<T> {
         private final Class<T> configClass;
         private ResourceLocation id;
         private Function<ConfigClassHandler<T>, ConfigSerializer<T>> serializerFactory;
+        private ConfigSchema schema = ConfigSchema.EMPTY;
+        private ConfigCodecRegistry codecs;
 
         public BuilderImpl(Class<T> configClass) {
             this.configClass = configClass;
@@ -273,12 +585,26 @@ public class ConfigClassHandlerImpl<T> implements ConfigClassHandler<T> {
             return this;
         }
 
+        @Override
+        public Builder<T> schema(ConfigSchema schema) {
+            this.schema = schema;
+            return this;
+        }
+
+        @Override
+        public Builder<T> codecs(ConfigCodecRegistry codecs) {
+            this.codecs = codecs;
+            return this;
+        }
+
         @Override
         public ConfigClassHandler<T> build() {
             Validate.notNull(serializerFactory, "serializerFactory must not be null");
             Validate.notNull(configClass, "configClass must not be null");
+            Validate.notNull(schema, "schema must not be null");
 
-            return new ConfigClassHandlerImpl<>(configClass, id, serializerFactory);
+            ConfigCodecRegistry codecs = this.codecs != null ? this.codecs : ConfigCodecRegistry.create();
+            return new ConfigClassHandlerImpl<>(configClass, id, schema, codecs, serializerFactory);
         }
     }
 
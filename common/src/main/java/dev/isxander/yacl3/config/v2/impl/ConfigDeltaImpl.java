@@ -0,0 +1,156 @@
+package dev.isxander.yacl3.config.v2.impl;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.ConfigDelta;
+import dev.isxander.yacl3.config.v2.api.ConfigField;
+import dev.isxander.yacl3.config.v2.api.FieldAccess;
+import dev.isxander.yacl3.config.v2.api.ReadOnlyFieldAccess;
+import dev.isxander.yacl3.config.v2.api.SerialField;
+import dev.isxander.yacl3.config.v2.impl.codec.ConfigTreeCodec;
+import dev.isxander.yacl3.config.v2.impl.codec.ConfigValues;
+import dev.isxander.yacl3.impl.utils.YACLConstants;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+public record ConfigDeltaImpl(Map<String, Object> changes) implements ConfigDelta {
+    private static final Gson GSON = new GsonBuilder()
+            .serializeNulls()
+            .serializeSpecialFloatingPointValues()
+            .setPrettyPrinting()
+            .create();
+
+    public ConfigDeltaImpl {
+        changes = Collections.unmodifiableMap(new LinkedHashMap<>(changes));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    @Override
+    public void write(Writer writer) throws IOException {
+        JsonWriter jsonWriter = GSON.newJsonWriter(writer);
+        jsonWriter.beginObject();
+        for (Map.Entry<String, Object> entry : changes.entrySet()) {
+            jsonWriter.name(entry.getKey());
+            GSON.toJson(ConfigValues.toJson(entry.getValue()), jsonWriter);
+        }
+        jsonWriter.endObject();
+        jsonWriter.flush();
+    }
+
+    public static ConfigDeltaImpl read(Reader reader) throws IOException {
+        JsonReader jsonReader = GSON.newJsonReader(reader);
+        // allows the non-finite numbers written for float fields
+        jsonReader.setLenient(true);
+
+        Map<String, Object> changes = new LinkedHashMap<>();
+        try {
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                String name = jsonReader.nextName();
+                changes.put(name, ConfigValues.fromJson(JsonParser.parseReader(jsonReader)));
+            }
+            jsonReader.endObject();
+        } catch (JsonParseException | IllegalStateException e) {
+            throw new IOException("Failed to read config delta.", e);
+        }
+        return new ConfigDeltaImpl(changes);
+    }
+
+    /**
+     * Finds the serial fields of the target which differ from the baseline.
+     * Values are compared in their encoded form, so types without a meaningful
+     * {@link Object#equals(Object)} are still compared by what would be written.
+     */
+    public static <T> ConfigDeltaImpl diff(ConfigClassHandler<T> handler, ConfigTreeCodec tree, T baseline, T target) throws IOException {
+        return new ConfigDeltaImpl(diffFields(handler, tree, handler.fields(), field -> ConfigTreeCodec.accessOn(field, baseline), field -> ConfigTreeCodec.accessOn(field, target), List.of()));
+    }
+
+    /**
+     * Finds the serial fields of the handler's working instance which differ from the baseline,
+     * using the handler's codecs.
+     */
+    public static <T> ConfigDeltaImpl diff(ConfigClassHandler<T> handler, T baseline) {
+        try {
+            return diff(handler, new ConfigTreeCodec(handler, handler.codecs(), false), baseline, handler.instance());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to export delta of config class '%s'.".formatted(handler.configClass().getSimpleName()), e);
+        }
+    }
+
+    /**
+     * Decodes the delta into a copy of the handler's working instance, then sets
+     * every field of the copy back onto the working instance and saves it.
+     * Change listeners are not notified.
+     *
+     * @return if the delta was applied successfully
+     */
+    public static <T> boolean apply(ConfigClassHandler<T> handler, ConfigDelta delta) {
+        if (delta.isEmpty()) {
+            return true;
+        }
+
+        T copy = ConfigSnapshotImpl.copyInstance(handler, handler.instance());
+        try {
+            ConfigTreeCodec.ObjectDecoder decoder = new ConfigTreeCodec(handler, handler.codecs(), false)
+                    .decoder(handler.fields(), field -> ConfigTreeCodec.accessOn(field, copy), "", true);
+            decoder.decodeAll(delta.changes());
+            decoder.finish();
+        } catch (Throwable e) {
+            YACLConstants.LOGGER.error("Failed to apply delta to config class '{}'.", handler.configClass().getSimpleName(), e);
+            return false;
+        }
+
+        for (ConfigField<?> field : handler.fields()) {
+            ((FieldAccess<Object>) field.access()).set(ConfigTreeCodec.accessOn(field, copy).get());
+        }
+        handler.save();
+        return true;
+    }
+
+    private static Map<String, Object> diffFields(ConfigClassHandler<?> handler, ConfigTreeCodec tree, ConfigField<?>[] fields, Function<ConfigField<?>, ReadOnlyFieldAccess<?>> baselineAccess, Function<ConfigField<?>, ReadOnlyFieldAccess<?>> targetAccess, List<String> path) throws IOException {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        for (ConfigField<?> field : fields) {
+            SerialField serial = field.serial().orElse(null);
+            if (serial == null) continue;
+
+            Object baselineValue = baselineAccess.apply(field).get();
+            Object targetValue = targetAccess.apply(field).get();
+            if (baselineValue == targetValue) continue;
+
+            List<String> fieldPath = ConfigTreeCodec.append(path, serial.serialName());
+            Class<?> type = field.defaultAccess().typeClass();
+
+            if (baselineValue != null && targetValue != null && handler.hasSubclass(type)) {
+                // only the nested fields which differ are included
+                Map<String, Object> nested = diffFields(handler, tree, handler.subclassFields(type), subclassField -> ConfigTreeCodec.accessOn(subclassField, baselineValue), subclassField -> ConfigTreeCodec.accessOn(subclassField, targetValue), fieldPath);
+                if (!nested.isEmpty()) {
+                    changes.put(serial.serialName(), nested);
+                }
+                continue;
+            }
+
+            Object encoded = tree.encodeValue(field, targetValue, fieldPath, null);
+            if (!Objects.equals(encoded, tree.encodeValue(field, baselineValue, fieldPath, null))) {
+                changes.put(serial.serialName(), encoded);
+            }
+        }
+        return changes;
+    }
+}
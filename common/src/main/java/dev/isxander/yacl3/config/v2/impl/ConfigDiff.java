@@ -0,0 +1,71 @@
+package dev.isxander.yacl3.config.v2.impl;
+
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.ConfigField;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compares two instances of a config class field by field.
+ */
+@ApiStatus.Internal
+public final class ConfigDiff {
+    private ConfigDiff() {
+    }
+
+    /**
+     * @return the serial fields of the config class whose values differ between the two instances,
+     *         in declaration order. A nested {@link dev.isxander.yacl3.config.v2.api.SerialEntry} object
+     *         is compared by its own fields, so a field holding one only differs if its contents do.
+     */
+    public static <T> List<ConfigField<?>> changedFields(ConfigClassHandler<T> handler, T oldInstance, T newInstance) {
+        List<ConfigField<?>> changed = new ArrayList<>();
+        for (ConfigField<?> field : handler.fields()) {
+            if (field.serial().isPresent() && !valuesEqual(handler, field, oldInstance, newInstance)) {
+                changed.add(field);
+            }
+        }
+        return changed;
+    }
+
+    private static boolean valuesEqual(ConfigClassHandler<?> handler, ConfigField<?> field, Object oldInstance, Object newInstance) {
+        Object oldValue = valueOn(field, oldInstance);
+        Object newValue = valueOn(field, newInstance);
+        if (oldValue == newValue) {
+            return true;
+        }
+
+        Class<?> type = field.defaultAccess().typeClass();
+        if (oldValue != null && newValue != null && handler.hasSubclass(type)) {
+            for (ConfigField<?> subclassField : handler.subclassFields(type)) {
+                if (subclassField.serial().isPresent() && !valuesEqual(handler, subclassField, oldValue, newValue)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        if (isUnloaded(oldValue) || isUnloaded(newValue)) {
+            // comparing by content would deserialize a list nothing has used yet. two unloaded lists
+            // compare by their serialized form, and against anything else the list is taken to have changed
+            return oldValue instanceof LazyList<?> oldList && newValue instanceof LazyList<?> newList
+                    && isUnloaded(oldList) && isUnloaded(newList)
+                    && Arrays.equals(oldList.serialized(), newList.serialized());
+        }
+
+        // deepEquals so array fields compare by content
+        return Objects.deepEquals(oldValue, newValue);
+    }
+
+    private static boolean isUnloaded(Object value) {
+        return value instanceof LazyList<?> lazyList && !lazyList.isLoaded();
+    }
+
+    private static Object valueOn(ConfigField<?> field, Object instance) {
+        return ((ConfigFieldImpl<?>) field).access().withInstance(instance).get();
+    }
+}
@@ -5,51 +5,58 @@ import dev.isxander.yacl3.config.v2.api.autogen.AutoGen;
 import dev.isxander.yacl3.config.v2.api.autogen.AutoGenField;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.annotation.Annotation;
 import java.util.Optional;
 
 public class ConfigFieldImpl<T> implements ConfigField<T> {
-    private ReflectionFieldAccess<T> field;
-    private final ReflectionFieldAccess<T> defaultField;
+    private final InstanceFieldAccess<T> field;
+    private final InstanceFieldAccess<T> defaultField;
     private final ConfigClassHandler<?> parent;
     private final Optional<SerialField> serial;
     private final Optional<AutoGenField> autoGen;
+    private final @Nullable Class<? extends Annotation> factoryAnnotation;
+    private int ordinal = -1;
 
-    public ConfigFieldImpl(ReflectionFieldAccess<T> field, ReflectionFieldAccess<T> defaultField, ConfigClassHandler<?> parent, @Nullable SerialEntry config, @Nullable AutoGen autoGen) {
+    public ConfigFieldImpl(InstanceFieldAccess<T> field, InstanceFieldAccess<T> defaultField, ConfigClassHandler<?> parent, @Nullable SerialEntry config, @Nullable AutoGen autoGen) {
+        this(
+                field,
+                defaultField,
+                parent,
+                config != null
+                        ? new SerialFieldImpl(
+                                "".equals(config.value()) ? field.name() : config.value(),
+                                "".equals(config.comment()) ? Optional.empty() : Optional.of(config.comment()),
+                                config.required(),
+                                config.nullable(),
+                                config.lazy()
+                        )
+                        : null,
+                autoGen != null
+                        ? new AutoGenFieldImpl(
+                                autoGen.category(),
+                                "".equals(autoGen.group()) ? Optional.empty() : Optional.of(autoGen.group())
+                        )
+                        : null,
+                null
+        );
+    }
+
+    public ConfigFieldImpl(InstanceFieldAccess<T> field, InstanceFieldAccess<T> defaultField, ConfigClassHandler<?> parent, @Nullable SerialField serial, @Nullable AutoGenField autoGen, @Nullable Class<? extends Annotation> factoryAnnotation) {
         this.field = field;
         this.defaultField = defaultField;
         this.parent = parent;
-
-        this.serial = config != null
-                ? Optional.of(
-                new SerialFieldImpl(
-                        "".equals(config.value()) ? field.name() : config.value(),
-                        "".equals(config.comment()) ? Optional.empty() : Optional.of(config.comment()),
-                        config.required(),
-                        config.nullable()
-                )
-        )
-                : Optional.empty();
-        this.autoGen = autoGen != null
-                ? Optional.of(
-                new AutoGenFieldImpl<>(
-                        autoGen.category(),
-                        "".equals(autoGen.group()) ? Optional.empty() : Optional.of(autoGen.group())
-                )
-        )
-                : Optional.empty();
+        this.serial = Optional.ofNullable(serial);
+        this.autoGen = Optional.ofNullable(autoGen);
+        this.factoryAnnotation = factoryAnnotation;
     }
 
     @Override
-    public ReflectionFieldAccess<T> access() {
+    public InstanceFieldAccess<T> access() {
         return field;
     }
 
-    public void setFieldAccess(ReflectionFieldAccess<T> field) {
-        this.field = field;
-    }
-
     @Override
-    public ReflectionFieldAccess<T> defaultAccess() {
+    public InstanceFieldAccess<T> defaultAccess() {
         return defaultField;
     }
 
@@ -68,8 +75,30 @@ public class ConfigFieldImpl<T> implements ConfigField<T> {
         return this.autoGen;
     }
 
-    private record SerialFieldImpl(String serialName, Optional<String> comment, boolean required, boolean nullable) implements SerialField {
+    /**
+     * The option factory annotation on this field, if known ahead of time
+     * from a {@link ConfigClassDescriptor}.
+     */
+    public @Nullable Class<? extends Annotation> factoryAnnotation() {
+        return this.factoryAnnotation;
+    }
+
+    /**
+     * The index of this field in the fields of the class declaring it, or -1 if it is not yet known.
+     */
+    public int ordinal() {
+        return this.ordinal;
+    }
+
+    void ordinal(int ordinal) {
+        this.ordinal = ordinal;
+    }
+
+    public record SerialFieldImpl(String serialName, Optional<String> comment, boolean required, boolean nullable, boolean lazy) implements SerialField {
+        public SerialFieldImpl(String serialName, Optional<String> comment, boolean required, boolean nullable) {
+            this(serialName, comment, required, nullable, false);
+        }
     }
-    private record AutoGenFieldImpl<T>(String category, Optional<String> group) implements AutoGenField {
+    public record AutoGenFieldImpl(String category, Optional<String> group) implements AutoGenField {
     }
 }
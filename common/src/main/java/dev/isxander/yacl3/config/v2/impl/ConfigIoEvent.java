@@ -0,0 +1,55 @@
+package dev.isxander.yacl3.config.v2.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Records a config load or save in flight recordings.
+ * Only ever loaded through {@link ConfigMetricsImpl} once it knows JFR is present.
+ */
+@Name("dev.isxander.yacl3.ConfigIO")
+@Label("Config I/O")
+@Category({"YetAnotherConfigLib", "Config"})
+@Description("A config being loaded from or saved to its file.")
+@StackTrace(false)
+final class ConfigIoEvent extends Event {
+    @Label("Config")
+    String config;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Result")
+    String result;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Fields")
+    int fields;
+
+    static Object start() {
+        ConfigIoEvent event = new ConfigIoEvent();
+        event.begin();
+        return event;
+    }
+
+    static void finish(Object started, String config, String operation, String result, long bytes, int fields) {
+        ConfigIoEvent event = (ConfigIoEvent) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.config = config;
+            event.operation = operation;
+            event.result = result;
+            event.bytes = bytes;
+            event.fields = fields;
+            event.commit();
+        }
+    }
+}
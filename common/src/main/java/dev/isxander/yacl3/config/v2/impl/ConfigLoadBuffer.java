@@ -0,0 +1,157 @@
+package dev.isxander.yacl3.config.v2.impl;
+
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.ConfigField;
+import dev.isxander.yacl3.config.v2.api.FieldAccess;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Holds the values a load writes to each field of a config, without creating
+ * an instance of the config class to hold them. A field that was not written
+ * reads as its value on the fallback object, which is never modified.
+ * <p>
+ * Nested {@link dev.isxander.yacl3.config.v2.api.SerialEntry} objects are filled
+ * in place by serializers, so reading one copies it from the fallback first.
+ *
+ * @param <T> the config class
+ */
+@ApiStatus.Internal
+public final class ConfigLoadBuffer<T> {
+    private final ConfigClassHandler<T> handler;
+    private final ConfigField<?>[] fields;
+    private final T fallback;
+    private final Object[] values;
+    private final boolean[] written;
+
+    ConfigLoadBuffer(ConfigClassHandler<T> handler, T fallback) {
+        this.handler = handler;
+        this.fields = handler.fields();
+        this.fallback = fallback;
+        this.values = new Object[fields.length];
+        this.written = new boolean[fields.length];
+    }
+
+    /**
+     * @return accesses to each field of the buffer, for {@link dev.isxander.yacl3.config.v2.api.ConfigSerializer#loadSafely(Map)}
+     */
+    public Map<ConfigField<?>, FieldAccess<?>> accesses() {
+        Map<ConfigField<?>, FieldAccess<?>> accesses = new IdentityHashMap<>(fields.length);
+        for (int i = 0; i < fields.length; i++) {
+            accesses.put(fields[i], new BufferedAccess<>(i));
+        }
+        return accesses;
+    }
+
+    /**
+     * Sets each field written to the buffer on the target.
+     * Nested objects already held by the target are updated field by field rather than
+     * replaced, so accesses bound to them keep reading the target's values.
+     *
+     * @param resetUnwritten if fields that were not written should be set back to their value on the fallback.
+     *                       fields already equal to it are left as they are.
+     */
+    void applyTo(T target, boolean resetUnwritten) {
+        for (int i = 0; i < fields.length; i++) {
+            if (written[i]) {
+                assign(fields[i], target, values[i], false);
+            } else if (resetUnwritten) {
+                assign(fields[i], target, fallbackValue(i), true);
+            }
+        }
+    }
+
+    /**
+     * @param shared if the value is also held elsewhere, so it must be copied rather than set as it is
+     */
+    private void assign(ConfigField<?> field, Object target, Object value, boolean shared) {
+        FieldAccess<Object> access = (FieldAccess<Object>) ((ConfigFieldImpl<?>) field).access().withInstance(target);
+        Object current = access.get();
+        Class<?> type = field.defaultAccess().typeClass();
+
+        if (current != null && value != null && handler.hasSubclass(type)) {
+            for (ConfigField<?> subclassField : handler.subclassFields(type)) {
+                assign(subclassField, current, ((ConfigFieldImpl<?>) subclassField).access().withInstance(value).get(), shared);
+            }
+        } else if (!shared) {
+            access.set(value);
+        } else if (current instanceof LazyList<?> || !Objects.deepEquals(current, value)) {
+            // comparing a lazy list would load it
+            Object copy = ConfigSnapshotImpl.copyDefault(handler, field, value);
+            if (copy == ConfigSnapshotImpl.NOT_COPYABLE) {
+                // the defaults must not be shared, so take the value a new object is constructed with instead
+                copy = ((ConfigFieldImpl<?>) field).access().withInstance(ConfigSnapshotImpl.newInstance(target.getClass())).get();
+            }
+            access.set(copy);
+        }
+    }
+
+    /**
+     * @return a copy of the base with each field written to the buffer set on it
+     */
+    public T applyToCopyOf(T base) {
+        T copy = ConfigSnapshotImpl.copyInstance(handler, base);
+        applyTo(copy, false);
+        return copy;
+    }
+
+    private Object fallbackValue(int ordinal) {
+        return ((ConfigFieldImpl<?>) fields[ordinal]).access().withInstance(fallback).get();
+    }
+
+    private final class BufferedAccess<V> implements FieldAccess<V> {
+        private final int ordinal;
+        private final FieldAccess<V> metadata;
+
+        private BufferedAccess(int ordinal) {
+            this.ordinal = ordinal;
+            this.metadata = (FieldAccess<V>) fields[ordinal].access();
+        }
+
+        @Override
+        public V get() {
+            if (!written[ordinal]) {
+                Object value = fallbackValue(ordinal);
+                if (value == null || !handler.hasSubclass(typeClass())) {
+                    return (V) value;
+                }
+
+                // the serializer fills the nested object in place, which must not touch the fallback's
+                set((V) ConfigSnapshotImpl.copyValue(handler, fields[ordinal], value));
+            }
+            return (V) values[ordinal];
+        }
+
+        @Override
+        public void set(V value) {
+            values[ordinal] = value;
+            written[ordinal] = true;
+        }
+
+        @Override
+        public String name() {
+            return metadata.name();
+        }
+
+        @Override
+        public Type type() {
+            return metadata.type();
+        }
+
+        @Override
+        public Class<V> typeClass() {
+            return metadata.typeClass();
+        }
+
+        @Override
+        public <A extends Annotation> Optional<A> getAnnotation(Class<A> annotationClass) {
+            return metadata.getAnnotation(annotationClass);
+        }
+    }
+}
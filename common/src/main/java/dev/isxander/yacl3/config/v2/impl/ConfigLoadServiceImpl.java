@@ -0,0 +1,122 @@
+package dev.isxander.yacl3.config.v2.impl;
+
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.ConfigLoadService;
+import dev.isxander.yacl3.impl.utils.YACLConstants;
+import org.apache.commons.lang3.Validate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+public class ConfigLoadServiceImpl implements ConfigLoadService {
+    public static final int DEFAULT_PARALLELISM = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    private final int parallelism;
+    private final List<ConfigClassHandler<?>> handlers = new ArrayList<>();
+
+    public ConfigLoadServiceImpl(int parallelism) {
+        Validate.isTrue(parallelism > 0, "parallelism must be positive");
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public synchronized ConfigLoadService register(ConfigClassHandler<?> handler) {
+        Validate.notNull(handler, "handler must not be null");
+        Validate.isTrue(!handlers.contains(handler), "Config class '%s' is already registered.".formatted(handler.configClass().getName()));
+
+        handlers.add(handler);
+        return this;
+    }
+
+    @Override
+    public LoadReport loadAll() {
+        List<ConfigClassHandler<?>> handlers;
+        synchronized (this) {
+            handlers = List.copyOf(this.handlers);
+        }
+
+        long start = System.nanoTime();
+        List<Entry> entries = new ArrayList<>(handlers.size());
+        int threads = Math.min(parallelism, handlers.size());
+
+        if (threads > 0) {
+            AtomicInteger threadId = new AtomicInteger();
+            ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "YACL Config Loader #" + threadId.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            try {
+                List<Future<TimedLoad<?>>> reads = new ArrayList<>(handlers.size());
+                for (ConfigClassHandler<?> handler : handlers) {
+                    reads.add(handler instanceof ConfigClassHandlerImpl<?> impl ? pool.submit(() -> read(impl)) : null);
+                }
+
+                // publish strictly in registration order, regardless of which read finishes first
+                for (int i = 0; i < handlers.size(); i++) {
+                    entries.add(publish(handlers.get(i), reads.get(i)));
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+
+        LoadReport report = new LoadReport(List.copyOf(entries), Duration.ofNanos(System.nanoTime() - start));
+        YACLConstants.LOGGER.info("Loaded {} config classes in {} ms on {} threads:\n{}",
+                entries.size(), report.totalTime().toMillis(), threads,
+                entries.stream()
+                        .map(entry -> "  %s: %s (read %.2f ms, apply %.2f ms)".formatted(
+                                entry.handler().configClass().getSimpleName(),
+                                entry.success() ? "success" : "failed",
+                                entry.readTime().toNanos() / 1_000_000.0,
+                                entry.applyTime().toNanos() / 1_000_000.0))
+                        .collect(Collectors.joining("\n")));
+        return report;
+    }
+
+    private static <T> TimedLoad<T> read(ConfigClassHandlerImpl<T> handler) {
+        long start = System.nanoTime();
+        ConfigClassHandlerImpl.BufferedLoad<T> load = handler.loadIntoBuffer();
+        return new TimedLoad<>(handler, load, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private static Entry publish(ConfigClassHandler<?> handler, Future<TimedLoad<?>> read) {
+        if (read == null) {
+            // other handler implementations cannot be split into a read and a publish
+            long start = System.nanoTime();
+            boolean success = handler.load();
+            return new Entry(handler, success, Duration.ZERO, Duration.ofNanos(System.nanoTime() - start), null);
+        }
+
+        TimedLoad<?> timedLoad;
+        try {
+            timedLoad = read.get();
+        } catch (InterruptedException e) {
+            // leave the interrupt set, every remaining config fails the same way
+            Thread.currentThread().interrupt();
+            YACLConstants.LOGGER.error("Interrupted whilst loading config class '{}'. The config remains unchanged.", handler.configClass().getSimpleName(), e);
+            return new Entry(handler, false, Duration.ZERO, Duration.ZERO, e);
+        } catch (ExecutionException e) {
+            YACLConstants.LOGGER.error("Failed to load config class '{}'. The config remains unchanged.", handler.configClass().getSimpleName(), e.getCause());
+            return new Entry(handler, false, Duration.ZERO, Duration.ZERO, e.getCause());
+        }
+
+        return timedLoad.apply();
+    }
+
+    private record TimedLoad<T>(ConfigClassHandlerImpl<T> handler, ConfigClassHandlerImpl.BufferedLoad<T> load, Duration readTime) {
+        private Entry apply() {
+            long start = System.nanoTime();
+            boolean success = handler.applyLoad(load);
+            return new Entry(handler, success, readTime, Duration.ofNanos(System.nanoTime() - start), load.error());
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package dev.isxander.yacl3.config.v2.impl;
+
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.ConfigField;
+import dev.isxander.yacl3.config.v2.api.ConfigMetrics;
+import dev.isxander.yacl3.config.v2.api.ConfigSerializer;
+import dev.isxander.yacl3.impl.utils.YACLConstants;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+@ApiStatus.Internal
+public final class ConfigMetricsImpl implements ConfigMetrics {
+    // handlers hold their metrics, so a handler that is no longer used drops out of here on its own
+    private static final List<WeakReference<ConfigMetrics>> ALL = new CopyOnWriteArrayList<>();
+    // the jdk.jfr module can be left out of custom runtimes, so the event class is only touched if it exists
+    private static final boolean JFR_AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private final ConfigClassHandler<?> handler;
+    private final int fieldCount;
+
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong loadNanos = new AtomicLong();
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong loadFailures = new AtomicLong();
+    private final AtomicLong dirtyResaves = new AtomicLong();
+    private final AtomicLong saveCount = new AtomicLong();
+    private final AtomicLong saveNanos = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicLong saveFailures = new AtomicLong();
+
+    public ConfigMetricsImpl(ConfigClassHandler<?> handler) {
+        this(handler, true);
+    }
+
+    private ConfigMetricsImpl(ConfigClassHandler<?> handler, boolean listed) {
+        this.handler = handler;
+        this.fieldCount = countSerialFields(handler, handler.fields());
+        if (listed) {
+            ALL.removeIf(reference -> reference.get() == null);
+            ALL.add(new WeakReference<>(this));
+        }
+    }
+
+    /**
+     * Metrics with every counter at zero, for handlers that do not record any.
+     * These are not listed in {@link #all()}.
+     */
+    public static ConfigMetrics empty(ConfigClassHandler<?> handler) {
+        return new ConfigMetricsImpl(handler, false);
+    }
+
+    public static List<ConfigMetrics> all() {
+        return ALL.stream()
+                .map(Reference::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static int countSerialFields(ConfigClassHandler<?> handler, ConfigField<?>[] fields) {
+        int count = 0;
+        for (ConfigField<?> field : fields) {
+            if (field.serial().isEmpty()) continue;
+
+            Class<?> type = field.defaultAccess().typeClass();
+            count += handler.hasSubclass(type) ? countSerialFields(handler, handler.subclassFields(type)) : 1;
+        }
+        return count;
+    }
+
+    /**
+     * Starts timing a load or save, which must be passed to {@link #recordLoad} or {@link #recordSave} once done.
+     */
+    public Operation begin() {
+        return begin(0);
+    }
+
+    /**
+     * Starts timing the rest of a load or save which has already taken the given time,
+     * such as the write of a save that was serialized on another thread.
+     */
+    public Operation begin(long elapsedNanos) {
+        return new Operation(System.nanoTime() - elapsedNanos, JFR_AVAILABLE ? ConfigIoEvent.start() : null);
+    }
+
+    /**
+     * @param bytes the size of the file read, or 0 if it was not read
+     */
+    public void recordLoad(Operation operation, ConfigSerializer.LoadResult result, long bytes) {
+        long nanos = System.nanoTime() - operation.startNanos;
+        loadCount.incrementAndGet();
+        loadNanos.addAndGet(nanos);
+        bytesRead.addAndGet(bytes);
+        if (result == ConfigSerializer.LoadResult.FAILURE) {
+            loadFailures.incrementAndGet();
+        }
+
+        YACLConstants.LOGGER.debug("Loaded {} in {} ms ({}, {} bytes)", name(), nanos / 1_000_000.0, result, bytes);
+        if (operation.event != null) {
+            ConfigIoEvent.finish(operation.event, name(), "load", result.name(), bytes, fieldCount);
+        }
+    }
+
+    public void recordDirtyResave() {
+        dirtyResaves.incrementAndGet();
+    }
+
+    /**
+     * @param bytes the size of the file written, or 0 if it was not written
+     */
+    public void recordSave(Operation operation, SaveResult result, long bytes) {
+        long nanos = System.nanoTime() - operation.startNanos;
+        saveCount.incrementAndGet();
+        saveNanos.addAndGet(nanos);
+        bytesWritten.addAndGet(bytes);
+        if (result == SaveResult.FAILURE) {
+            saveFailures.incrementAndGet();
+        }
+
+        YACLConstants.LOGGER.debug("Saved {} in {} ms ({}, {} bytes)", name(), nanos / 1_000_000.0, result, bytes);
+        if (operation.event != null) {
+            ConfigIoEvent.finish(operation.event, name(), "save", result.name(), bytes, fieldCount);
+        }
+    }
+
+    @Override
+    public @Nullable ResourceLocation id() {
+        return handler.id();
+    }
+
+    @Override
+    public Class<?> configClass() {
+        return handler.configClass();
+    }
+
+    @Override
+    public String name() {
+        ResourceLocation id = handler.id();
+        return id != null ? id.toString() : handler.configClass().getName();
+    }
+
+    @Override
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    @Override
+    public long loadCount() {
+        return loadCount.get();
+    }
+
+    @Override
+    public long loadNanos() {
+        return loadNanos.get();
+    }
+
+    @Override
+    public long bytesRead() {
+        return bytesRead.get();
+    }
+
+    @Override
+    public long loadFailures() {
+        return loadFailures.get();
+    }
+
+    @Override
+    public long dirtyResaves() {
+        return dirtyResaves.get();
+    }
+
+    @Override
+    public long saveCount() {
+        return saveCount.get();
+    }
+
+    @Override
+    public long saveNanos() {
+        return saveNanos.get();
+    }
+
+    @Override
+    public long bytesWritten() {
+        return bytesWritten.get();
+    }
+
+    @Override
+    public long saveFailures() {
+        return saveFailures.get();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public long skippedWrites() {
+        return handler.serializer().skippedWriteCount();
+    }
+
+    public record Operation(long startNanos, @Nullable Object event) {
+    }
+
+    public enum SaveResult {
+        WRITTEN,
+        /** the content was identical to the file, so nothing was written */
+        SKIPPED,
+        FAILURE,
+        /** the serializer does not write to a file, so it can't be told whether it wrote anything */
+        UNKNOWN
+    }
+}
@@ -0,0 +1,130 @@
+package dev.isxander.yacl3.config.v2.impl;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Performs config writes on a background thread.
+ * The config is serialized before a write is queued, so the writer thread
+ * never reads the config instance. Any writes queued whilst another is still
+ * waiting replace it, as they hold newer content.
+ */
+@ApiStatus.Internal
+public final class ConfigSaveQueue {
+    /** How long a write waits for more saves to coalesce before running. */
+    private static final long COALESCE_WINDOW_MS = 50;
+
+    private static final ScheduledExecutorService WRITER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "YACL Config Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // a queue with a write waiting is held by the writer until it runs, so only idle queues drop out of here
+    private static final List<WeakReference<ConfigSaveQueue>> QUEUES = new CopyOnWriteArrayList<>();
+
+    static {
+        // the writer thread is a daemon, make sure nothing queued is lost when the game exits
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> QUEUES.forEach(reference -> {
+            ConfigSaveQueue queue = reference.get();
+            if (queue != null) {
+                queue.flush();
+            }
+        }), "YACL Config Writer Shutdown"));
+    }
+
+    // held whilst writing, so writes land on disk in the order they were queued
+    private final Object writeLock = new Object();
+    private PendingWrite pending;
+
+    public ConfigSaveQueue() {
+        QUEUES.removeIf(reference -> reference.get() == null);
+        QUEUES.add(new WeakReference<>(this));
+    }
+
+    /**
+     * Queues a write, replacing the write that is already queued.
+     *
+     * @param write the write of content that has already been serialized
+     * @return a future completed once the write has finished
+     */
+    public synchronized CompletableFuture<Void> schedule(Runnable write) {
+        if (pending != null) {
+            // anyone waiting on the replaced write is waiting for content at least this new
+            Write.discard(pending.write);
+            pending.write = write;
+            return pending.future;
+        }
+
+        PendingWrite queued = new PendingWrite(write);
+        pending = queued;
+        WRITER.schedule(this::flush, COALESCE_WINDOW_MS, TimeUnit.MILLISECONDS);
+        return queued.future;
+    }
+
+    /**
+     * Performs any queued write on the calling thread,
+     * waiting for a write that is already running to finish.
+     */
+    public void flush() {
+        synchronized (writeLock) {
+            PendingWrite write;
+            synchronized (this) {
+                // the write may have already been performed by an earlier flush
+                write = pending;
+                pending = null;
+            }
+            if (write == null) {
+                return;
+            }
+
+            try {
+                write.write.run();
+                write.future.complete(null);
+            } catch (Throwable e) {
+                write.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * A write holding something, such as a pooled buffer, that must be given back if it is replaced before it runs.
+     */
+    public interface Write extends Runnable {
+        /**
+         * Called instead of {@link #run()} when a newer write replaces this one.
+         */
+        void discard();
+
+        static Write of(Runnable write, Runnable discard) {
+            return new Write() {
+                @Override
+                public void run() {
+                    write.run();
+                }
+
+                @Override
+                public void discard() {
+                    discard.run();
+                }
+            };
+        }
+
+        static void discard(Runnable write) {
+            if (write instanceof Write discardable) {
+                discardable.discard();
+            }
+        }
+    }
+
+    private static final class PendingWrite {
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private Runnable write;
+
+        private PendingWrite(Runnable write) {
+            this.write = write;
+        }
+    }
+}
@@ -0,0 +1,400 @@
+package dev.isxander.yacl3.config.v2.impl;
+
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableMap;
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.ConfigField;
+import dev.isxander.yacl3.config.v2.api.ConfigSnapshot;
+import dev.isxander.yacl3.config.v2.api.FieldAccess;
+import dev.isxander.yacl3.config.v2.api.codec.ConfigCodec;
+import dev.isxander.yacl3.config.v2.impl.autogen.YACLAutoGenException;
+import net.minecraft.network.chat.Style;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import org.jetbrains.annotations.Nullable;
+
+import java.awt.Color;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public final class ConfigSnapshotImpl<T> implements ConfigSnapshot<T> {
+    private static final Object[] NO_BASELINES = new Object[0];
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(
+            String.class, Boolean.class, Character.class,
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, UUID.class, ResourceLocation.class);
+    /**
+     * Returned in place of a copy of a value that cannot be copied.
+     */
+    static final Object NOT_COPYABLE = new Object();
+    private static final Set<Class<?>> UNMODIFIABLE_TYPES = Stream.of(
+                    Collections.unmodifiableList(new ArrayList<>()),
+                    Collections.unmodifiableSet(new LinkedHashSet<>()),
+                    Collections.unmodifiableMap(new LinkedHashMap<>()),
+                    Collections.unmodifiableNavigableMap(new TreeMap<>()),
+                    Collections.unmodifiableNavigableSet(new TreeSet<>()),
+                    Collections.unmodifiableCollection(new ArrayDeque<>()),
+                    List.of(), List.of(0),
+                    Set.of(), Set.of(0),
+                    Map.of(), Map.of(0, 0))
+            .map(Object::getClass)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final T instance;
+    private final long version;
+    private final ConfigField<?>[] fields;
+    // bound once per snapshot, so reading a field allocates nothing
+    private final FieldAccess<?>[] accesses;
+
+    private ConfigSnapshotImpl(ConfigClassHandler<T> handler, T instance, long version, @Nullable ConfigSnapshotImpl<T> previous) {
+        this.instance = instance;
+        this.version = version;
+        this.fields = handler.fields();
+
+        if (previous != null && previous.instance == instance && previous.fields == fields) {
+            // nothing changed since the previous snapshot, which is shared in its entirety
+            this.accesses = previous.accesses;
+        } else {
+            this.accesses = new FieldAccess<?>[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                accesses[i] = ((ConfigFieldImpl<?>) fields[i]).access().withInstance(instance);
+            }
+        }
+    }
+
+    @Override
+    public T instance() {
+        return instance;
+    }
+
+    @Override
+    public long version() {
+        return version;
+    }
+
+    @Override
+    public <V> V get(ConfigField<V> field) {
+        int ordinal = ((ConfigFieldImpl<V>) field).ordinal();
+        if (ordinal < 0 || ordinal >= fields.length || fields[ordinal] != field) {
+            throw new IllegalArgumentException("Field '%s' is not a field of config class '%s'.".formatted(field.access().name(), instance.getClass().getSimpleName()));
+        }
+        return (V) accesses[ordinal].get();
+    }
+
+    /**
+     * Copies the fields known to the handler into a new instance, so the snapshot
+     * is unaffected by anything later done to the live instance. Nested
+     * {@link dev.isxander.yacl3.config.v2.api.SerialEntry} objects, arrays and collections are
+     * copied too, as the GUI and mods commonly modify those in place. Other values not known to
+     * be immutable are copied through the handler's codecs. A value with no codec, which then
+     * cannot be copied at all, is the only kind shared with the live instance.
+     */
+    public static <T> ConfigSnapshotImpl<T> copyOf(ConfigClassHandler<T> handler, T instance, long version) {
+        return new ConfigSnapshotImpl<>(handler, copyInstance(handler, instance), version, null);
+    }
+
+    /**
+     * Wraps an instance that nothing else holds or modifies, such as the copy made when applying a delta, without copying it again.
+     */
+    public static <T> ConfigSnapshotImpl<T> of(ConfigClassHandler<T> handler, T instance, long version) {
+        return new ConfigSnapshotImpl<>(handler, instance, version, null);
+    }
+
+    /**
+     * Copies the instance like {@link #copyOf(ConfigClassHandler, Object, long)}, except values equal to those of
+     * the previous snapshot or the defaults are shared with them rather than copied. Only values that neither can
+     * modify are shared, and copied collections are wrapped as unmodifiable where the field's type allows it,
+     * so the next snapshot can share them in turn. The copied instance and its nested objects are always new.
+     */
+    public static <T> ConfigSnapshotImpl<T> sharedCopyOf(ConfigClassHandler<T> handler, T instance, @Nullable ConfigSnapshot<T> previous, long version) {
+        Object[] baselines = previous != null
+                ? new Object[]{previous.instance(), handler.defaults()}
+                : new Object[]{handler.defaults()};
+        T copy = handler.configClass().cast(copyObject(handler, handler.fields(), instance, baselines, CopyMode.SNAPSHOT));
+        return new ConfigSnapshotImpl<>(handler, copy, version, previous instanceof ConfigSnapshotImpl<T> snapshot ? snapshot : null);
+    }
+
+    /**
+     * Copies the fields known to the handler into a new instance, in the same way as {@link #copyOf(ConfigClassHandler, Object, long)}.
+     */
+    public static <T> T copyInstance(ConfigClassHandler<T> handler, T instance) {
+        return handler.configClass().cast(copyObject(handler, handler.fields(), instance, NO_BASELINES, CopyMode.INSTANCE));
+    }
+
+    /**
+     * Copies a value of the field, so the copy can be modified without affecting the original.
+     * This copies nested objects, arrays and collections in the same way as {@link #copyInstance(ConfigClassHandler, Object)}.
+     */
+    public static Object copyValue(ConfigClassHandler<?> handler, ConfigField<?> field, @Nullable Object value) {
+        return copyValue(handler, field.defaultAccess().typeClass(), value, NO_BASELINES, CopyMode.INSTANCE);
+    }
+
+    /**
+     * Copies a default value of the field, like {@link #copyValue(ConfigClassHandler, ConfigField, Object)}.
+     * The defaults are never shared, so a value that cannot be copied is left as the one the constructor of
+     * its nested object creates, or {@link #NOT_COPYABLE} is returned if the value is not in a nested object.
+     */
+    static Object copyDefault(ConfigClassHandler<?> handler, ConfigField<?> field, @Nullable Object value) {
+        return copyValue(handler, field.defaultAccess().typeClass(), value, NO_BASELINES, CopyMode.DEFAULT);
+    }
+
+    /**
+     * Replaces the collections held by the object, and by its nested objects, with unmodifiable copies where
+     * the field's type allows it. Snapshots share values of a frozen object instead of copying them.
+     */
+    public static void freeze(ConfigClassHandler<?> handler, ConfigField<?>[] fields, Object object) {
+        for (ConfigField<?> field : fields) {
+            FieldAccess<Object> access = (FieldAccess<Object>) ((ConfigFieldImpl<?>) field).access().withInstance(object);
+            Class<?> type = field.defaultAccess().typeClass();
+            Object value = access.get();
+
+            if (value != null && handler.hasSubclass(type)) {
+                freeze(handler, handler.subclassFields(type), value);
+            } else if (value != null && !isUnmodifiable(value) && (value instanceof Collection<?> || value instanceof Map<?, ?>)) {
+                Object copy = mutableCopy(handler, type, value);
+                if (copy != NOT_COPYABLE) {
+                    access.set(unmodifiable(type, copy));
+                }
+            }
+        }
+    }
+
+    /**
+     * @param baselines objects which values may be shared with, if equal and unmodifiable
+     */
+    private static Object copyObject(ConfigClassHandler<?> handler, ConfigField<?>[] fields, Object source, Object[] baselines, CopyMode mode) {
+        Object copy = newInstance(source.getClass());
+
+        Object[] comparable = new Object[baselines.length];
+        for (int i = 0; i < baselines.length; i++) {
+            if (baselines[i] != null && baselines[i].getClass() == source.getClass()) {
+                comparable[i] = baselines[i];
+            }
+        }
+
+        Object[] baselineValues = new Object[baselines.length];
+        for (ConfigField<?> field : fields) {
+            for (int i = 0; i < comparable.length; i++) {
+                baselineValues[i] = comparable[i] != null ? ((ConfigFieldImpl<?>) field).access().withInstance(comparable[i]).get() : null;
+            }
+
+            Object value = ((ConfigFieldImpl<?>) field).access().withInstance(source).get();
+            Object copied = copyValue(handler, field.defaultAccess().typeClass(), value, baselineValues, mode);
+            if (copied != NOT_COPYABLE) {
+                ((ConfigFieldImpl<Object>) field).access().withInstance(copy).set(copied);
+            }
+        }
+
+        return copy;
+    }
+
+    private static Object copyValue(ConfigClassHandler<?> handler, Class<?> type, Object value, Object[] baselineValues, CopyMode mode) {
+        if (value == null) {
+            return null;
+        }
+
+        if (handler.hasSubclass(type)) {
+            return copyObject(handler, handler.subclassFields(type), value, baselineValues.clone(), mode);
+        }
+
+        if (value instanceof LazyList<?> lazyList) {
+            // keeps a list that has not been used yet from being loaded just to snapshot it
+            return lazyList.copy();
+        }
+
+        for (Object baseline : baselineValues) {
+            // comparing against a lazy list would load it
+            if (baseline != null && !(baseline instanceof LazyList<?>) && isUnmodifiable(baseline) && value.equals(baseline)) {
+                return baseline;
+            }
+        }
+
+        // any copy can share an immutable value, but copies that may be modified get collections of their own
+        if (isUnmodifiable(value) && (mode == CopyMode.SNAPSHOT || !(value instanceof Collection<?> || value instanceof Map<?, ?>))) {
+            return value;
+        }
+
+        Object copy = mutableCopy(handler, type, value);
+        if (copy == NOT_COPYABLE) {
+            // sharing something nothing can modify is as good as a copy
+            if (isUnmodifiable(value)) {
+                return value;
+            }
+            return mode == CopyMode.DEFAULT ? NOT_COPYABLE : value;
+        }
+        return mode == CopyMode.SNAPSHOT ? unmodifiable(type, copy) : copy;
+    }
+
+    /**
+     * Copies arrays, collections into a type the field can hold, and any other value
+     * through the handler's codec for it.
+     *
+     * @return the copy, or {@link #NOT_COPYABLE}
+     */
+    private static Object mutableCopy(ConfigClassHandler<?> handler, Class<?> type, Object value) {
+        if (value.getClass().isArray()) {
+            return copyArray(value);
+        }
+
+        // only copy collections into types the field can actually hold
+        if (value instanceof List<?> list && type.isAssignableFrom(ArrayList.class)) {
+            return new ArrayList<>(list);
+        }
+        if (value instanceof Set<?> set && type.isAssignableFrom(LinkedHashSet.class)) {
+            return new LinkedHashSet<>(set);
+        }
+        if (value instanceof Map<?, ?> map && type.isAssignableFrom(LinkedHashMap.class)) {
+            return new LinkedHashMap<>(map);
+        }
+        if (value instanceof Collection<?> || value instanceof Map<?, ?>) {
+            return copyIntoOwnType(value);
+        }
+
+        return copyThroughCodec(handler, type, value);
+    }
+
+    /**
+     * Copies a value by encoding it to its format-neutral form and decoding that again,
+     * or returns {@link #NOT_COPYABLE} if the handler has no codec for the value.
+     */
+    private static Object copyThroughCodec(ConfigClassHandler<?> handler, Class<?> type, Object value) {
+        Optional<ConfigCodec<?>> codec = handler.codecs().find(type);
+        if (codec.isEmpty()) {
+            return NOT_COPYABLE;
+        }
+
+        try {
+            ConfigCodec<Object> objectCodec = (ConfigCodec<Object>) codec.get();
+            return objectCodec.decode(objectCodec.encode(value));
+        } catch (RuntimeException e) {
+            return NOT_COPYABLE;
+        }
+    }
+
+    /**
+     * Copies an array, along with any arrays nested in it.
+     */
+    private static Object copyArray(Object array) {
+        int length = Array.getLength(array);
+        Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+        System.arraycopy(array, 0, copy, 0, length);
+
+        if (copy instanceof Object[] elements) {
+            for (int i = 0; i < elements.length; i++) {
+                if (elements[i] != null && elements[i].getClass().isArray()) {
+                    elements[i] = copyArray(elements[i]);
+                }
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Copies a collection or map into a new one of the same class, keeping the
+     * comparator of sorted ones, or returns {@link #NOT_COPYABLE} if that class has no copy constructor.
+     */
+    private static Object copyIntoOwnType(Object value) {
+        if (value instanceof EnumSet<?> set) {
+            return set.clone();
+        }
+        if (value instanceof EnumMap<?, ?> map) {
+            return new EnumMap<>(map);
+        }
+        if (value.getClass() == TreeSet.class) {
+            return new TreeSet<>((SortedSet<?>) value);
+        }
+        if (value.getClass() == TreeMap.class) {
+            return new TreeMap<>((SortedMap<?, ?>) value);
+        }
+
+        try {
+            return value.getClass().getConstructor(value instanceof Map<?, ?> ? Map.class : Collection.class).newInstance(value);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return NOT_COPYABLE;
+        }
+    }
+
+    /**
+     * Wraps a collection nothing else holds as unmodifiable, if the field's type can hold the wrapper.
+     */
+    private static Object unmodifiable(Class<?> type, Object copy) {
+        Object view;
+        if (copy instanceof NavigableMap<?, ?> map) {
+            view = Collections.unmodifiableNavigableMap(map);
+        } else if (copy instanceof Map<?, ?> map) {
+            view = Collections.unmodifiableMap(map);
+        } else if (copy instanceof NavigableSet<?> set) {
+            view = Collections.unmodifiableNavigableSet(set);
+        } else if (copy instanceof Set<?> set) {
+            view = Collections.unmodifiableSet(set);
+        } else if (copy instanceof List<?> list) {
+            view = Collections.unmodifiableList(list);
+        } else if (copy instanceof Collection<?> collection) {
+            view = Collections.unmodifiableCollection(collection);
+        } else {
+            return copy;
+        }
+        return type.isInstance(view) ? view : copy;
+    }
+
+    /**
+     * @return if nothing can modify the value, so it is safe to share between instances.
+     *         only values of types known to be immutable, and collections known to be unmodifiable, are
+     */
+    private static boolean isUnmodifiable(Object value) {
+        if (value instanceof Collection<?> || value instanceof Map<?, ?>) {
+            return value instanceof ImmutableCollection<?> || value instanceof ImmutableMap<?, ?> || UNMODIFIABLE_TYPES.contains(value.getClass());
+        }
+        // items are registry entries, which are shared by design
+        return IMMUTABLE_TYPES.contains(value.getClass()) || value instanceof Enum<?>
+                || value instanceof Color || value instanceof Style || value instanceof Item;
+    }
+
+    static Object newInstance(Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new YACLAutoGenException("Failed to create instance of '%s' to copy config.".formatted(type.getName()), e);
+        }
+    }
+
+    private enum CopyMode {
+        /**
+         * A copy that may be modified. Values that cannot be copied are shared.
+         */
+        INSTANCE,
+        /**
+         * A copy that is never modified, sharing what it can with its baselines.
+         */
+        SNAPSHOT,
+        /**
+         * A copy of the defaults that may be modified, which never shares a value that could be modified.
+         */
+        DEFAULT
+    }
+}
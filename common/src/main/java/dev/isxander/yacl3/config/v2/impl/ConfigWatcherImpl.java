@@ -0,0 +1,176 @@
+package dev.isxander.yacl3.config.v2.impl;
+
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.ConfigField;
+import dev.isxander.yacl3.config.v2.api.ConfigWatcher;
+import dev.isxander.yacl3.impl.utils.YACLConstants;
+import org.apache.commons.lang3.Validate;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+public class ConfigWatcherImpl implements ConfigWatcher {
+    /** How long a file must go without events before it is reloaded. */
+    private static final long DEBOUNCE_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private final Executor applyExecutor;
+    private final Map<Path, List<Watched<?>>> watchedFiles = new ConcurrentHashMap<>();
+    private final Set<Path> watchedDirectories = new HashSet<>();
+    private WatchService watchService;
+    private volatile boolean closed;
+
+    public ConfigWatcherImpl(Executor applyExecutor) {
+        this.applyExecutor = applyExecutor;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public synchronized <T> ConfigWatcher watch(ConfigClassHandler<T> handler, ReloadListener<T> listener) {
+        Validate.isTrue(!closed, "Cannot watch a config class with a closed watcher.");
+
+        Path file = handler.serializer().filePath()
+                .orElseThrow(() -> new IllegalArgumentException("The serializer of config class '%s' does not use a file that can be watched.".formatted(handler.configClass().getName())));
+        Path watchedFile = file.toAbsolutePath().normalize();
+        Path directory = watchedFile.getParent();
+
+        try {
+            if (watchService == null) {
+                watchService = directory.getFileSystem().newWatchService();
+
+                Thread thread = new Thread(this::run, "YACL Config Watcher");
+                thread.setDaemon(true);
+                thread.start();
+            }
+
+            if (!watchedDirectories.contains(directory)) {
+                Files.createDirectories(directory);
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+                watchedDirectories.add(directory);
+            }
+        } catch (IOException e) {
+            YACLConstants.LOGGER.error("Failed to watch config file '{}'. It will not be reloaded when edited.", file, e);
+            return this;
+        }
+
+        watchedFiles.computeIfAbsent(watchedFile, k -> new CopyOnWriteArrayList<>()).add(new Watched<>(handler, listener, file, applyExecutor));
+        return this;
+    }
+
+    private void run() {
+        // files with events, and when they may be reloaded if no more events arrive
+        Map<Path, Long> pending = new HashMap<>();
+
+        while (!closed) {
+            WatchKey key;
+            try {
+                if (pending.isEmpty()) {
+                    key = watchService.take();
+                } else {
+                    long wait = Collections.min(pending.values()) - System.nanoTime();
+                    key = watchService.poll(Math.max(0, wait), TimeUnit.NANOSECONDS);
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                break;
+            }
+
+            if (key != null) {
+                Path directory = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    long deadline = System.nanoTime() + DEBOUNCE_NANOS;
+
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // events were lost, so any file in the directory may have changed
+                        watchedFiles.keySet().stream()
+                                .filter(file -> file.getParent().equals(directory))
+                                .forEach(file -> pending.put(file, deadline));
+                        continue;
+                    }
+
+                    // events for anything else, like the temporary files saves are written to, are ignored
+                    Path file = directory.resolve((Path) event.context());
+                    if (watchedFiles.containsKey(file)) {
+                        pending.put(file, deadline);
+                    }
+                }
+                key.reset();
+            }
+
+            long now = System.nanoTime();
+            Iterator<Map.Entry<Path, Long>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Path, Long> entry = iterator.next();
+                if (entry.getValue() - now <= 0) {
+                    iterator.remove();
+                    watchedFiles.getOrDefault(entry.getKey(), List.of()).forEach(Watched::reload);
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                YACLConstants.LOGGER.warn("Failed to close config watcher.", e);
+            }
+        }
+    }
+
+    private record Watched<T>(ConfigClassHandler<T> handler, ReloadListener<T> listener, Path file, Executor applyExecutor) {
+        @SuppressWarnings("deprecation")
+        private void reload() {
+            try {
+                // YACL's own writes, and edits that leave the file as it was, are not reloaded
+                if (handler.serializer().isUnchangedOnDisk(file)) {
+                    return;
+                }
+
+                YACLConstants.LOGGER.info("Config file '{}' was changed outside of the game. Reloading config class '{}'.", file, handler.configClass().getSimpleName());
+
+                if (handler instanceof ConfigClassHandlerImpl<T> impl) {
+                    // read here, so only replacing the instance happens on the apply executor
+                    ConfigClassHandlerImpl.BufferedLoad<T> load = impl.loadIntoBuffer();
+                    applyExecutor.execute(() -> apply(() -> impl.applyLoad(load)));
+                } else {
+                    applyExecutor.execute(() -> apply(handler::load));
+                }
+            } catch (Exception e) {
+                YACLConstants.LOGGER.error("Failed to reload config class '{}' after its file was changed.", handler.configClass().getSimpleName(), e);
+            }
+        }
+
+        private void apply(BooleanSupplier load) {
+            // loading updates the instance in place, so what it held before must be copied to compare against
+            T oldInstance = ConfigSnapshotImpl.copyInstance(handler, handler.instance());
+            if (!load.getAsBoolean()) {
+                return;
+            }
+
+            List<ConfigField<?>> changedFields = ConfigDiff.changedFields(handler, oldInstance, handler.instance());
+            if (!changedFields.isEmpty()) {
+                listener.onReload(handler, changedFields);
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package dev.isxander.yacl3.config.v2.impl;
+
+import com.google.common.base.Suppliers;
+import dev.isxander.yacl3.config.v2.api.ConfigClassDescriptor;
+import dev.isxander.yacl3.config.v2.impl.autogen.YACLAutoGenException;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Accesses a field through the getter and setter generated in its {@link ConfigClassDescriptor}.
+ * Fields of a primitive type are read and written through the descriptor's primitive accessors, without boxing.
+ * The reflected {@link Field} is only looked up if something asks for it,
+ * such as reading the field's annotations when generating a GUI.
+ */
+public record DescriptorFieldAccess<T>(ConfigClassDescriptor.FieldDescriptor<Object, T> descriptor, Supplier<Field> reflectedField, Object instance) implements InstanceFieldAccess<T> {
+    /**
+     * Creates an access for a described field, falling back to {@link InstanceFieldAccess#of(Field, Object)}
+     * if the descriptor could not generate direct accessors for it.
+     */
+    public static <T> InstanceFieldAccess<T> of(ConfigClassDescriptor.FieldDescriptor<Object, T> descriptor, Class<?> owner, Object instance) {
+        Supplier<Field> reflectedField = Suppliers.memoize(() -> {
+            try {
+                Field field = owner.getDeclaredField(descriptor.name());
+                field.setAccessible(true);
+                return field;
+            } catch (NoSuchFieldException e) {
+                throw new YACLAutoGenException("Config descriptor of '%s' describes field '%s' which does not exist. Is the descriptor out of date?".formatted(owner.getName(), descriptor.name()), e);
+            }
+        });
+
+        if (descriptor.getter() == null || descriptor.setter() == null) {
+            return InstanceFieldAccess.of(reflectedField.get(), instance);
+        }
+
+        return new DescriptorFieldAccess<>(descriptor, reflectedField, instance);
+    }
+
+    @Override
+    public T get() {
+        return descriptor.getter().apply(instance);
+    }
+
+    @Override
+    public void set(T value) {
+        try {
+            descriptor.setter().accept(instance, value);
+        } catch (ClassCastException | NullPointerException e) {
+            throw new YACLAutoGenException("Failed to set field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public int getInt() {
+        ConfigClassDescriptor.PrimitiveAccessors<Object> primitive = descriptor.primitiveAccessors();
+        return primitive != null ? primitive.getInt(instance) : (Integer) get();
+    }
+
+    @Override
+    public void setInt(int value) {
+        ConfigClassDescriptor.PrimitiveAccessors<Object> primitive = descriptor.primitiveAccessors();
+        if (primitive != null) {
+            primitive.setInt(instance, value);
+        } else {
+            set((T) Integer.valueOf(value));
+        }
+    }
+
+    @Override
+    public long getLong() {
+        ConfigClassDescriptor.PrimitiveAccessors<Object> primitive = descriptor.primitiveAccessors();
+        return primitive != null ? primitive.getLong(instance) : (Long) get();
+    }
+
+    @Override
+    public void setLong(long value) {
+        ConfigClassDescriptor.PrimitiveAccessors<Object> primitive = descriptor.primitiveAccessors();
+        if (primitive != null) {
+            primitive.setLong(instance, value);
+        } else {
+            set((T) Long.valueOf(value));
+        }
+    }
+
+    @Override
+    public float getFloat() {
+        ConfigClassDescriptor.PrimitiveAccessors<Object> primitive = descriptor.primitiveAccessors();
+        return primitive != null ? primitive.getFloat(instance) : (Float) get();
+    }
+
+    @Override
+    public void setFloat(float value) {
+        ConfigClassDescriptor.PrimitiveAccessors<Object> primitive = descriptor.primitiveAccessors();
+        if (primitive != null) {
+            primitive.setFloat(instance, value);
+        } else {
+            set((T) Float.valueOf(value));
+        }
+    }
+
+    @Override
+    public double getDouble() {
+        ConfigClassDescriptor.PrimitiveAccessors<Object> primitive = descriptor.primitiveAccessors();
+        return primitive != null ? primitive.getDouble(instance) : (Double) get();
+    }
+
+    @Override
+    public void setDouble(double value) {
+        ConfigClassDescriptor.PrimitiveAccessors<Object> primitive = descriptor.primitiveAccessors();
+        if (primitive != null) {
+            primitive.setDouble(instance, value);
+        } else {
+            set((T) Double.valueOf(value));
+        }
+    }
+
+    @Override
+    public boolean getBoolean() {
+        ConfigClassDescriptor.PrimitiveAccessors<Object> primitive = descriptor.primitiveAccessors();
+        return primitive != null ? primitive.getBoolean(instance) : (Boolean) get();
+    }
+
+    @Override
+    public void setBoolean(boolean value) {
+        ConfigClassDescriptor.PrimitiveAccessors<Object> primitive = descriptor.primitiveAccessors();
+        if (primitive != null) {
+            primitive.setBoolean(instance, value);
+        } else {
+            set((T) Boolean.valueOf(value));
+        }
+    }
+
+    @Override
+    public Field field() {
+        return reflectedField.get();
+    }
+
+    @Override
+    public DescriptorFieldAccess<T> withInstance(Object instance) {
+        return new DescriptorFieldAccess<>(descriptor, reflectedField, instance);
+    }
+
+    @Override
+    public String name() {
+        return descriptor.name();
+    }
+
+    @Override
+    public Type type() {
+        return descriptor.type();
+    }
+
+    @Override
+    public Class<T> typeClass() {
+        return descriptor.typeClass();
+    }
+
+    @Override
+    public <A extends Annotation> Optional<A> getAnnotation(Class<A> annotationClass) {
+        return Optional.ofNullable(field().getAnnotation(annotationClass));
+    }
+}
@@ -1,10 +1,33 @@
 package dev.isxander.yacl3.config.v2.impl;
 
 import dev.isxander.yacl3.api.Binding;
+import dev.isxander.yacl3.api.DoubleBinding;
+import dev.isxander.yacl3.api.FloatBinding;
+import dev.isxander.yacl3.api.IntBinding;
+import dev.isxander.yacl3.api.LongBinding;
 import dev.isxander.yacl3.config.v2.api.FieldAccess;
 import dev.isxander.yacl3.config.v2.api.ReadOnlyFieldAccess;
 
 public record FieldBackedBinding<T>(FieldAccess<T> field, ReadOnlyFieldAccess<T> defaultField) implements Binding<T> {
+    /**
+     * Creates a binding to the field. Fields of primitive numbers get a binding
+     * to the primitive, which reads and writes the field without boxing.
+     */
+    public static <T> Binding<T> of(FieldAccess<T> field, ReadOnlyFieldAccess<T> defaultField) {
+        if (field instanceof InstanceFieldAccess<T> access && defaultField instanceof InstanceFieldAccess<T> defaultAccess) {
+            Class<T> type = access.typeClass();
+            if (type == int.class)
+                return (Binding<T>) new IntField((InstanceFieldAccess<Integer>) access, (InstanceFieldAccess<Integer>) defaultAccess);
+            if (type == long.class)
+                return (Binding<T>) new LongField((InstanceFieldAccess<Long>) access, (InstanceFieldAccess<Long>) defaultAccess);
+            if (type == float.class)
+                return (Binding<T>) new FloatField((InstanceFieldAccess<Float>) access, (InstanceFieldAccess<Float>) defaultAccess);
+            if (type == double.class)
+                return (Binding<T>) new DoubleField((InstanceFieldAccess<Double>) access, (InstanceFieldAccess<Double>) defaultAccess);
+        }
+        return new FieldBackedBinding<>(field, defaultField);
+    }
+
     @Override
     public T getValue() {
         return field.get();
@@ -19,4 +42,72 @@ public record FieldBackedBinding<T>(FieldAccess<T> field, ReadOnlyFieldAccess<T>
     public T defaultValue() {
         return defaultField.get();
     }
+
+    public record IntField(InstanceFieldAccess<Integer> field, InstanceFieldAccess<Integer> defaultField) implements IntBinding {
+        @Override
+        public int getInt() {
+            return field.getInt();
+        }
+
+        @Override
+        public void setInt(int value) {
+            field.setInt(value);
+        }
+
+        @Override
+        public int defaultInt() {
+            return defaultField.getInt();
+        }
+    }
+
+    public record LongField(InstanceFieldAccess<Long> field, InstanceFieldAccess<Long> defaultField) implements LongBinding {
+        @Override
+        public long getLong() {
+            return field.getLong();
+        }
+
+        @Override
+        public void setLong(long value) {
+            field.setLong(value);
+        }
+
+        @Override
+        public long defaultLong() {
+            return defaultField.getLong();
+        }
+    }
+
+    public record FloatField(InstanceFieldAccess<Float> field, InstanceFieldAccess<Float> defaultField) implements FloatBinding {
+        @Override
+        public float getFloat() {
+            return field.getFloat();
+        }
+
+        @Override
+        public void setFloat(float value) {
+            field.setFloat(value);
+        }
+
+        @Override
+        public float defaultFloat() {
+            return defaultField.getFloat();
+        }
+    }
+
+    public record DoubleField(InstanceFieldAccess<Double> field, InstanceFieldAccess<Double> defaultField) implements DoubleBinding {
+        @Override
+        public double getDouble() {
+            return field.getDouble();
+        }
+
+        @Override
+        public void setDouble(double value) {
+            field.setDouble(value);
+        }
+
+        @Override
+        public double defaultDouble() {
+            return defaultField.getDouble();
+        }
+    }
 }
@@ -0,0 +1,65 @@
+package dev.isxander.yacl3.config.v2.impl;
+
+import dev.isxander.yacl3.config.v2.api.FieldAccess;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.lang.reflect.Field;
+import java.util.Optional;
+
+/**
+ * A {@link FieldAccess} to a reflected field on a specific instance.
+ * Primitive accessors are provided so callers that know the field's type
+ * can read and write it without boxing.
+ *
+ * @param <T> the type of the field
+ */
+@ApiStatus.Internal
+public interface InstanceFieldAccess<T> extends FieldAccess<T> {
+    /**
+     * @return the backing reflected field
+     */
+    Field field();
+
+    /**
+     * @return the object the field is accessed on
+     */
+    Object instance();
+
+    /**
+     * Creates an access to the same field on a different instance.
+     * This is cheap, any lookups done to access the field are shared.
+     */
+    InstanceFieldAccess<T> withInstance(Object instance);
+
+    int getInt();
+
+    void setInt(int value);
+
+    long getLong();
+
+    void setLong(long value);
+
+    float getFloat();
+
+    void setFloat(float value);
+
+    double getDouble();
+
+    void setDouble(double value);
+
+    boolean getBoolean();
+
+    void setBoolean(boolean value);
+
+    /**
+     * Creates an access for the field through {@link MethodHandleFieldAccess},
+     * or through reflection if the field's handles cannot be looked up.
+     */
+    static <T> InstanceFieldAccess<T> of(Field field, Object instance) {
+        Optional<MethodHandleFieldAccess<T>> methodHandleAccess = MethodHandleFieldAccess.tryCreate(field, instance);
+        if (methodHandleAccess.isPresent()) {
+            return methodHandleAccess.get();
+        }
+        return new ReflectionFieldAccess<>(field, instance);
+    }
+}
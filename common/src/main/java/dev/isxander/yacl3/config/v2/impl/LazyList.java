@@ -0,0 +1,111 @@
+package dev.isxander.yacl3.config.v2.impl;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * A list that holds its serialized form until any of its contents are used,
+ * only then deserializing it. Once loaded, it behaves like the list it was loaded into.
+ *
+ * @param <E> the element type
+ */
+@ApiStatus.Internal
+public final class LazyList<E> extends AbstractList<E> implements RandomAccess {
+    private final byte[] serialized;
+    private final Function<byte[], List<E>> loader;
+    private volatile List<E> delegate;
+
+    /**
+     * @param serialized the serialized form of the list
+     * @param loader deserializes the list. It must not throw, and should fall back to a default instead.
+     */
+    public LazyList(byte[] serialized, Function<byte[], List<E>> loader) {
+        this.serialized = serialized;
+        this.loader = loader;
+    }
+
+    /**
+     * @return if the list has been deserialized
+     */
+    public boolean isLoaded() {
+        return delegate != null;
+    }
+
+    /**
+     * @return the serialized form the list was created with. This does not reflect any changes since it was loaded.
+     */
+    public byte[] serialized() {
+        return serialized;
+    }
+
+    /**
+     * @return a list with the same contents that is independent of this one,
+     *         staying unloaded if this list is not loaded yet
+     */
+    public List<E> copy() {
+        List<E> delegate = this.delegate;
+        return delegate == null ? new LazyList<>(serialized, loader) : new ArrayList<>(delegate);
+    }
+
+    private List<E> delegate() {
+        List<E> delegate = this.delegate;
+        if (delegate == null) {
+            synchronized (this) {
+                delegate = this.delegate;
+                if (delegate == null) {
+                    delegate = loader.apply(serialized);
+                    this.delegate = delegate;
+                }
+            }
+        }
+        return delegate;
+    }
+
+    @Override
+    public E get(int index) {
+        return delegate().get(index);
+    }
+
+    @Override
+    public int size() {
+        return delegate().size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return delegate().set(index, element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        delegate().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = delegate().remove(index);
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        // two unloaded lists with the same serialized form are equal without loading either
+        if (o instanceof LazyList<?> other && !isLoaded() && !other.isLoaded() && Arrays.equals(serialized, other.serialized)) {
+            return true;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
@@ -0,0 +1,194 @@
+package dev.isxander.yacl3.config.v2.impl;
+
+import dev.isxander.yacl3.config.v2.impl.autogen.YACLAutoGenException;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.Optional;
+
+/**
+ * Accesses a field through method handles which, unlike {@link Field#get(Object)}, skip access checks on every call.
+ * The handles are looked up once per field, adapted once to the exact types they are invoked with,
+ * and shared between instances, so no call needs to adapt or box anything the field doesn't.
+ * Fields of a primitive type also get handles of that type, used by the primitive accessors.
+ */
+@ApiStatus.Internal
+public record MethodHandleFieldAccess<T>(Field field, Handles handles, Object instance) implements InstanceFieldAccess<T> {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * Attempts to look up the handles of the field, which must already be accessible.
+     */
+    public static <T> Optional<MethodHandleFieldAccess<T>> tryCreate(Field field, Object instance) {
+        if (Modifier.isStatic(field.getModifiers())) {
+            return Optional.empty();
+        }
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle getter = lookup.unreflectGetter(field);
+            MethodHandle setter = lookup.unreflectSetter(field);
+
+            Class<?> type = field.getType();
+            Handles handles = new Handles(
+                    getter.asType(GETTER_TYPE),
+                    setter.asType(SETTER_TYPE),
+                    type.isPrimitive() ? getter.asType(MethodType.methodType(type, Object.class)) : null,
+                    type.isPrimitive() ? setter.asType(MethodType.methodType(void.class, Object.class, type)) : null
+            );
+            return Optional.of(new MethodHandleFieldAccess<>(field, handles, instance));
+        } catch (IllegalAccessException | SecurityException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public T get() {
+        try {
+            return (T) (Object) handles.getter().invokeExact(instance);
+        } catch (Throwable e) {
+            throw new YACLAutoGenException("Failed to access field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public void set(T value) {
+        try {
+            handles.setter().invokeExact(instance, (Object) value);
+        } catch (Throwable e) {
+            throw new YACLAutoGenException("Failed to set field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public int getInt() {
+        try {
+            return (int) handles.primitiveGetter().invokeExact(instance);
+        } catch (Throwable e) {
+            throw new YACLAutoGenException("Failed to access field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public void setInt(int value) {
+        try {
+            handles.primitiveSetter().invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw new YACLAutoGenException("Failed to set field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public long getLong() {
+        try {
+            return (long) handles.primitiveGetter().invokeExact(instance);
+        } catch (Throwable e) {
+            throw new YACLAutoGenException("Failed to access field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public void setLong(long value) {
+        try {
+            handles.primitiveSetter().invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw new YACLAutoGenException("Failed to set field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public float getFloat() {
+        try {
+            return (float) handles.primitiveGetter().invokeExact(instance);
+        } catch (Throwable e) {
+            throw new YACLAutoGenException("Failed to access field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public void setFloat(float value) {
+        try {
+            handles.primitiveSetter().invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw new YACLAutoGenException("Failed to set field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public double getDouble() {
+        try {
+            return (double) handles.primitiveGetter().invokeExact(instance);
+        } catch (Throwable e) {
+            throw new YACLAutoGenException("Failed to access field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public void setDouble(double value) {
+        try {
+            handles.primitiveSetter().invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw new YACLAutoGenException("Failed to set field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public boolean getBoolean() {
+        try {
+            return (boolean) handles.primitiveGetter().invokeExact(instance);
+        } catch (Throwable e) {
+            throw new YACLAutoGenException("Failed to access field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public void setBoolean(boolean value) {
+        try {
+            handles.primitiveSetter().invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw new YACLAutoGenException("Failed to set field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public MethodHandleFieldAccess<T> withInstance(Object instance) {
+        return new MethodHandleFieldAccess<>(field, handles, instance);
+    }
+
+    @Override
+    public String name() {
+        return field.getName();
+    }
+
+    @Override
+    public Type type() {
+        return field.getGenericType();
+    }
+
+    @Override
+    public Class<T> typeClass() {
+        return (Class<T>) field.getType();
+    }
+
+    @Override
+    public <A extends Annotation> Optional<A> getAnnotation(Class<A> annotationClass) {
+        return Optional.ofNullable(field.getAnnotation(annotationClass));
+    }
+
+    /**
+     * @param getter           typed {@code (Object)Object}
+     * @param setter           typed {@code (Object, Object)void}
+     * @param primitiveGetter  typed {@code (Object)P} for a field of primitive type {@code P}, otherwise null
+     * @param primitiveSetter  typed {@code (Object, P)void} for a field of primitive type {@code P}, otherwise null
+     */
+    public record Handles(MethodHandle getter, MethodHandle setter, @Nullable MethodHandle primitiveGetter, @Nullable MethodHandle primitiveSetter) {
+    }
+}
@@ -1,6 +1,5 @@
 package dev.isxander.yacl3.config.v2.impl;
 
-import dev.isxander.yacl3.config.v2.api.FieldAccess;
 import dev.isxander.yacl3.config.v2.impl.autogen.YACLAutoGenException;
 
 import java.lang.annotation.Annotation;
@@ -8,7 +7,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.util.Optional;
 
-public record ReflectionFieldAccess<T>(Field field, Object instance) implements FieldAccess<T> {
+public record ReflectionFieldAccess<T>(Field field, Object instance) implements InstanceFieldAccess<T> {
     @Override
     public T get() {
         try {
@@ -27,6 +26,101 @@ public record ReflectionFieldAccess<T>(Field field, Object instance) implements
         }
     }
 
+    @Override
+    public int getInt() {
+        try {
+            return field.getInt(instance);
+        } catch (IllegalAccessException e) {
+            throw new YACLAutoGenException("Failed to access field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public void setInt(int value) {
+        try {
+            field.setInt(instance, value);
+        } catch (IllegalAccessException e) {
+            throw new YACLAutoGenException("Failed to set field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public long getLong() {
+        try {
+            return field.getLong(instance);
+        } catch (IllegalAccessException e) {
+            throw new YACLAutoGenException("Failed to access field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public void setLong(long value) {
+        try {
+            field.setLong(instance, value);
+        } catch (IllegalAccessException e) {
+            throw new YACLAutoGenException("Failed to set field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public float getFloat() {
+        try {
+            return field.getFloat(instance);
+        } catch (IllegalAccessException e) {
+            throw new YACLAutoGenException("Failed to access field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public void setFloat(float value) {
+        try {
+            field.setFloat(instance, value);
+        } catch (IllegalAccessException e) {
+            throw new YACLAutoGenException("Failed to set field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public double getDouble() {
+        try {
+            return field.getDouble(instance);
+        } catch (IllegalAccessException e) {
+            throw new YACLAutoGenException("Failed to access field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public void setDouble(double value) {
+        try {
+            field.setDouble(instance, value);
+        } catch (IllegalAccessException e) {
+            throw new YACLAutoGenException("Failed to set field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public boolean getBoolean() {
+        try {
+            return field.getBoolean(instance);
+        } catch (IllegalAccessException e) {
+            throw new YACLAutoGenException("Failed to access field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public void setBoolean(boolean value) {
+        try {
+            field.setBoolean(instance, value);
+        } catch (IllegalAccessException e) {
+            throw new YACLAutoGenException("Failed to set field '%s'".formatted(name()), e);
+        }
+    }
+
+    @Override
+    public ReflectionFieldAccess<T> withInstance(Object instance) {
+        return new ReflectionFieldAccess<>(field, instance);
+    }
+
     @Override
     public String name() {
         return field.getName();
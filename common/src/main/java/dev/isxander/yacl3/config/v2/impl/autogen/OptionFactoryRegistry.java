@@ -5,6 +5,7 @@ import dev.isxander.yacl3.config.v2.api.ConfigField;
 import dev.isxander.yacl3.config.v2.api.autogen.OptionFactory;
 import dev.isxander.yacl3.config.v2.api.autogen.*;
 import dev.isxander.yacl3.config.v2.api.autogen.Boolean;
+import dev.isxander.yacl3.config.v2.impl.ConfigFieldImpl;
 import dev.isxander.yacl3.impl.utils.YACLConstants;
 
 import java.lang.annotation.Annotation;
@@ -44,6 +45,14 @@ public class OptionFactoryRegistry {
     }
 
     public static <T> Optional<Option<T>> createOption(Field field, ConfigField<T> configField, OptionAccess storage) {
+        // the annotation processor may have already found the factory annotation, skip scanning for it
+        if (configField instanceof ConfigFieldImpl<T> configFieldImpl && configFieldImpl.factoryAnnotation() != null) {
+            Annotation annotation = field.getAnnotation(configFieldImpl.factoryAnnotation());
+            if (annotation != null && factoryMap.containsKey(annotation.annotationType())) {
+                return Optional.of(createOption(annotation, configField, storage));
+            }
+        }
+
         Annotation[] annotations = Arrays.stream(field.getAnnotations())
                 .filter(annotation -> factoryMap.containsKey(annotation.annotationType()))
                 .toArray(Annotation[]::new);
@@ -56,9 +65,12 @@ public class OptionFactoryRegistry {
             }
         }
 
-        Annotation annotation = annotations[0];
+        return Optional.of(createOption(annotations[0], configField, storage));
+    }
+
+    private static <T> Option<T> createOption(Annotation annotation, ConfigField<T> configField, OptionAccess storage) {
         // noinspection unchecked
         OptionFactory<Annotation, T> factory = (OptionFactory<Annotation, T>) factoryMap.get(annotation.annotationType());
-        return Optional.of(factory.createOption(annotation, configField, storage));
+        return factory.createOption(annotation, configField, storage);
     }
 }
@@ -0,0 +1,158 @@
+package dev.isxander.yacl3.config.v2.impl.codec;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the format-neutral values used by {@link dev.isxander.yacl3.config.v2.api.codec.ConfigCodec codecs}
+ * in a compact, tagged binary form.
+ * <p>
+ * Each value is a one byte tag followed by its data. Whole numbers and lengths are variable length,
+ * so small values take a single byte.
+ */
+@ApiStatus.Internal
+public final class BinaryValues {
+    /** Guards against corrupt data describing absurdly deep nesting. */
+    private static final int MAX_DEPTH = 512;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_FALSE = 1;
+    private static final byte TAG_TRUE = 2;
+    private static final byte TAG_LONG = 3;
+    private static final byte TAG_DOUBLE = 4;
+    private static final byte TAG_STRING = 5;
+    private static final byte TAG_LIST = 6;
+    private static final byte TAG_MAP = 7;
+
+    private BinaryValues() {
+    }
+
+    public static void writeValue(DataOutput out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof Boolean bool) {
+            out.writeByte(bool ? TAG_TRUE : TAG_FALSE);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.writeByte(TAG_LONG);
+            long number = ((Number) value).longValue();
+            // zigzag encoded so small negative numbers stay small
+            writeVarLong(out, (number << 1) ^ (number >> 63));
+        } else if (value instanceof Number number) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble(number.doubleValue());
+        } else if (value instanceof String string) {
+            out.writeByte(TAG_STRING);
+            writeString(out, string);
+        } else if (value instanceof List<?> list) {
+            out.writeByte(TAG_LIST);
+            writeVarLong(out, list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            out.writeByte(TAG_MAP);
+            writeVarLong(out, map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(out, String.valueOf(entry.getKey()));
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            throw new IOException("%s is not a format-neutral value.".formatted(value.getClass().getName()));
+        }
+    }
+
+    private static void writeString(DataOutput out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    public static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads a value written by {@link #writeValue(DataOutput, Object)}. Data which ends early
+     * throws a {@link java.nio.BufferUnderflowException}.
+     */
+    public static Object readValue(ByteBuffer in) throws IOException {
+        return readValue(in, 0);
+    }
+
+    private static Object readValue(ByteBuffer in, int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new IOException("Binary data is nested too deeply.");
+        }
+
+        byte tag = in.get();
+        return switch (tag) {
+            case TAG_NULL -> null;
+            case TAG_FALSE -> false;
+            case TAG_TRUE -> true;
+            case TAG_LONG -> {
+                long zigzag = readVarLong(in);
+                yield (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+            case TAG_DOUBLE -> in.getDouble();
+            case TAG_STRING -> readString(in);
+            case TAG_LIST -> {
+                int size = readLength(in);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in, depth + 1));
+                }
+                yield list;
+            }
+            case TAG_MAP -> {
+                int size = readLength(in);
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    map.put(readString(in), readValue(in, depth + 1));
+                }
+                yield map;
+            }
+            default -> throw new IOException("Unknown value tag %d in binary data.".formatted(tag));
+        };
+    }
+
+    private static String readString(ByteBuffer in) throws IOException {
+        byte[] bytes = new byte[readLength(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a length, which can never be more than the bytes left as every element takes at least one.
+     */
+    private static int readLength(ByteBuffer in) throws IOException {
+        long length = readVarLong(in);
+        if (length < 0 || length > in.remaining()) {
+            throw new IOException("Binary data has an invalid length of %d.".formatted(length));
+        }
+        return (int) length;
+    }
+
+    public static long readVarLong(ByteBuffer in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Binary data has a malformed number.");
+    }
+}
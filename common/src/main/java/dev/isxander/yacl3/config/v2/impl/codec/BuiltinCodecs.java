@@ -0,0 +1,242 @@
+package dev.isxander.yacl3.config.v2.impl.codec;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.mojang.serialization.JsonOps;
+import dev.isxander.yacl3.config.v2.api.codec.ConfigCodec;
+import dev.isxander.yacl3.config.v2.api.codec.ConfigCodecRegistry;
+import dev.isxander.yacl3.gui.utils.ItemRegistryHelper;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.Style;
+import net.minecraft.world.item.Item;
+
+import java.awt.*;
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static dev.isxander.yacl3.config.v2.impl.codec.ConfigCodecRegistryImpl.rawType;
+import static dev.isxander.yacl3.config.v2.impl.codec.ConfigCodecRegistryImpl.typeArgument;
+
+/**
+ * The codecs every {@link ConfigCodecRegistry#create() default registry} starts with.
+ */
+final class BuiltinCodecs {
+    // components only expose their serialization through gson
+    private static final Gson COMPONENT_GSON = new GsonBuilder()
+            .registerTypeHierarchyAdapter(Component.class, new Component.SerializerAdapter())
+            .create();
+
+    private BuiltinCodecs() {
+    }
+
+    static void registerDefaults(ConfigCodecRegistry registry) {
+        ConfigCodec<Boolean> bool = ConfigCodec.of(value -> value, value -> cast(value, Boolean.class));
+        registry.register(boolean.class, bool).register(Boolean.class, bool);
+
+        ConfigCodec<Byte> byteCodec = ConfigCodec.of(Byte::longValue, value -> (byte) integral(value, Byte.MIN_VALUE, Byte.MAX_VALUE));
+        registry.register(byte.class, byteCodec).register(Byte.class, byteCodec);
+
+        ConfigCodec<Short> shortCodec = ConfigCodec.of(Short::longValue, value -> (short) integral(value, Short.MIN_VALUE, Short.MAX_VALUE));
+        registry.register(short.class, shortCodec).register(Short.class, shortCodec);
+
+        ConfigCodec<Integer> intCodec = ConfigCodec.of(Integer::longValue, value -> (int) integral(value, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        registry.register(int.class, intCodec).register(Integer.class, intCodec);
+
+        ConfigCodec<Long> longCodec = ConfigCodec.of(value -> value, value -> integral(value, Long.MIN_VALUE, Long.MAX_VALUE));
+        registry.register(long.class, longCodec).register(Long.class, longCodec);
+
+        // written through its shortest decimal form, so 0.1f is stored as 0.1 rather than 0.10000000149011612
+        ConfigCodec<Float> floatCodec = ConfigCodec.of(value -> Double.parseDouble(Float.toString(value)), value -> cast(value, Number.class).floatValue());
+        registry.register(float.class, floatCodec).register(Float.class, floatCodec);
+
+        ConfigCodec<Double> doubleCodec = ConfigCodec.of(value -> value, value -> cast(value, Number.class).doubleValue());
+        registry.register(double.class, doubleCodec).register(Double.class, doubleCodec);
+
+        ConfigCodec<Character> charCodec = ConfigCodec.of(String::valueOf, value -> {
+            String string = cast(value, String.class);
+            if (string.length() != 1) {
+                throw new IllegalArgumentException("Expected a single character but found '%s'.".formatted(string));
+            }
+            return string.charAt(0);
+        });
+        registry.register(char.class, charCodec).register(Character.class, charCodec);
+
+        registry.register(String.class, ConfigCodec.of(value -> value, value -> cast(value, String.class)));
+
+        // the same ARGB integer the gson serializer writes, with the unsigned form accepted for hand-written hex
+        registry.registerHierarchy(Color.class, ConfigCodec.of(
+                color -> (long) color.getRGB(),
+                value -> new Color((int) integral(value, Integer.MIN_VALUE, 0xFFFFFFFFL), true)
+        ));
+
+        registry.registerHierarchy(Item.class, ConfigCodec.of(
+                item -> BuiltInRegistries.ITEM.getKey(item).toString(),
+                value -> ItemRegistryHelper.getItemFromName(cast(value, String.class))
+        ));
+
+        registry.registerHierarchy(Component.class, ConfigCodec.of(
+                component -> ConfigValues.fromJson(COMPONENT_GSON.toJsonTree(component, Component.class)),
+                value -> COMPONENT_GSON.fromJson(ConfigValues.toJson(value), Component.class)
+        ));
+
+        registry.registerHierarchy(Style.class, ConfigCodec.of(
+                style -> ConfigValues.fromJson(Style.Serializer.CODEC.encodeStart(JsonOps.INSTANCE, style).getOrThrow(false, error -> {})),
+                value -> Style.Serializer.CODEC.parse(JsonOps.INSTANCE, ConfigValues.toJson(value)).getOrThrow(false, error -> {})
+        ));
+
+        registry.registerFactory(BuiltinCodecs::enumCodec);
+        registry.registerFactory(BuiltinCodecs::arrayCodec);
+        registry.registerFactory(BuiltinCodecs::collectionCodec);
+        registry.registerFactory(BuiltinCodecs::mapCodec);
+    }
+
+    private static Optional<ConfigCodec<?>> enumCodec(Type type, ConfigCodecRegistry registry) {
+        Class<?> raw = rawType(type);
+        return raw.isEnum() ? Optional.of(enumCodec(raw)) : Optional.empty();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ConfigCodec<?> enumCodec(Class<?> enumClass) {
+        return ConfigCodec.<Enum>of(Enum::name, value -> Enum.valueOf((Class) enumClass, cast(value, String.class)));
+    }
+
+    private static Optional<ConfigCodec<?>> arrayCodec(Type type, ConfigCodecRegistry registry) {
+        Class<?> raw = rawType(type);
+        if (!raw.isArray()) {
+            return Optional.empty();
+        }
+
+        Class<?> componentClass = raw.getComponentType();
+        Type componentType = type instanceof GenericArrayType genericArray ? genericArray.getGenericComponentType() : componentClass;
+        return registry.find(componentType).map(component -> {
+            ConfigCodec<Object> elementCodec = unchecked(component);
+            return ConfigCodec.<Object>of(
+                    array -> {
+                        int length = Array.getLength(array);
+                        List<Object> encoded = new ArrayList<>(length);
+                        for (int i = 0; i < length; i++) {
+                            encoded.add(encodeNullable(elementCodec, Array.get(array, i)));
+                        }
+                        return encoded;
+                    },
+                    value -> {
+                        List<?> list = cast(value, List.class);
+                        Object array = Array.newInstance(componentClass, list.size());
+                        for (int i = 0; i < list.size(); i++) {
+                            Array.set(array, i, decodeNullable(elementCodec, list.get(i)));
+                        }
+                        return array;
+                    }
+            );
+        });
+    }
+
+    private static Optional<ConfigCodec<?>> collectionCodec(Type type, ConfigCodecRegistry registry) {
+        Class<?> raw = rawType(type);
+        Supplier<Collection<Object>> factory;
+        if (raw == List.class || raw == Collection.class || raw == Iterable.class || raw == ArrayList.class) {
+            factory = ArrayList::new;
+        } else if (raw == Set.class || raw == HashSet.class || raw == LinkedHashSet.class) {
+            factory = LinkedHashSet::new;
+        } else {
+            return Optional.empty();
+        }
+
+        return registry.find(typeArgument(type, 0)).map(found -> {
+            ConfigCodec<Object> elementCodec = unchecked(found);
+            return ConfigCodec.<Iterable<?>>of(
+                    iterable -> {
+                        List<Object> encoded = new ArrayList<>();
+                        for (Object value : iterable) {
+                            encoded.add(encodeNullable(elementCodec, value));
+                        }
+                        return encoded;
+                    },
+                    value -> {
+                        Collection<Object> decoded = factory.get();
+                        for (Object element : cast(value, List.class)) {
+                            decoded.add(decodeNullable(elementCodec, element));
+                        }
+                        return decoded;
+                    }
+            );
+        });
+    }
+
+    private static Optional<ConfigCodec<?>> mapCodec(Type type, ConfigCodecRegistry registry) {
+        Class<?> raw = rawType(type);
+        if (raw != Map.class && raw != HashMap.class && raw != LinkedHashMap.class) {
+            return Optional.empty();
+        }
+        // every format keys its tables by string
+        if (rawType(typeArgument(type, 0)) != String.class) {
+            return Optional.empty();
+        }
+
+        return registry.find(typeArgument(type, 1)).map(valueCodec -> {
+            ConfigCodec<Object> codec = unchecked(valueCodec);
+            return ConfigCodec.<Map<?, ?>>of(
+                    map -> {
+                        Map<String, Object> encoded = new LinkedHashMap<>();
+                        for (Map.Entry<?, ?> entry : map.entrySet()) {
+                            encoded.put((String) entry.getKey(), encodeNullable(codec, entry.getValue()));
+                        }
+                        return encoded;
+                    },
+                    value -> {
+                        Map<?, ?> map = cast(value, Map.class);
+                        Map<String, Object> decoded = new LinkedHashMap<>();
+                        for (Map.Entry<?, ?> entry : map.entrySet()) {
+                            decoded.put((String) entry.getKey(), decodeNullable(codec, entry.getValue()));
+                        }
+                        return decoded;
+                    }
+            );
+        });
+    }
+
+    private static Object encodeNullable(ConfigCodec<Object> codec, Object value) {
+        return value == null ? null : codec.encode(value);
+    }
+
+    private static Object decodeNullable(ConfigCodec<Object> codec, Object value) {
+        return value == null ? null : codec.decode(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConfigCodec<Object> unchecked(ConfigCodec<?> codec) {
+        return (ConfigCodec<Object>) codec;
+    }
+
+    private static <V> V cast(Object value, Class<V> type) {
+        if (!type.isInstance(value)) {
+            throw new IllegalArgumentException("Expected %s but found %s.".formatted(type.getSimpleName(), value.getClass().getSimpleName()));
+        }
+        return type.cast(value);
+    }
+
+    private static long integral(Object value, long min, long max) {
+        Number number = cast(value, Number.class);
+        long integral = number.longValue();
+        if ((number instanceof Double || number instanceof Float) && number.doubleValue() != integral) {
+            throw new IllegalArgumentException("Expected a whole number but found %s.".formatted(number));
+        }
+        if (integral < min || integral > max) {
+            throw new IllegalArgumentException("%s is out of range, expected %d to %d.".formatted(number, min, max));
+        }
+        return integral;
+    }
+}
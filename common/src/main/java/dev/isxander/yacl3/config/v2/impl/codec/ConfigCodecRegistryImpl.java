@@ -0,0 +1,115 @@
+package dev.isxander.yacl3.config.v2.impl.codec;
+
+import dev.isxander.yacl3.config.v2.api.codec.ConfigCodec;
+import dev.isxander.yacl3.config.v2.api.codec.ConfigCodecRegistry;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@ApiStatus.Internal
+public class ConfigCodecRegistryImpl implements ConfigCodecRegistry {
+    private final Map<Class<?>, ConfigCodec<?>> exact = new ConcurrentHashMap<>();
+    private final List<Map.Entry<Class<?>, ConfigCodec<?>>> hierarchy = new CopyOnWriteArrayList<>();
+    private final List<Factory> factories = new CopyOnWriteArrayList<>();
+    // resolving generic types walks the factories, so only do it once per type
+    private final Map<Type, Optional<ConfigCodec<?>>> cache = new ConcurrentHashMap<>();
+
+    public static ConfigCodecRegistryImpl createDefault() {
+        ConfigCodecRegistryImpl registry = new ConfigCodecRegistryImpl();
+        BuiltinCodecs.registerDefaults(registry);
+        return registry;
+    }
+
+    @Override
+    public <T> ConfigCodecRegistry register(Class<T> type, ConfigCodec<T> codec) {
+        exact.put(type, codec);
+        cache.clear();
+        return this;
+    }
+
+    @Override
+    public <T> ConfigCodecRegistry registerHierarchy(Class<T> type, ConfigCodec<T> codec) {
+        hierarchy.add(Map.entry(type, codec));
+        cache.clear();
+        return this;
+    }
+
+    @Override
+    public ConfigCodecRegistry registerFactory(Factory factory) {
+        factories.add(factory);
+        cache.clear();
+        return this;
+    }
+
+    @Override
+    public Optional<ConfigCodec<?>> find(Type type) {
+        // factories look up their type arguments through this, so computeIfAbsent cannot be used
+        Optional<ConfigCodec<?>> cached = cache.get(type);
+        if (cached != null) {
+            return cached;
+        }
+
+        Optional<ConfigCodec<?>> codec = resolve(type);
+        cache.put(type, codec);
+        return codec;
+    }
+
+    private Optional<ConfigCodec<?>> resolve(Type type) {
+        if (type instanceof Class<?> clazz && exact.containsKey(clazz)) {
+            return Optional.of(exact.get(clazz));
+        }
+
+        for (int i = factories.size() - 1; i >= 0; i--) {
+            Optional<ConfigCodec<?>> codec = factories.get(i).create(type, this);
+            if (codec.isPresent()) {
+                return codec;
+            }
+        }
+
+        Class<?> raw = rawType(type);
+        for (int i = hierarchy.size() - 1; i >= 0; i--) {
+            Map.Entry<Class<?>, ConfigCodec<?>> entry = hierarchy.get(i);
+            if (entry.getKey().isAssignableFrom(raw)) {
+                return Optional.of(entry.getValue());
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    public static Class<?> rawType(Type type) {
+        if (type instanceof Class<?> clazz) {
+            return clazz;
+        } else if (type instanceof ParameterizedType parameterized) {
+            return rawType(parameterized.getRawType());
+        } else if (type instanceof GenericArrayType array) {
+            return Array.newInstance(rawType(array.getGenericComponentType()), 0).getClass();
+        } else if (type instanceof WildcardType wildcard) {
+            return rawType(wildcard.getUpperBounds()[0]);
+        } else if (type instanceof TypeVariable<?> variable) {
+            return rawType(variable.getBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    /**
+     * @return the type argument at the index, or {@link Object} if the type is raw
+     */
+    public static Type typeArgument(Type type, int index) {
+        if (type instanceof ParameterizedType parameterized) {
+            Type argument = parameterized.getActualTypeArguments()[index];
+            return argument instanceof WildcardType wildcard ? wildcard.getUpperBounds()[0] : argument;
+        }
+        return Object.class;
+    }
+}
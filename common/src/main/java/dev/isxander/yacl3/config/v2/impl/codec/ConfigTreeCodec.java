@@ -0,0 +1,249 @@
+package dev.isxander.yacl3.config.v2.impl.codec;
+
+import dev.isxander.yacl3.config.v2.api.*;
+import dev.isxander.yacl3.config.v2.api.codec.ConfigCodec;
+import dev.isxander.yacl3.config.v2.api.codec.ConfigCodecRegistry;
+import dev.isxander.yacl3.config.v2.impl.ConfigFieldImpl;
+import dev.isxander.yacl3.impl.utils.YACLConstants;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Converts the fields of a config class to and from a tree of format-neutral values,
+ * using the handler's field metadata for nested {@link SerialEntry} objects and a
+ * {@link ConfigCodecRegistry} for everything else.
+ */
+@ApiStatus.Internal
+public class ConfigTreeCodec {
+    private final ConfigClassHandler<?> config;
+    private final ConfigCodecRegistry codecs;
+    private final boolean nullsOmitted;
+    private final Map<ConfigField<?>, ConfigCodec<Object>> codecCache = new ConcurrentHashMap<>();
+
+    /**
+     * @param nullsOmitted if the tree is stored somewhere that cannot hold null, so null values are
+     *                     left out of it and nullable fields missing from it are decoded as null
+     */
+    public ConfigTreeCodec(ConfigClassHandler<?> config, ConfigCodecRegistry codecs, boolean nullsOmitted) {
+        this.config = config;
+        this.codecs = codecs;
+        this.nullsOmitted = nullsOmitted;
+    }
+
+    /**
+     * Encodes every serial field. null values are included in the tree.
+     *
+     * @param path the serial names leading to the fields
+     * @param comments receives the comment of each field, keyed by the serial names leading to it, if not null
+     */
+    public Map<String, Object> encodeFields(ConfigField<?>[] fields, Function<ConfigField<?>, ? extends ReadOnlyFieldAccess<?>> accessFunction, List<String> path, @Nullable Map<List<String>, String> comments) throws IOException {
+        Map<String, Object> output = new LinkedHashMap<>();
+        for (ConfigField<?> field : fields) {
+            SerialField serial = field.serial().orElse(null);
+            if (serial == null) continue;
+
+            List<String> fieldPath = append(path, serial.serialName());
+            if (comments != null) {
+                serial.comment().ifPresent(comment -> comments.put(fieldPath, comment));
+            }
+
+            output.put(serial.serialName(), encodeValue(field, accessFunction.apply(field).get(), fieldPath, comments));
+        }
+        return output;
+    }
+
+    /**
+     * Encodes the value of a single field, which may be a nested {@link SerialEntry} object.
+     */
+    public @Nullable Object encodeValue(ConfigField<?> field, @Nullable Object value, List<String> path, @Nullable Map<List<String>, String> comments) throws IOException {
+        if (value == null) {
+            return null;
+        }
+
+        Class<?> type = field.defaultAccess().typeClass();
+        if (config.hasSubclass(type)) {
+            // subclass fields are only metadata, they must be pointed at the object being written
+            return encodeFields(config.subclassFields(type), subclassField -> accessOn(subclassField, value), path, comments);
+        }
+
+        try {
+            return codec(field).encode(value);
+        } catch (Exception e) {
+            throw new IOException("Failed to serialize config field '%s'.".formatted(String.join(".", path)), e);
+        }
+    }
+
+    private ConfigCodec<Object> codec(ConfigField<?> field) {
+        return codecCache.computeIfAbsent(field, f -> (ConfigCodec<Object>) codecs.find(f.defaultAccess().type())
+                .orElseThrow(() -> new IllegalStateException("No codec is registered for type '%s'. Register one with `appendCodecs`.".formatted(f.defaultAccess().type().getTypeName()))));
+    }
+
+    /**
+     * @param accessFunction gets the buffer access each field should be decoded into
+     * @param prefix the serial path of the object, used to identify nested fields in logs
+     * @param partial if the values only cover some fields, so those missing are left as they are
+     */
+    public ObjectDecoder decoder(ConfigField<?>[] fields, Function<ConfigField<?>, FieldAccess<?>> accessFunction, String prefix, boolean partial) {
+        return new ObjectDecoder(fields, accessFunction, prefix, partial);
+    }
+
+    /**
+     * Decodes the values of a single object into their fields.
+     * Unknown keys are skipped and missing required keys mark the config as dirty.
+     */
+    public class ObjectDecoder {
+        private final Map<String, ConfigField<?>> fieldMap;
+        private final Set<String> missingFields;
+        private final Function<ConfigField<?>, FieldAccess<?>> accessFunction;
+        private final String prefix;
+        private final boolean partial;
+        private boolean dirty;
+
+        private ObjectDecoder(ConfigField<?>[] fields, Function<ConfigField<?>, FieldAccess<?>> accessFunction, String prefix, boolean partial) {
+            this.fieldMap = Arrays.stream(fields)
+                    .filter(field -> field.serial().isPresent())
+                    .collect(Collectors.toMap(f -> f.serial().orElseThrow().serialName(), Function.identity()));
+            this.missingFields = new HashSet<>(fieldMap.keySet());
+            this.accessFunction = accessFunction;
+            this.prefix = prefix;
+            this.partial = partial;
+        }
+
+        public void decode(String name, @Nullable Object value) {
+            ConfigField<?> field = fieldMap.get(name);
+            missingFields.remove(name);
+
+            if (field == null) {
+                YACLConstants.LOGGER.warn("Found unknown config field '{}'.", prefix + name);
+                return;
+            }
+
+            dirty |= decodeField(field, accessFunction.apply(field), value, prefix + name, partial);
+        }
+
+        public void decodeAll(Map<?, ?> values) {
+            for (Map.Entry<?, ?> entry : values.entrySet()) {
+                decode((String) entry.getKey(), entry.getValue());
+            }
+        }
+
+        /**
+         * @return if the config should be marked as dirty
+         */
+        public boolean finish() {
+            if (partial) {
+                return dirty;
+            }
+
+            for (String missingField : missingFields) {
+                ConfigField<?> field = fieldMap.get(missingField);
+                SerialField serial = field.serial().orElseThrow();
+
+                if (serial.nullable() && nullsOmitted) {
+                    setValue(accessFunction.apply(field), null, prefix + missingField);
+                } else if (serial.required()) {
+                    dirty = true;
+                    YACLConstants.LOGGER.warn("Missing required config field '{}'. Re-saving as default.", prefix + missingField);
+                }
+            }
+            return dirty;
+        }
+    }
+
+    /**
+     * @return if the config should be marked as dirty
+     */
+    private boolean decodeField(ConfigField<?> field, FieldAccess<?> bufferAccess, @Nullable Object value, String name, boolean partial) {
+        SerialField serial = field.serial().orElseThrow();
+
+        if (value == null) {
+            if (!serial.nullable()) {
+                YACLConstants.LOGGER.warn("Found null value in non-nullable config field '{}'. Leaving field as default and marking as dirty.", name);
+                return true;
+            }
+
+            setValue(bufferAccess, null, name);
+            return false;
+        }
+
+        if (config.hasSubclass(field.defaultAccess().typeClass())) {
+            return decodeObject(field, bufferAccess, value, name, partial);
+        }
+
+        Object decoded;
+        try {
+            decoded = codec(field).decode(value);
+        } catch (Exception e) {
+            YACLConstants.LOGGER.error("Failed to deserialize config field '{}'. Leaving as default.", name, e);
+            return false;
+        }
+
+        setValue(bufferAccess, decoded, name);
+        return false;
+    }
+
+    /**
+     * Fills a nested {@link SerialEntry} object field by field.
+     * The nested object already present in the buffer is reused, or one is created if it is null.
+     *
+     * @return if the config should be marked as dirty
+     */
+    private boolean decodeObject(ConfigField<?> field, FieldAccess<?> bufferAccess, Object value, String name, boolean partial) {
+        Class<?> subclass = field.defaultAccess().typeClass();
+
+        if (!(value instanceof Map<?, ?> map)) {
+            YACLConstants.LOGGER.warn("Expected an object for config field '{}' but found '{}'. Leaving field as default and marking as dirty.", name, value);
+            return true;
+        }
+
+        Object subclassInstance = bufferAccess.get();
+        if (subclassInstance == null) {
+            try {
+                Constructor<?> constructor = subclass.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                subclassInstance = constructor.newInstance();
+            } catch (Exception e) {
+                YACLConstants.LOGGER.error("Failed to create instance of '{}' to deserialize config field '{}'. Leaving as default.", subclass.getName(), name, e);
+                return false;
+            }
+            setValue(bufferAccess, subclassInstance, name);
+        }
+
+        Object finalSubclassInstance = subclassInstance;
+        ObjectDecoder decoder = new ObjectDecoder(config.subclassFields(subclass), subclassField -> accessOn(subclassField, finalSubclassInstance), name + ".", partial);
+        decoder.decodeAll(map);
+        return decoder.finish();
+    }
+
+    private static void setValue(FieldAccess<?> bufferAccess, Object value, String name) {
+        try {
+            ((FieldAccess<Object>) bufferAccess).set(value);
+        } catch (Exception e) {
+            YACLConstants.LOGGER.error("Failed to deserialize config field '{}'. Leaving as default.", name, e);
+        }
+    }
+
+    public static FieldAccess<?> accessOn(ConfigField<?> field, Object instance) {
+        return ((ConfigFieldImpl<?>) field).access().withInstance(instance);
+    }
+
+    public static List<String> append(List<String> path, String name) {
+        List<String> appended = new ArrayList<>(path.size() + 1);
+        appended.addAll(path);
+        appended.add(name);
+        return appended;
+    }
+}
@@ -0,0 +1,93 @@
+package dev.isxander.yacl3.config.v2.impl.codec;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts between the format-neutral form of values used by
+ * {@link dev.isxander.yacl3.config.v2.api.codec.ConfigCodec codecs} and JSON,
+ * for anything which is already expressed in terms of JSON, such as migrations.
+ */
+@ApiStatus.Internal
+public final class ConfigValues {
+    private ConfigValues() {
+    }
+
+    public static JsonElement toJson(@Nullable Object value) {
+        if (value == null) {
+            return JsonNull.INSTANCE;
+        } else if (value instanceof Boolean bool) {
+            return new JsonPrimitive(bool);
+        } else if (value instanceof Number number) {
+            return new JsonPrimitive(number);
+        } else if (value instanceof String string) {
+            return new JsonPrimitive(string);
+        } else if (value instanceof List<?> list) {
+            JsonArray array = new JsonArray(list.size());
+            for (Object element : list) {
+                array.add(toJson(element));
+            }
+            return array;
+        } else if (value instanceof Map<?, ?> map) {
+            JsonObject object = new JsonObject();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                object.add(String.valueOf(entry.getKey()), toJson(entry.getValue()));
+            }
+            return object;
+        }
+        throw new IllegalArgumentException("%s is not a format-neutral value.".formatted(value.getClass().getName()));
+    }
+
+    public static @Nullable Object fromJson(JsonElement element) {
+        if (element.isJsonNull()) {
+            return null;
+        } else if (element instanceof JsonPrimitive primitive) {
+            if (primitive.isBoolean()) {
+                return primitive.getAsBoolean();
+            } else if (primitive.isNumber()) {
+                return fromNumber(primitive.getAsNumber());
+            }
+            return primitive.getAsString();
+        } else if (element instanceof JsonArray array) {
+            List<Object> list = new ArrayList<>(array.size());
+            for (JsonElement child : array) {
+                list.add(fromJson(child));
+            }
+            return list;
+        }
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+            map.put(entry.getKey(), fromJson(entry.getValue()));
+        }
+        return map;
+    }
+
+    private static Object fromNumber(Number number) {
+        if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return number.longValue();
+        } else if (number instanceof Double || number instanceof Float) {
+            return number.doubleValue();
+        }
+
+        // parsed numbers keep their text, which tells whole numbers apart from decimals
+        String text = number.toString();
+        if (text.indexOf('.') < 0 && text.indexOf('e') < 0 && text.indexOf('E') < 0) {
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return number.doubleValue();
+    }
+}
@@ -0,0 +1,74 @@
+package dev.isxander.yacl3.config.v2.impl.migration;
+
+import com.google.gson.JsonElement;
+import dev.isxander.yacl3.config.v2.api.migration.ConfigSchema;
+import dev.isxander.yacl3.config.v2.api.migration.MigrationStep;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+public record ConfigSchemaImpl(List<MigrationStep> steps) implements ConfigSchema {
+    @Override
+    public int version() {
+        return steps.size();
+    }
+
+    public record MigrationStepImpl(Map<String, Operation> operations) implements MigrationStep {
+    }
+
+    public static class BuilderImpl implements ConfigSchema.Builder {
+        private final List<MigrationStep> steps = new ArrayList<>();
+
+        @Override
+        public ConfigSchema.Builder step(Consumer<MigrationStep.Builder> step) {
+            StepBuilderImpl builder = new StepBuilderImpl();
+            step.accept(builder);
+            steps.add(new MigrationStepImpl(Map.copyOf(builder.operations)));
+            return this;
+        }
+
+        @Override
+        public ConfigSchema build() {
+            return new ConfigSchemaImpl(List.copyOf(steps));
+        }
+    }
+
+    private static class StepBuilderImpl implements MigrationStep.Builder {
+        private final Map<String, MigrationStep.Operation> operations = new LinkedHashMap<>();
+
+        @Override
+        public MigrationStep.Builder rename(String from, String to) {
+            return add(new MigrationStep.Rename(from, to), from);
+        }
+
+        @Override
+        public MigrationStep.Builder retype(String name, UnaryOperator<JsonElement> converter) {
+            return add(new MigrationStep.Retype(name, converter), name);
+        }
+
+        @Override
+        public MigrationStep.Builder split(String from, Map<String, Function<JsonElement, JsonElement>> into) {
+            return add(new MigrationStep.Split(from, Map.copyOf(into)), from);
+        }
+
+        @Override
+        public MigrationStep.Builder merge(List<String> from, String into, Function<Map<String, JsonElement>, JsonElement> merger) {
+            Validate.isTrue(!from.isEmpty(), "A merge must read at least one value.");
+            return add(new MigrationStep.Merge(List.copyOf(from), into, merger), from.toArray(String[]::new));
+        }
+
+        private MigrationStep.Builder add(MigrationStep.Operation operation, String... names) {
+            for (String name : names) {
+                Validate.isTrue(!operations.containsKey(name), "Serial name '%s' is already used by another operation in this migration step.".formatted(name));
+                operations.put(name, operation);
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package dev.isxander.yacl3.config.v2.impl.migration;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import dev.isxander.yacl3.config.v2.api.migration.ConfigSchema;
+import dev.isxander.yacl3.config.v2.api.migration.MigrationStep;
+import dev.isxander.yacl3.impl.utils.YACLConstants;
+import org.jetbrains.annotations.Nullable;
+import org.quiltmc.parsers.json.gson.GsonReader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Applies the migration steps between a file's schema version and the current version
+ * to each top-level value as it is read from the token stream.
+ * <p>
+ * Values that are only renamed, or not touched at all, are never read by the pipeline and
+ * stream straight into their field. Only values that have to be converted are read,
+ * one at a time, into a {@link JsonElement}.
+ */
+public class MigrationPipeline {
+    private final List<MigrationStep> steps;
+    /** Values waiting for the rest of their merge, per step. */
+    private final List<Map<MigrationStep.Merge, Map<String, JsonElement>>> pendingMerges = new ArrayList<>();
+
+    public MigrationPipeline(ConfigSchema schema, int fromVersion) {
+        this.steps = schema.steps().subList(fromVersion, schema.version());
+        for (int i = 0; i < steps.size(); i++) {
+            pendingMerges.add(new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * Creates the pipeline migrating a file written under the given schema version.
+     * A file from a newer version than the schema's is loaded without migrating.
+     *
+     * @param path the file, to report a newer version
+     */
+    public static MigrationPipeline forFile(ConfigSchema schema, int fileVersion, Path path) {
+        if (fileVersion > schema.version()) {
+            YACLConstants.LOGGER.warn("Config file '{}' has schema version {}, which is newer than the supported version {}. Loading it without migrating, and it will not be saved over.", path, fileVersion, schema.version());
+            return new MigrationPipeline(schema, schema.version());
+        }
+        return new MigrationPipeline(schema, Math.max(0, fileVersion));
+    }
+
+    /**
+     * @return if any steps are applied
+     */
+    public boolean migrates() {
+        return !steps.isEmpty();
+    }
+
+    /**
+     * Migrates the value the reader is positioned at.
+     * The sink is called for each value it becomes under the current version, which may be none.
+     */
+    public void accept(String name, GsonReader reader, Sink sink) throws IOException {
+        process(0, name, null, reader, sink);
+    }
+
+    /**
+     * Migrates a value which has already been read, for formats that are not read as a JSON token stream.
+     * The sink is always given a migrated value, never null.
+     */
+    public void accept(String name, JsonElement element, Sink sink) throws IOException {
+        process(0, name, element, null, sink);
+    }
+
+    /**
+     * Completes any merges that were missing values from the file.
+     */
+    public void finish(Sink sink) throws IOException {
+        for (int i = 0; i < steps.size(); i++) {
+            Map<MigrationStep.Merge, Map<String, JsonElement>> pending = pendingMerges.get(i);
+            List<Map.Entry<MigrationStep.Merge, Map<String, JsonElement>>> incomplete = new ArrayList<>(pending.entrySet());
+            pending.clear();
+
+            for (Map.Entry<MigrationStep.Merge, Map<String, JsonElement>> entry : incomplete) {
+                MigrationStep.Merge merge = entry.getKey();
+                process(i + 1, merge.into(), merge.merger().apply(entry.getValue()), null, sink);
+            }
+        }
+    }
+
+    /**
+     * @param element the value, or null if it has not been read from the reader yet
+     */
+    private void process(int stepIndex, String name, @Nullable JsonElement element, @Nullable GsonReader reader, Sink sink) throws IOException {
+        if (stepIndex == steps.size()) {
+            sink.accept(name, element);
+            return;
+        }
+
+        MigrationStep.Operation operation = steps.get(stepIndex).operations().get(name);
+        int next = stepIndex + 1;
+
+        if (operation instanceof MigrationStep.Rename rename) {
+            process(next, rename.to(), element, reader, sink);
+        } else if (operation instanceof MigrationStep.Retype retype) {
+            process(next, name, retype.converter().apply(read(element, reader)), null, sink);
+        } else if (operation instanceof MigrationStep.Split split) {
+            JsonElement value = read(element, reader);
+            for (Map.Entry<String, Function<JsonElement, JsonElement>> into : split.into().entrySet()) {
+                // each derivation gets its own copy so none can affect the others
+                process(next, into.getKey(), into.getValue().apply(value.deepCopy()), null, sink);
+            }
+        } else if (operation instanceof MigrationStep.Merge merge) {
+            Map<MigrationStep.Merge, Map<String, JsonElement>> pending = pendingMerges.get(stepIndex);
+            Map<String, JsonElement> values = pending.computeIfAbsent(merge, k -> new HashMap<>());
+            values.put(name, read(element, reader));
+
+            if (values.size() == merge.from().size()) {
+                pending.remove(merge);
+                process(next, merge.into(), merge.merger().apply(values), null, sink);
+            }
+        } else {
+            process(next, name, element, reader, sink);
+        }
+    }
+
+    private static JsonElement read(@Nullable JsonElement element, @Nullable GsonReader reader) throws IOException {
+        if (element != null) {
+            return element;
+        }
+
+        try {
+            return JsonParser.parseReader(reader);
+        } catch (RuntimeException e) {
+            throw new IOException("Failed to read config value to migrate it.", e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Sink {
+        /**
+         * @param element the migrated value, or null if the value is unchanged and
+         *                should be read straight from the reader
+         */
+        void accept(String name, @Nullable JsonElement element) throws IOException;
+    }
+}
@@ -0,0 +1,122 @@
+package dev.isxander.yacl3.config.v2.impl.serializer;
+
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.codec.ConfigCodecRegistry;
+import dev.isxander.yacl3.config.v2.api.serializer.BinaryConfigSerializerBuilder;
+import dev.isxander.yacl3.config.v2.impl.codec.BinaryValues;
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Writes configs in a compact, tagged binary form.
+ * <p>
+ * The file is the magic number and format version, the root value, then a CRC32 of everything before it.
+ * Values are written by {@link BinaryValues}.
+ */
+public class BinaryConfigSerializer<T> extends CodecConfigSerializer<T> {
+    private static final int MAGIC = 0x59434642;
+    private static final int FORMAT_VERSION = 1;
+
+    private BinaryConfigSerializer(ConfigClassHandler<T> config, Path path, ConfigCodecRegistry codecs) {
+        super(config, path, codecs, true);
+    }
+
+    @Override
+    protected void write(OutputStream output, Map<String, Object> root, Map<List<String>, String> comments) throws IOException {
+        CRC32 checksum = new CRC32();
+        DataOutputStream data = new DataOutputStream(new CheckedOutputStream(output, checksum));
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        BinaryValues.writeValue(data, root);
+        data.flush();
+
+        // a torn or corrupt file is detected by the checksum rather than being read as garbage values
+        DataOutputStream trailer = new DataOutputStream(output);
+        trailer.writeInt((int) checksum.getValue());
+        trailer.flush();
+    }
+
+    @Override
+    protected Map<String, Object> read(InputStream input) throws IOException {
+        byte[] bytes = input.readAllBytes();
+        if (bytes.length < 3 * Integer.BYTES) {
+            throw new IOException("Binary config is truncated.");
+        }
+
+        int length = bytes.length - Integer.BYTES;
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, length);
+        if ((int) checksum.getValue() != ByteBuffer.wrap(bytes).getInt(length)) {
+            throw new IOException("Binary config checksum does not match its contents.");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, length);
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            throw new IOException("Not a binary config of a supported format.");
+        }
+
+        try {
+            Object root = BinaryValues.readValue(buffer);
+            if (!(root instanceof Map<?, ?>)) {
+                throw new IOException("Binary config does not hold an object.");
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException("Binary config has unexpected trailing data.");
+            }
+            return (Map<String, Object>) root;
+        } catch (RuntimeException e) {
+            throw new IOException("Binary config is corrupt.", e);
+        }
+    }
+
+    @ApiStatus.Internal
+    public static class Builder<T> implements BinaryConfigSerializerBuilder<T> {
+        private final ConfigClassHandler<T> config;
+        private Path path;
+        private ConfigCodecRegistry codecs;
+        private UnaryOperator<ConfigCodecRegistry> appendCodecs = UnaryOperator.identity();
+
+        public Builder(ConfigClassHandler<T> config) {
+            this.config = config;
+        }
+
+        @Override
+        public Builder<T> setPath(Path path) {
+            this.path = path;
+            return this;
+        }
+
+        @Override
+        public Builder<T> overrideCodecs(ConfigCodecRegistry codecs) {
+            this.codecs = codecs;
+            return this;
+        }
+
+        @Override
+        public Builder<T> appendCodecs(UnaryOperator<ConfigCodecRegistry> codecs) {
+            UnaryOperator<ConfigCodecRegistry> prev = this.appendCodecs;
+            this.appendCodecs = registry -> codecs.apply(prev.apply(registry));
+            return this;
+        }
+
+        @Override
+        public BinaryConfigSerializer<T> build() {
+            Validate.notNull(path, "path must not be null");
+
+            ConfigCodecRegistry codecs = this.codecs != null ? this.codecs : ConfigCodecRegistry.create();
+            return new BinaryConfigSerializer<>(config, path, appendCodecs.apply(codecs));
+        }
+    }
+}
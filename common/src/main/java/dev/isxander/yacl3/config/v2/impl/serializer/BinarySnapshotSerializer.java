@@ -0,0 +1,587 @@
+package dev.isxander.yacl3.config.v2.impl.serializer;
+
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.ConfigField;
+import dev.isxander.yacl3.config.v2.api.ConfigSerializer;
+import dev.isxander.yacl3.config.v2.api.FieldAccess;
+import dev.isxander.yacl3.config.v2.api.serializer.BinarySnapshotSerializerBuilder;
+import dev.isxander.yacl3.config.v2.impl.ConfigFieldImpl;
+import dev.isxander.yacl3.config.v2.impl.LazyList;
+import dev.isxander.yacl3.impl.utils.YACLConstants;
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.awt.Color;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * Wraps another serializer, loading from a binary snapshot of the config
+ * whilst the source file is unchanged since the snapshot was taken.
+ *
+ * @see BinarySnapshotSerializerBuilder
+ */
+public class BinarySnapshotSerializer<T> extends ConfigSerializer<T> {
+    private static final int MAGIC = 0x59434653;
+    private static final int FORMAT_VERSION = 1;
+
+    private final ConfigSerializer<T> delegate;
+    private final Path sourcePath;
+    private final Path snapshotPath;
+    private final ConfigField<?>[] serialFields;
+    private final ValueCodec[] codecs;
+    private final byte[] schemaHash;
+
+    private BinarySnapshotSerializer(ConfigClassHandler<T> config, ConfigSerializer<T> delegate, Path sourcePath, Path snapshotPath) {
+        super(config);
+        this.delegate = delegate;
+        this.sourcePath = sourcePath;
+        this.snapshotPath = snapshotPath;
+        this.serialFields = serialFields(config.fields());
+
+        // a new schema version may migrate the same file to different values
+        StringBuilder schema = new StringBuilder().append(FORMAT_VERSION).append(config.configClass().getName()).append('@').append(config.schema().version());
+        this.codecs = createCodecs(serialFields, schema, new HashSet<>());
+        if (codecs == null) {
+            YACLConstants.LOGGER.info("Config class '{}' has fields that cannot be stored in a binary snapshot. It will always be loaded from '{}'.", config.configClass().getSimpleName(), sourcePath);
+            this.schemaHash = null;
+        } else {
+            this.schemaHash = newContentDigest().digest(schema.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Override
+    public void save() {
+        // the snapshot is keyed on the source file, so any write made here invalidates it
+        delegate.save();
+    }
+
+    @Override
+    public Runnable prepareSave() {
+        return delegate.prepareSave();
+    }
+
+    @Override
+    public LoadResult loadSafely(Map<ConfigField<?>, FieldAccess<?>> bufferAccessMap) {
+        if (codecs == null || !Files.exists(sourcePath)) {
+            return delegate.loadSafely(bufferAccessMap);
+        }
+
+        Snapshot snapshot = readSnapshot();
+        if (snapshot != null) {
+            for (int i = 0; i < serialFields.length; i++) {
+                ((FieldAccess<Object>) bufferAccessMap.get(serialFields[i])).set(snapshot.values()[i]);
+            }
+
+            // lets a save straight after loading skip the write, just as if the wrapped serializer loaded it
+            markLoaded(delegate, sourcePath, snapshot.source().hash());
+
+            YACLConstants.LOGGER.info("Deserializing {} from binary snapshot '{}'", config.configClass().getSimpleName(), snapshotPath);
+            return LoadResult.SUCCESS;
+        }
+
+        LoadResult result = delegate.loadSafely(bufferAccessMap);
+
+        // only a clean load is known to hold exactly what is in the file.
+        // the wrapped serializer hashed the file as it read it, so it isn't read again to key the snapshot.
+        // a file from a newer schema must keep going through the wrapped serializer, which refuses to save over it
+        if (result == LoadResult.SUCCESS && !isNewerSchemaLoaded(delegate)) {
+            Optional<byte[]> hash = persistedHash(delegate, sourcePath);
+            SourceKey key = hash.isPresent() ? SourceKey.of(sourcePath, hash.get()) : null;
+            if (key != null) {
+                writeSnapshot(key, bufferAccessMap);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @return the values of each serial field, or null if the snapshot is missing, out of date or corrupt
+     */
+    private @Nullable Snapshot readSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return null;
+        }
+
+        try {
+            byte[] bytes = Files.readAllBytes(snapshotPath);
+            if (bytes.length < Integer.BYTES) {
+                throw new IOException("Snapshot is truncated.");
+            }
+
+            DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+                throw new IOException("Not a snapshot of a supported format.");
+            }
+
+            CRC32 checksum = new CRC32();
+            checksum.update(bytes, 0, bytes.length - Integer.BYTES);
+            if ((int) checksum.getValue() != readTrailingInt(bytes)) {
+                throw new IOException("Snapshot checksum does not match its contents.");
+            }
+
+            if (!Arrays.equals(readHash(input), schemaHash)) {
+                YACLConstants.LOGGER.info("Binary snapshot '{}' is out of date. Loading from '{}'.", snapshotPath, sourcePath);
+                return null;
+            }
+
+            SourceKey source = SourceKey.readFrom(input);
+            if (!source.matches(sourcePath)) {
+                YACLConstants.LOGGER.info("Binary snapshot '{}' is out of date. Loading from '{}'.", snapshotPath, sourcePath);
+                return null;
+            }
+
+            Object[] values = new Object[serialFields.length];
+            for (int i = 0; i < serialFields.length; i++) {
+                values[i] = codecs[i].read(input);
+            }
+            return new Snapshot(source, values);
+        } catch (Exception e) {
+            YACLConstants.LOGGER.warn("Failed to read binary snapshot '{}'. Loading from '{}'.", snapshotPath, sourcePath, e);
+            return null;
+        }
+    }
+
+    private void writeSnapshot(SourceKey key, Map<ConfigField<?>, FieldAccess<?>> bufferAccessMap) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Path tempFile = null;
+        try {
+            DataOutputStream output = new DataOutputStream(bytes);
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.write(schemaHash);
+            key.writeTo(output);
+            for (int i = 0; i < serialFields.length; i++) {
+                codecs[i].write(output, bufferAccessMap.get(serialFields[i]).get());
+            }
+
+            // a torn write is detected by the checksum rather than being read as garbage values
+            CRC32 checksum = new CRC32();
+            checksum.update(bytes.toByteArray());
+            output.writeInt((int) checksum.getValue());
+            output.flush();
+
+            Files.createDirectories(snapshotPath.getParent());
+            tempFile = Files.createTempFile(snapshotPath.getParent(), snapshotPath.getFileName().toString(), ".tmp");
+            Files.write(tempFile, bytes.toByteArray());
+            try {
+                Files.move(tempFile, snapshotPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tempFile = null;
+        } catch (Exception e) {
+            YACLConstants.LOGGER.warn("Failed to write binary snapshot '{}'.", snapshotPath, e);
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    YACLConstants.LOGGER.warn("Failed to delete temporary snapshot file '{}'.", tempFile, e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Optional<Path> filePath() {
+        return Optional.of(sourcePath);
+    }
+
+    @Override
+    public boolean isUnchangedOnDisk(Path path) {
+        // loads and writes are recorded on the wrapped serializer
+        return delegate.isUnchangedOnDisk(path);
+    }
+
+    @Override
+    public long writeCount() {
+        return delegate.writeCount();
+    }
+
+    @Override
+    public long skippedWriteCount() {
+        return delegate.skippedWriteCount();
+    }
+
+    @Override
+    public long bytesWritten() {
+        return delegate.bytesWritten();
+    }
+
+    @Override
+    public long bytesRead() {
+        // loads from the snapshot are recorded against the wrapped serializer, as the size of the source file
+        return delegate.bytesRead();
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("deprecation")
+    public void load() {
+        delegate.load();
+    }
+
+    private static ConfigField<?>[] serialFields(ConfigField<?>[] fields) {
+        return Arrays.stream(fields)
+                .filter(field -> field.serial().isPresent())
+                .toArray(ConfigField<?>[]::new);
+    }
+
+    /**
+     * Creates a codec for each field, describing the fields in the schema as it goes.
+     *
+     * @param visiting nested classes currently being described, to reject self-referencing classes
+     * @return the codecs, or null if any field cannot be stored in a snapshot
+     */
+    private ValueCodec[] createCodecs(ConfigField<?>[] fields, StringBuilder schema, Set<Class<?>> visiting) {
+        ValueCodec[] codecs = new ValueCodec[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            ConfigField<?> field = fields[i];
+            schema.append('|').append(field.serial().orElseThrow().serialName())
+                    .append(field.serial().orElseThrow().nullable() ? '?' : ':');
+
+            codecs[i] = codecFor(field.defaultAccess().type(), schema, visiting);
+            if (codecs[i] == null) {
+                return null;
+            }
+
+            if (field.serial().orElseThrow().lazy() && delegate instanceof GsonConfigSerializer<?> gson && GsonConfigSerializer.supportsLazy(field)) {
+                // lists the wrapped serializer left unloaded are stored as their tokens, so taking a snapshot never loads them
+                schema.append('~');
+                String name = field.serial().orElseThrow().serialName();
+                codecs[i] = ValueCodec.lazy(codecs[i], serialized -> gson.lazyList(field, serialized, name));
+            }
+        }
+        return codecs;
+    }
+
+    private @Nullable ValueCodec codecFor(Type type, StringBuilder schema, Set<Class<?>> visiting) {
+        if (type instanceof Class<?> clazz) {
+            ValueCodec primitive = primitiveCodec(clazz);
+            if (primitive != null) {
+                schema.append(clazz.getName());
+                return clazz.isPrimitive() ? primitive : ValueCodec.nullable(primitive);
+            }
+
+            ValueCodec codec = objectCodecFor(clazz, schema, visiting);
+            return codec != null ? ValueCodec.nullable(codec) : null;
+        }
+
+        if (type instanceof ParameterizedType parameterized
+                && (parameterized.getRawType() == List.class || parameterized.getRawType() == ArrayList.class)) {
+            schema.append("List<");
+            ValueCodec element = codecFor(parameterized.getActualTypeArguments()[0], schema, visiting);
+            schema.append('>');
+            return element != null ? ValueCodec.nullable(ValueCodec.list(element)) : null;
+        }
+
+        return null;
+    }
+
+    private @Nullable ValueCodec objectCodecFor(Class<?> clazz, StringBuilder schema, Set<Class<?>> visiting) {
+        if (clazz == String.class) {
+            schema.append("String");
+            return ValueCodec.STRING;
+        }
+
+        if (clazz == Color.class) {
+            schema.append("Color");
+            return ValueCodec.COLOR;
+        }
+
+        if (clazz.isEnum()) {
+            // renaming or removing constants must invalidate snapshots holding their names
+            schema.append(clazz.getName()).append(Arrays.toString(clazz.getEnumConstants()));
+            return ValueCodec.enumCodec(clazz);
+        }
+
+        if (config.hasSubclass(clazz) && visiting.add(clazz)) {
+            schema.append(clazz.getName()).append('{');
+            ConfigField<?>[] fields = serialFields(config.subclassFields(clazz));
+            ValueCodec[] codecs = createCodecs(fields, schema, visiting);
+            schema.append('}');
+            visiting.remove(clazz);
+
+            return codecs != null ? ValueCodec.object(clazz, fields, codecs) : null;
+        }
+
+        return null;
+    }
+
+    private static @Nullable ValueCodec primitiveCodec(Class<?> clazz) {
+        if (clazz == boolean.class || clazz == Boolean.class) return ValueCodec.BOOLEAN;
+        if (clazz == byte.class || clazz == Byte.class) return ValueCodec.BYTE;
+        if (clazz == short.class || clazz == Short.class) return ValueCodec.SHORT;
+        if (clazz == int.class || clazz == Integer.class) return ValueCodec.INT;
+        if (clazz == long.class || clazz == Long.class) return ValueCodec.LONG;
+        if (clazz == float.class || clazz == Float.class) return ValueCodec.FLOAT;
+        if (clazz == double.class || clazz == Double.class) return ValueCodec.DOUBLE;
+        if (clazz == char.class || clazz == Character.class) return ValueCodec.CHAR;
+        return null;
+    }
+
+    private static byte[] readHash(DataInput input) throws IOException {
+        byte[] hash = new byte[newContentDigest().getDigestLength()];
+        input.readFully(hash);
+        return hash;
+    }
+
+    private static int readTrailingInt(byte[] bytes) {
+        int offset = bytes.length - Integer.BYTES;
+        return (bytes[offset] & 0xFF) << 24 | (bytes[offset + 1] & 0xFF) << 16 | (bytes[offset + 2] & 0xFF) << 8 | (bytes[offset + 3] & 0xFF);
+    }
+
+    private record Snapshot(SourceKey source, Object[] values) {
+    }
+
+    /**
+     * Identifies the exact state of the source file a snapshot was taken from.
+     */
+    private record SourceKey(long lastModified, long size, byte[] hash) {
+        /**
+         * @param hash the hash of the file's content, taken as it was read
+         */
+        private static @Nullable SourceKey of(Path path, byte[] hash) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return new SourceKey(attributes.lastModifiedTime().toMillis(), attributes.size(), hash);
+            } catch (IOException e) {
+                YACLConstants.LOGGER.warn("Failed to read the state of config file '{}'. The binary snapshot will not be written.", path, e);
+                return null;
+            }
+        }
+
+        private static SourceKey readFrom(DataInput input) throws IOException {
+            return new SourceKey(input.readLong(), input.readLong(), readHash(input));
+        }
+
+        private void writeTo(DataOutput output) throws IOException {
+            output.writeLong(lastModified);
+            output.writeLong(size);
+            output.write(hash);
+        }
+
+        /**
+         * Checks if the file is still in this state. It is only hashed if its size and modification time match,
+         * so a file edited since the snapshot was taken is usually hashed just once, as it is loaded.
+         */
+        private boolean matches(Path path) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (attributes.lastModifiedTime().toMillis() != lastModified || attributes.size() != size) {
+                return false;
+            }
+
+            MessageDigest digest = newContentDigest();
+            try (InputStream input = new DigestInputStream(Files.newInputStream(path), digest)) {
+                input.transferTo(OutputStream.nullOutputStream());
+            }
+            return Arrays.equals(hash, digest.digest());
+        }
+    }
+
+    private record ValueCodec(ValueWriter writer, ValueReader reader) {
+        private static final ValueCodec BOOLEAN = new ValueCodec((out, value) -> out.writeBoolean((Boolean) value), DataInput::readBoolean);
+        private static final ValueCodec BYTE = new ValueCodec((out, value) -> out.writeByte((Byte) value), DataInput::readByte);
+        private static final ValueCodec SHORT = new ValueCodec((out, value) -> out.writeShort((Short) value), DataInput::readShort);
+        private static final ValueCodec INT = new ValueCodec((out, value) -> out.writeInt((Integer) value), DataInput::readInt);
+        private static final ValueCodec LONG = new ValueCodec((out, value) -> out.writeLong((Long) value), DataInput::readLong);
+        private static final ValueCodec FLOAT = new ValueCodec((out, value) -> out.writeFloat((Float) value), DataInput::readFloat);
+        private static final ValueCodec DOUBLE = new ValueCodec((out, value) -> out.writeDouble((Double) value), DataInput::readDouble);
+        private static final ValueCodec CHAR = new ValueCodec((out, value) -> out.writeChar((Character) value), DataInput::readChar);
+        private static final ValueCodec COLOR = new ValueCodec((out, value) -> out.writeInt(((Color) value).getRGB()), in -> new Color(in.readInt(), true));
+        // DataOutput#writeUTF is limited to 64KiB, so strings are length prefixed UTF-8 instead
+        private static final ValueCodec STRING = new ValueCodec(
+                (out, value) -> {
+                    byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                },
+                in -> {
+                    byte[] bytes = new byte[in.readInt()];
+                    in.readFully(bytes);
+                    return new String(bytes, StandardCharsets.UTF_8);
+                }
+        );
+
+        private void write(DataOutput out, Object value) throws IOException {
+            writer.write(out, value);
+        }
+
+        private Object read(DataInput in) throws IOException {
+            return reader.read(in);
+        }
+
+        private static ValueCodec nullable(ValueCodec codec) {
+            return new ValueCodec(
+                    (out, value) -> {
+                        out.writeBoolean(value != null);
+                        if (value != null) codec.write(out, value);
+                    },
+                    in -> in.readBoolean() ? codec.read(in) : null
+            );
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static ValueCodec enumCodec(Class<?> enumClass) {
+            return new ValueCodec(
+                    (out, value) -> STRING.write(out, ((Enum<?>) value).name()),
+                    in -> Enum.valueOf((Class) enumClass, (String) STRING.read(in))
+            );
+        }
+
+        /**
+         * A list that is stored as the tokens it holds whilst it is an unloaded {@link LazyList}.
+         */
+        private static ValueCodec lazy(ValueCodec codec, Function<byte[], LazyList<?>> lazyList) {
+            return new ValueCodec(
+                    (out, value) -> {
+                        if (value instanceof LazyList<?> list && !list.isLoaded()) {
+                            out.writeBoolean(true);
+                            out.writeInt(list.serialized().length);
+                            out.write(list.serialized());
+                        } else {
+                            out.writeBoolean(false);
+                            codec.write(out, value);
+                        }
+                    },
+                    in -> {
+                        if (!in.readBoolean()) {
+                            return codec.read(in);
+                        }
+
+                        byte[] serialized = new byte[in.readInt()];
+                        in.readFully(serialized);
+                        return lazyList.apply(serialized);
+                    }
+            );
+        }
+
+        private static ValueCodec list(ValueCodec element) {
+            return new ValueCodec(
+                    (out, value) -> {
+                        List<?> list = (List<?>) value;
+                        out.writeInt(list.size());
+                        for (Object item : list) {
+                            element.write(out, item);
+                        }
+                    },
+                    in -> {
+                        int size = in.readInt();
+                        List<Object> list = new ArrayList<>(size);
+                        for (int i = 0; i < size; i++) {
+                            list.add(element.read(in));
+                        }
+                        return list;
+                    }
+            );
+        }
+
+        /**
+         * A nested {@link dev.isxander.yacl3.config.v2.api.SerialEntry} object, written field by field.
+         */
+        private static ValueCodec object(Class<?> clazz, ConfigField<?>[] fields, ValueCodec[] codecs) {
+            return new ValueCodec(
+                    (out, value) -> {
+                        for (int i = 0; i < fields.length; i++) {
+                            codecs[i].write(out, accessOn(fields[i], value).get());
+                        }
+                    },
+                    in -> {
+                        Object instance;
+                        try {
+                            Constructor<?> constructor = clazz.getDeclaredConstructor();
+                            constructor.setAccessible(true);
+                            instance = constructor.newInstance();
+                        } catch (ReflectiveOperationException e) {
+                            throw new IOException("Failed to create instance of '%s'.".formatted(clazz.getName()), e);
+                        }
+
+                        for (int i = 0; i < fields.length; i++) {
+                            accessOn(fields[i], instance).set(codecs[i].read(in));
+                        }
+                        return instance;
+                    }
+            );
+        }
+
+        @SuppressWarnings("unchecked")
+        private static FieldAccess<Object> accessOn(ConfigField<?> field, Object instance) {
+            return (FieldAccess<Object>) ((ConfigFieldImpl<?>) field).access().withInstance(instance);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ValueWriter {
+        void write(DataOutput out, Object value) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ValueReader {
+        Object read(DataInput in) throws IOException;
+    }
+
+    @ApiStatus.Internal
+    public static class Builder<T> implements BinarySnapshotSerializerBuilder<T> {
+        private final ConfigClassHandler<T> config;
+        private final ConfigSerializer<T> delegate;
+        private Path sourcePath;
+        private Path snapshotPath;
+
+        public Builder(ConfigClassHandler<T> config, ConfigSerializer<T> delegate) {
+            this.config = config;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Builder<T> setSourcePath(Path path) {
+            this.sourcePath = path;
+            return this;
+        }
+
+        @Override
+        public Builder<T> setSnapshotPath(Path path) {
+            this.snapshotPath = path;
+            return this;
+        }
+
+        @Override
+        public BinarySnapshotSerializer<T> build() {
+            Validate.notNull(sourcePath, "sourcePath must not be null");
+
+            Path snapshotPath = this.snapshotPath != null
+                    ? this.snapshotPath
+                    : sourcePath.resolveSibling(sourcePath.getFileName() + ".snapshot");
+            return new BinarySnapshotSerializer<>(config, delegate, sourcePath, snapshotPath);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package dev.isxander.yacl3.config.v2.impl.serializer;
+
+import dev.isxander.yacl3.config.v2.api.*;
+import dev.isxander.yacl3.config.v2.api.codec.ConfigCodec;
+import dev.isxander.yacl3.config.v2.api.codec.ConfigCodecRegistry;
+import dev.isxander.yacl3.config.v2.api.migration.ConfigSchema;
+import dev.isxander.yacl3.config.v2.impl.ConfigSaveQueue;
+import dev.isxander.yacl3.config.v2.impl.codec.ConfigTreeCodec;
+import dev.isxander.yacl3.config.v2.impl.codec.ConfigValues;
+import dev.isxander.yacl3.config.v2.impl.migration.MigrationPipeline;
+import dev.isxander.yacl3.impl.utils.YACLConstants;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The base of serializers which write fields through {@link ConfigCodec codecs}, rather than
+ * through a library tied to one format.
+ * <p>
+ * Fields are encoded into a tree of format-neutral values, which the format then writes.
+ * Loading reads the format into the same tree before each value is decoded into the buffer,
+ * so the two directions share all handling of nested objects, missing fields, nulls and migrations.
+ */
+public abstract class CodecConfigSerializer<T> extends ConfigSerializer<T> {
+    protected final Path path;
+    private final ConfigTreeCodec tree;
+    private final SaveBuffer.Pool saveBuffers = new SaveBuffer.Pool(ConfigSerializer::newContentDigest);
+
+    /**
+     * @param supportsNull if the format can store null values. if it can't, null fields are left out of the file,
+     *                     and nullable fields missing from the file are loaded as null.
+     */
+    protected CodecConfigSerializer(ConfigClassHandler<T> config, Path path, ConfigCodecRegistry codecs, boolean supportsNull) {
+        super(config);
+        this.path = path;
+        this.tree = new ConfigTreeCodec(config, codecs, !supportsNull);
+    }
+
+    /**
+     * Writes the encoded config.
+     *
+     * @param root the top-level values, by serial name. null values are present so formats which can store them do.
+     * @param comments the comment of each field, keyed by the serial names leading to it
+     */
+    protected abstract void write(OutputStream output, Map<String, Object> root, Map<List<String>, String> comments) throws IOException;
+
+    /**
+     * Reads the config written by {@link #write(OutputStream, Map, Map)}, or by hand.
+     */
+    protected abstract Map<String, Object> read(InputStream input) throws IOException;
+
+    @Override
+    public void save() {
+        prepareSave().run();
+    }
+
+    @Override
+    public Runnable prepareSave() {
+        if (isNewerSchemaLoaded() && Files.exists(path)) {
+            YACLConstants.LOGGER.warn("Config file '{}' was written by a newer schema version than {} supports. Not saving over it, as that would downgrade it.", path, config.configClass().getSimpleName());
+            return () -> {};
+        }
+
+        YACLConstants.LOGGER.info("Serializing {} to '{}'", config.configClass(), path);
+
+        SaveBuffer content = saveBuffers.acquire();
+        try {
+            Map<List<String>, String> comments = new HashMap<>();
+            Map<String, Object> root = encodeRoot(comments);
+            write(content, root, comments);
+        } catch (IOException e) {
+            YACLConstants.LOGGER.error("Failed to serialize config class '{}'. The save will be abandoned.", config.configClass().getSimpleName(), e);
+            saveBuffers.discard(content);
+            return () -> {};
+        }
+
+        // only the serialized content is written, so this is safe to run on another thread.
+        // a newer save may replace this one before it runs, which gives the buffer straight back
+        return ConfigSaveQueue.Write.of(() -> {
+            byte[] contentHash = content.contentHash();
+            if (!shouldWrite(path, contentHash)) {
+                YACLConstants.LOGGER.info("Config file '{}' is unchanged, skipping write.", path);
+                saveBuffers.release(content);
+                return;
+            }
+
+            try {
+                ConfigFiles.writeAtomically(path, content);
+                markWritten(path, contentHash);
+            } catch (IOException e) {
+                YACLConstants.LOGGER.error("Failed to write config file '{}'.", path, e);
+            }
+            saveBuffers.release(content);
+        }, () -> saveBuffers.release(content));
+    }
+
+    private Map<String, Object> encodeRoot(Map<List<String>, String> comments) throws IOException {
+        Map<String, Object> root = new LinkedHashMap<>();
+        if (config.schema().version() > 0) {
+            root.put(ConfigSchema.VERSION_KEY, (long) config.schema().version());
+        }
+
+        root.putAll(tree.encodeFields(config.fields(), ConfigField::access, List.of(), comments));
+        return root;
+    }
+
+    @Override
+    public Optional<Path> filePath() {
+        return Optional.of(path);
+    }
+
+    @Override
+    public LoadResult loadSafely(Map<ConfigField<?>, FieldAccess<?>> bufferAccessMap) {
+        if (!Files.exists(path)) {
+            YACLConstants.LOGGER.info("Config file '{}' does not exist. Creating it with default values.", path);
+            save();
+            return LoadResult.NO_CHANGE;
+        }
+
+        YACLConstants.LOGGER.info("Deserializing {} from '{}'", config.configClass().getSimpleName(), path);
+
+        Map<String, Object> root;
+        MessageDigest digest = newContentDigest();
+        try (InputStream input = new DigestInputStream(new BufferedInputStream(Files.newInputStream(path)), digest)) {
+            root = read(input);
+
+            // hash anything trailing the config so the hash covers the whole file
+            input.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            YACLConstants.LOGGER.error("Failed to deserialize config class.", e);
+            return LoadResult.FAILURE;
+        }
+
+        // lets a save straight after loading skip the write if nothing was changed
+        markLoaded(path, digest.digest());
+
+        boolean dirty;
+        try {
+            dirty = decodeRoot(root, bufferAccessMap);
+        } catch (IOException e) {
+            YACLConstants.LOGGER.error("Failed to deserialize config class.", e);
+            return LoadResult.FAILURE;
+        }
+
+        return dirty ? LoadResult.DIRTY : LoadResult.SUCCESS;
+    }
+
+    /**
+     * Decodes the top-level values, migrating each from the schema version
+     * the file was written under to the current one.
+     *
+     * @return if the config should be marked as dirty
+     */
+    private boolean decodeRoot(Map<String, Object> root, Map<ConfigField<?>, FieldAccess<?>> bufferAccessMap) throws IOException {
+        ConfigTreeCodec.ObjectDecoder decoder = tree.decoder(config.fields(), bufferAccessMap::get, "", false);
+        boolean dirty = false;
+
+        Object version = root.get(ConfigSchema.VERSION_KEY);
+        int fileVersion = 0;
+        if (version instanceof Long number) {
+            fileVersion = number.intValue();
+        } else if (version != null) {
+            YACLConstants.LOGGER.warn("Found invalid schema version '{}' in '{}'. Assuming the file is unversioned.", version, path);
+        } else if (config.schema().version() > 0) {
+            // the version still needs writing
+            dirty = true;
+        }
+
+        markSchemaVersion(fileVersion);
+        MigrationPipeline migrations = MigrationPipeline.forFile(config.schema(), fileVersion, path);
+        for (Map.Entry<String, Object> entry : root.entrySet()) {
+            if (entry.getKey().equals(ConfigSchema.VERSION_KEY)) continue;
+
+            if (migrations.migrates()) {
+                migrations.accept(entry.getKey(), ConfigValues.toJson(entry.getValue()), (name, element) -> decoder.decode(name, ConfigValues.fromJson(element)));
+            } else {
+                decoder.decode(entry.getKey(), entry.getValue());
+            }
+        }
+
+        if (migrations.migrates()) {
+            migrations.finish((name, element) -> decoder.decode(name, ConfigValues.fromJson(element)));
+
+            YACLConstants.LOGGER.info("Migrated config file '{}' to schema version {}.", path, config.schema().version());
+            dirty = true;
+        }
+
+        return decoder.finish() | dirty;
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("deprecation")
+    public void load() {
+        YACLConstants.LOGGER.warn("Calling ConfigSerializer#load() directly is deprecated. Please use ConfigClassHandler#load() instead.");
+        config.load();
+    }
+}
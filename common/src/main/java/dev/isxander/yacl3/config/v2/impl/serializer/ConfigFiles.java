@@ -0,0 +1,63 @@
+package dev.isxander.yacl3.config.v2.impl.serializer;
+
+import dev.isxander.yacl3.impl.utils.YACLConstants;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes config files such that a crash part way through never leaves a partially written file.
+ */
+final class ConfigFiles {
+    private ConfigFiles() {
+    }
+
+    /**
+     * Writes the content to a temporary file next to the real one, then moves it into place.
+     */
+    static void writeAtomically(Path path, SaveBuffer content) throws IOException {
+        Path tempFile = null;
+        try {
+            Files.createDirectories(path.getParent());
+            // write next to the real file so the final move never crosses file systems
+            tempFile = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                content.writeTo(channel);
+
+                // the contents must be on disk before the move makes them visible
+                channel.force(true);
+            }
+
+            moveIntoPlace(tempFile, path);
+            tempFile = null;
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    YACLConstants.LOGGER.warn("Failed to delete temporary config file '{}'.", tempFile, e);
+                }
+            }
+        }
+    }
+
+    private static void moveIntoPlace(Path tempFile, Path path) throws IOException {
+        try {
+            Files.move(tempFile, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        // persist the rename itself. directories cannot be opened on some platforms, so this is best effort.
+        try (FileChannel directory = FileChannel.open(path.getParent(), StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException ignored) {
+        }
+    }
+}
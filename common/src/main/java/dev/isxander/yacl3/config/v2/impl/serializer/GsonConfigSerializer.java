@@ -1,10 +1,17 @@
 package dev.isxander.yacl3.config.v2.impl.serializer;
 
 import com.google.gson.*;
+import com.google.gson.internal.LazilyParsedNumber;
+import com.google.gson.reflect.TypeToken;
 import com.mojang.serialization.JsonOps;
 import dev.isxander.yacl3.config.GsonConfigInstance;
 import dev.isxander.yacl3.config.v2.api.*;
+import dev.isxander.yacl3.config.v2.api.migration.ConfigSchema;
 import dev.isxander.yacl3.config.v2.api.serializer.GsonConfigSerializerBuilder;
+import dev.isxander.yacl3.config.v2.impl.ConfigFieldImpl;
+import dev.isxander.yacl3.config.v2.impl.ConfigSaveQueue;
+import dev.isxander.yacl3.config.v2.impl.LazyList;
+import dev.isxander.yacl3.config.v2.impl.migration.MigrationPipeline;
 import dev.isxander.yacl3.gui.utils.ItemRegistryHelper;
 import dev.isxander.yacl3.impl.utils.YACLConstants;
 import dev.isxander.yacl3.platform.YACLPlatform;
@@ -14,21 +21,42 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.Style;
 import net.minecraft.world.item.Item;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 import org.quiltmc.parsers.json.JsonReader;
+import org.quiltmc.parsers.json.JsonToken;
 import org.quiltmc.parsers.json.JsonWriter;
 import org.quiltmc.parsers.json.gson.GsonReader;
 import org.quiltmc.parsers.json.gson.GsonWriter;
 
 import java.awt.*;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
-import java.io.StringWriter;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -37,45 +65,96 @@ public class GsonConfigSerializer<T> extends ConfigSerializer<T> {
     private final Gson gson;
     private final Path path;
     private final boolean json5;
+    private final boolean readJson5;
+    // lazy fields may be loaded from any thread
+    private final Map<ConfigField<?>, TypeAdapter<?>> adapterCache = new ConcurrentHashMap<>();
+    private final SaveBuffer.Pool saveBuffers = new SaveBuffer.Pool(ConfigSerializer::newContentDigest);
 
-    private GsonConfigSerializer(ConfigClassHandler<T> config, Path path, Gson gson, boolean json5) {
+    private GsonConfigSerializer(ConfigClassHandler<T> config, Path path, Gson gson, boolean json5, boolean readJson5) {
         super(config);
         this.gson = gson;
         this.path = path;
         this.json5 = json5;
+        this.readJson5 = json5 || readJson5;
     }
 
     @Override
     public void save() {
+        prepareSave().run();
+    }
+
+    @Override
+    public Runnable prepareSave() {
+        if (isNewerSchemaLoaded() && Files.exists(path)) {
+            YACLConstants.LOGGER.warn("Config file '{}' was written by a newer schema version than {} supports. Not saving over it, as that would downgrade it.", path, config.configClass().getSimpleName());
+            return () -> {};
+        }
+
         YACLConstants.LOGGER.info("Serializing {} to '{}'", config.configClass(), path);
 
-        try (StringWriter stringWriter = new StringWriter()) {
-            JsonWriter jsonWriter = json5 ? JsonWriter.json5(stringWriter) : JsonWriter.json(stringWriter);
-            GsonWriter gsonWriter = new GsonWriter(jsonWriter);
+        SaveBuffer content = saveBuffers.acquire();
+        try {
+            if (!writeFields(content.writer())) {
+                saveBuffers.discard(content);
+                return () -> {};
+            }
+        } catch (IOException e) {
+            YACLConstants.LOGGER.error("Failed to serialize config class '{}'.", config.configClass().getSimpleName(), e);
+            saveBuffers.discard(content);
+            return () -> {};
+        }
 
-            jsonWriter.beginObject();
+        // only the serialized content is written, so this is safe to run on another thread.
+        // a newer save may replace this one before it runs, which gives the buffer straight back
+        return ConfigSaveQueue.Write.of(() -> {
+            byte[] contentHash = content.contentHash();
+            if (!shouldWrite(path, contentHash)) {
+                YACLConstants.LOGGER.info("Config file '{}' is unchanged, skipping write.", path);
+                saveBuffers.release(content);
+                return;
+            }
 
-            for (ConfigField<?> field : config.fields()) {
-                try {
-                    writeField(jsonWriter, gsonWriter, field);
-                } catch (Exception e) {
-                    SerialField serial = field.serial().orElseThrow();
-                    YACLConstants.LOGGER.error("Failed to serialize config field '{}'. Due to the error state this JSON writer cannot continue safely and the save will be abandoned.", serial.serialName(), e);
-                    return;
-                }
+            try {
+                ConfigFiles.writeAtomically(path, content);
+                markWritten(path, contentHash);
+            } catch (IOException e) {
+                YACLConstants.LOGGER.error("Failed to write config file '{}'.", path, e);
             }
+            // the content was fully serialized, so the buffer is fine to reuse even if the write failed
+            saveBuffers.release(content);
+        }, () -> saveBuffers.release(content));
+    }
 
-            jsonWriter.endObject();
-            jsonWriter.flush();
+    /**
+     * @return if all fields were written, and the file can be moved into place
+     */
+    private boolean writeFields(Writer writer) throws IOException {
+        JsonWriter jsonWriter = json5 ? JsonWriter.json5(writer) : JsonWriter.json(writer);
+        GsonWriter gsonWriter = new GsonWriter(jsonWriter);
 
-            Files.createDirectories(path.getParent());
-            Files.writeString(path, stringWriter.toString(), StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.CREATE);
-        } catch (IOException e) {
-            YACLConstants.LOGGER.error("Failed to serialize config class '{}'.", config.configClass().getSimpleName(), e);
+        jsonWriter.beginObject();
+
+        if (config.schema().version() > 0) {
+            jsonWriter.name(ConfigSchema.VERSION_KEY);
+            jsonWriter.value(config.schema().version());
+        }
+
+        for (ConfigField<?> field : config.fields()) {
+            try {
+                writeField(jsonWriter, gsonWriter, field, field.access());
+            } catch (Exception e) {
+                SerialField serial = field.serial().orElseThrow();
+                YACLConstants.LOGGER.error("Failed to serialize config field '{}'. Due to the error state this JSON writer cannot continue safely and the save will be abandoned.", serial.serialName(), e);
+                return false;
+            }
         }
+
+        jsonWriter.endObject();
+        jsonWriter.flush();
+        return true;
     }
 
-    private void writeField(JsonWriter jsonWriter, GsonWriter gsonWriter, ConfigField<?> field) throws IOException {
+    private void writeField(JsonWriter jsonWriter, GsonWriter gsonWriter, ConfigField<?> field, ReadOnlyFieldAccess<?> access) throws IOException {
         SerialField serial = field.serial().orElse(null);
         if (serial == null) return;
 
@@ -86,11 +165,19 @@ public class GsonConfigSerializer<T> extends ConfigSerializer<T> {
 
         jsonWriter.name(serial.serialName());
 
-        if (toJson(jsonWriter, gsonWriter, field)) return;
+        if (toJson(jsonWriter, gsonWriter, field, access)) return;
+
+        if (access.get() instanceof LazyList<?> lazyList && !lazyList.isLoaded()) {
+            // nothing can have changed, so write the value back out without ever deserializing it
+            try (JsonReader reader = JsonReader.json5(new InputStreamReader(new ByteArrayInputStream(lazyList.serialized()), StandardCharsets.UTF_8))) {
+                copyValue(reader, jsonWriter);
+            }
+            return;
+        }
 
         JsonElement element;
         try {
-            element = gson.toJsonTree(field.access().get(), field.access().type());
+            element = gson.toJsonTree(access.get(), access.type());
         } catch (Exception e) {
             YACLConstants.LOGGER.error("Failed to serialize config field '{}'. Serializing as null.", serial.serialName(), e);
             jsonWriter.nullValue();
@@ -104,11 +191,18 @@ public class GsonConfigSerializer<T> extends ConfigSerializer<T> {
         }
     }
 
-    private boolean toJson(JsonWriter jsonWriter, GsonWriter gsonWriter, ConfigField<?> field) throws IOException {
+    private boolean toJson(JsonWriter jsonWriter, GsonWriter gsonWriter, ConfigField<?> field, ReadOnlyFieldAccess<?> access) throws IOException {
         if (config.hasSubclass(field.defaultAccess().typeClass())) {
+            // subclass fields are only metadata, they must be pointed at the object being written
+            Object subclassInstance = access.get();
+            if (subclassInstance == null) {
+                jsonWriter.nullValue();
+                return true;
+            }
+
             jsonWriter.beginObject();
             for (ConfigField<?> subclassField : config.subclassFields(field.defaultAccess().typeClass())) {
-                writeField(jsonWriter, gsonWriter, subclassField);
+                writeField(jsonWriter, gsonWriter, subclassField, accessOn(subclassField, subclassInstance));
             }
             jsonWriter.endObject();
             return true;
@@ -116,6 +210,11 @@ public class GsonConfigSerializer<T> extends ConfigSerializer<T> {
         return false;
     }
 
+    @Override
+    public Optional<Path> filePath() {
+        return Optional.of(path);
+    }
+
     @Override
     public LoadResult loadSafely(Map<ConfigField<?>, FieldAccess<?>> bufferAccessMap) {
         if (!Files.exists(path)) {
@@ -126,88 +225,425 @@ public class GsonConfigSerializer<T> extends ConfigSerializer<T> {
 
         YACLConstants.LOGGER.info("Deserializing {} from '{}'", config.configClass().getSimpleName(), path);
 
-        Map<String, ConfigField<?>> fieldMap = Arrays.stream(config.fields())
-                .filter(field -> field.serial().isPresent())
-                .collect(Collectors.toMap(f -> f.serial().orElseThrow().serialName(), Function.identity()));
-        Set<String> missingFields = fieldMap.keySet();
-        boolean dirty = false;
+        try {
+            return load(bufferAccessMap, true);
+        } catch (StreamingReadException e) {
+            // the reader is left in an unknown position after a failed adapter read,
+            // so re-read the whole file through a tree where a bad value can be skipped.
+            YACLConstants.LOGGER.warn("Failed to stream config field '{}' directly into its type. Re-reading '{}' through a JSON tree.", e.fieldName, path, e.getCause());
+            return load(bufferAccessMap, false);
+        }
+    }
 
-        try (JsonReader jsonReader = json5 ? JsonReader.json5(path) : JsonReader.json(path)) {
+    /**
+     * @param streaming if values are read straight into their types, rather than through a JSON tree.
+     *                  the tree is only used to recover from a value that fails to stream, but is kept
+     *                  reachable here so {@code GsonLoadBenchmark} can compare the two.
+     */
+    LoadResult load(Map<ConfigField<?>, FieldAccess<?>> bufferAccessMap, boolean streaming) {
+        boolean dirty;
+        MessageDigest digest = newContentDigest();
+        // an empty object never reads a version
+        markSchemaVersion(0);
+
+        try (InputStream input = new DigestInputStream(Files.newInputStream(path), digest);
+             JsonReader jsonReader = createReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)))) {
             GsonReader gsonReader = new GsonReader(jsonReader);
 
-            jsonReader.beginObject();
+            dirty = readRoot(jsonReader, gsonReader, bufferAccessMap, streaming);
 
-            while (jsonReader.hasNext()) {
-                String name = jsonReader.nextName();
-                ConfigField<?> field = fieldMap.get(name);
-                missingFields.remove(name);
+            // hash anything trailing the root object so the hash covers the whole file
+            input.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            YACLConstants.LOGGER.error("Failed to deserialize config class.", e);
+            return LoadResult.FAILURE;
+        }
 
-                if (field == null) {
-                    YACLConstants.LOGGER.warn("Found unknown config field '{}'.", name);
-                    jsonReader.skipValue();
-                    continue;
-                }
+        // lets a save straight after loading skip the write if nothing was changed
+        markLoaded(path, digest.digest());
 
-                FieldAccess<?> bufferAccess = bufferAccessMap.get(field);
-                SerialField serial = field.serial().orElse(null);
-                if (serial == null) continue;
-                //TODO
-
-                JsonElement element;
-                try {
-                    element = gson.fromJson(gsonReader, JsonElement.class);
-                } catch (Exception e) {
-                    YACLConstants.LOGGER.error("Failed to deserialize config field '{}'. Due to the error state this JSON reader cannot be re-used and loading will be aborted.", name, e);
-                    return LoadResult.FAILURE;
-                }
+        return dirty ? LoadResult.DIRTY : LoadResult.SUCCESS;
+    }
+
+    private JsonReader createReader(Reader reader) {
+        return readJson5 ? JsonReader.json5(reader) : JsonReader.json(reader);
+    }
+
+    /**
+     * Reads the root object of the file, migrating each value from the schema version
+     * the file was written under to the current one as it is read.
+     *
+     * @return if the config should be marked as dirty
+     */
+    private boolean readRoot(JsonReader jsonReader, GsonReader gsonReader, Map<ConfigField<?>, FieldAccess<?>> bufferAccessMap, boolean streaming) throws IOException {
+        ObjectReader root = new ObjectReader(config.fields(), bufferAccessMap::get, "", streaming);
+        MigrationPipeline migrations = null;
+        boolean dirty = false;
+
+        jsonReader.beginObject();
+
+        while (jsonReader.hasNext()) {
+            String name = jsonReader.nextName();
 
-                if (element.isJsonNull() && !serial.nullable()) {
-                    YACLConstants.LOGGER.warn("Found null value in non-nullable config field '{}'. Leaving field as default and marking as dirty.", name);
+            if (name.equals(ConfigSchema.VERSION_KEY)) {
+                if (migrations != null) {
+                    // values before it have already been read as if they were from an unversioned file
+                    YACLConstants.LOGGER.warn("Found schema version after other config fields in '{}'. Ignoring it and marking as dirty.", path);
+                    jsonReader.skipValue();
                     dirty = true;
                     continue;
                 }
 
-                try {
-                    bufferAccess.set(gson.fromJson(element, bufferAccess.type()));
-                } catch (Exception e) {
-                    YACLConstants.LOGGER.error("Failed to deserialize config field '{}'. Leaving as default.", name, e);
-                }
+                migrations = createMigrations(readVersion(jsonReader));
+                continue;
             }
 
-            jsonReader.endObject();
-        } catch (IOException e) {
-            YACLConstants.LOGGER.error("Failed to deserialize config class.", e);
-            return LoadResult.FAILURE;
+            if (migrations == null) {
+                // no version before the first value, so the file was written before the config had a schema
+                migrations = createMigrations(0);
+            }
+
+            if (migrations.migrates()) {
+                migrations.accept(name, gsonReader, (migratedName, element) -> root.read(migratedName, element, jsonReader, gsonReader));
+            } else {
+                root.read(name, jsonReader, gsonReader);
+            }
+        }
+
+        jsonReader.endObject();
+
+        if (migrations != null && migrations.migrates()) {
+            migrations.finish((migratedName, element) -> root.read(migratedName, element, jsonReader, gsonReader));
+
+            YACLConstants.LOGGER.info("Migrated config file '{}' to schema version {}.", path, config.schema().version());
+            dirty = true;
+        } else if (migrations == null && config.schema().version() > 0) {
+            // an empty object, which still needs the version writing
+            dirty = true;
+        }
+
+        return root.finish() | dirty;
+    }
+
+    private int readVersion(JsonReader jsonReader) throws IOException {
+        if (jsonReader.peek() != JsonToken.NUMBER) {
+            YACLConstants.LOGGER.warn("Found invalid schema version {} in '{}'. Assuming the file is unversioned.", jsonReader.peek(), path);
+            jsonReader.skipValue();
+            return 0;
+        }
+        return jsonReader.nextInt();
+    }
+
+    private MigrationPipeline createMigrations(int fileVersion) {
+        markSchemaVersion(fileVersion);
+        return MigrationPipeline.forFile(config.schema(), fileVersion, path);
+    }
+
+    /**
+     * Reads a JSON object into the given fields, one level at a time.
+     * Unknown keys are skipped and missing required keys mark the config as dirty.
+     *
+     * @param accessFunction gets the buffer access each field should be loaded into
+     * @param prefix the serial path of the object, used to identify nested fields in logs
+     * @return if the config should be marked as dirty
+     */
+    private boolean readObject(JsonReader jsonReader, GsonReader gsonReader, ConfigField<?>[] fields, Function<ConfigField<?>, FieldAccess<?>> accessFunction, String prefix, boolean streaming) throws IOException {
+        ObjectReader object = new ObjectReader(fields, accessFunction, prefix, streaming);
+
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            object.read(jsonReader.nextName(), jsonReader, gsonReader);
+        }
+        jsonReader.endObject();
+
+        return object.finish();
+    }
+
+    /**
+     * Reads the values of a single JSON object into their fields.
+     */
+    private class ObjectReader {
+        private final Map<String, ConfigField<?>> fieldMap;
+        private final Set<String> missingFields;
+        private final Function<ConfigField<?>, FieldAccess<?>> accessFunction;
+        private final String prefix;
+        private final boolean streaming;
+        private boolean dirty;
+
+        private ObjectReader(ConfigField<?>[] fields, Function<ConfigField<?>, FieldAccess<?>> accessFunction, String prefix, boolean streaming) {
+            this.fieldMap = Arrays.stream(fields)
+                    .filter(field -> field.serial().isPresent())
+                    .collect(Collectors.toMap(f -> f.serial().orElseThrow().serialName(), Function.identity()));
+            this.missingFields = new HashSet<>(fieldMap.keySet());
+            this.accessFunction = accessFunction;
+            this.prefix = prefix;
+            this.streaming = streaming;
+        }
+
+        /**
+         * Reads the value the reader is positioned at.
+         */
+        private void read(String name, JsonReader jsonReader, GsonReader gsonReader) throws IOException {
+            ConfigField<?> field = fieldMap.get(name);
+            missingFields.remove(name);
+
+            if (field == null) {
+                YACLConstants.LOGGER.warn("Found unknown config field '{}'.", prefix + name);
+                jsonReader.skipValue();
+                return;
+            }
+
+            dirty |= readField(jsonReader, gsonReader, field, accessFunction.apply(field), prefix + name, streaming);
+        }
+
+        /**
+         * Reads a value produced by a migration, or the value the reader is positioned at if there is none.
+         */
+        private void read(String name, @Nullable JsonElement element, JsonReader jsonReader, GsonReader gsonReader) throws IOException {
+            if (element == null) {
+                read(name, jsonReader, gsonReader);
+                return;
+            }
+
+            // migrated values are rare, so they go through the same path as any other rather than a tree reader.
+            // json5 allows the non-finite numbers gson writes.
+            try (JsonReader valueReader = JsonReader.json5(new StringReader(element.toString()))) {
+                read(name, valueReader, new GsonReader(valueReader));
+            }
         }
 
-        if (!missingFields.isEmpty()) {
+        /**
+         * @return if the config should be marked as dirty
+         */
+        private boolean finish() {
             for (String missingField : missingFields) {
                 if (fieldMap.get(missingField).serial().orElseThrow().required()) {
                     dirty = true;
-                    YACLConstants.LOGGER.warn("Missing required config field '{}'. Re-saving as default.", missingField);
+                    YACLConstants.LOGGER.warn("Missing required config field '{}'. Re-saving as default.", prefix + missingField);
                 }
             }
+            return dirty;
         }
+    }
 
-        return dirty ? LoadResult.DIRTY : LoadResult.SUCCESS;
+    /**
+     * @return if the config should be marked as dirty
+     */
+    private boolean readField(JsonReader jsonReader, GsonReader gsonReader, ConfigField<?> field, FieldAccess<?> bufferAccess, String name, boolean streaming) throws IOException {
+        SerialField serial = field.serial().orElseThrow();
+
+        if (jsonReader.peek() == JsonToken.NULL) {
+            jsonReader.nextNull();
+
+            if (!serial.nullable()) {
+                YACLConstants.LOGGER.warn("Found null value in non-nullable config field '{}'. Leaving field as default and marking as dirty.", name);
+                return true;
+            }
+
+            setValue(bufferAccess, null, name);
+            return false;
+        }
+
+        if (config.hasSubclass(field.defaultAccess().typeClass())) {
+            return fromJson(jsonReader, gsonReader, field, bufferAccess, name, streaming);
+        }
+
+        if (serial.lazy()) {
+            if (supportsLazy(field)) {
+                return readLazy(jsonReader, field, bufferAccess, name);
+            }
+
+            if (YACLPlatform.isDevelopmentEnv()) {
+                YACLConstants.LOGGER.warn("Config field '{}' is marked as lazy, but only fields declared as List, Collection or Iterable can be loaded lazily. Loading it straight away. This warning is only visible in development environments.", name);
+            }
+        }
+
+        if (streaming) {
+            return readValueStreaming(gsonReader, field, bufferAccess, name);
+        } else {
+            return readValueTree(gsonReader, bufferAccess, name);
+        }
     }
 
-    private void readField() {
+    static boolean supportsLazy(ConfigField<?> field) {
+        Class<?> type = field.defaultAccess().typeClass();
+        return type == List.class || type == Collection.class || type == Iterable.class;
+    }
+
+    /**
+     * Copies the tokens of the next value into a compact serialized form held by a {@link LazyList},
+     * which only deserializes it into the field's type when the list is first used.
+     * <p>
+     * The parser does not expose the position of tokens in the file, so the value is
+     * copied rather than being referenced as a range of the file.
+     *
+     * @return if the config should be marked as dirty
+     */
+    private boolean readLazy(JsonReader jsonReader, ConfigField<?> field, FieldAccess<?> bufferAccess, String name) throws IOException {
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (JsonWriter writer = JsonWriter.json5(new OutputStreamWriter(serialized, StandardCharsets.UTF_8))) {
+            copyValue(jsonReader, writer);
+        }
 
+        setValue(bufferAccess, lazyList(field, serialized.toByteArray(), name), name);
+        return false;
     }
 
-    private boolean fromJson(JsonReader jsonReader, GsonReader gsonReader, ConfigField<?> field) throws IOException {
-        if (config.hasSubclass(field.defaultAccess().typeClass())) {
-            jsonReader.beginObject();
-            for (ConfigField<?> subclassField : config.subclassFields(field.defaultAccess().typeClass())) {
-                readField();
+    /**
+     * Creates a list holding the tokens of a value read by {@link #readLazy}, deserializing them into the field's type when first used.
+     */
+    <E> LazyList<E> lazyList(ConfigField<?> field, byte[] serialized, String name) {
+        return new LazyList<>(serialized, bytes -> loadLazy(field, bytes, name));
+    }
+
+    private <E> List<E> loadLazy(ConfigField<?> field, byte[] serialized, String name) {
+        try (JsonReader reader = JsonReader.json5(new InputStreamReader(new ByteArrayInputStream(serialized), StandardCharsets.UTF_8))) {
+            Object value = adapter(field).read(new GsonReader(reader));
+            if (value instanceof List<?> list) {
+                return (List<E>) list;
             }
-            jsonReader.endObject();
-            return true;
+            return value instanceof Collection<?> collection ? new ArrayList<>((Collection<E>) collection) : new ArrayList<>();
+        } catch (Exception e) {
+            YACLConstants.LOGGER.error("Failed to deserialize lazy config field '{}'. Using the default value.", name, e);
+            return field.defaultAccess().get() instanceof Collection<?> defaults ? new ArrayList<>((Collection<E>) defaults) : new ArrayList<>();
         }
+    }
+
+    /**
+     * Copies the next value token by token, without building any objects for it.
+     */
+    private static void copyValue(JsonReader in, JsonWriter out) throws IOException {
+        int depth = 0;
+        do {
+            switch (in.peek()) {
+                case BEGIN_ARRAY -> {
+                    in.beginArray();
+                    out.beginArray();
+                    depth++;
+                }
+                case END_ARRAY -> {
+                    in.endArray();
+                    out.endArray();
+                    depth--;
+                }
+                case BEGIN_OBJECT -> {
+                    in.beginObject();
+                    out.beginObject();
+                    depth++;
+                }
+                case END_OBJECT -> {
+                    in.endObject();
+                    out.endObject();
+                    depth--;
+                }
+                case NAME -> out.name(in.nextName());
+                case STRING -> out.value(in.nextString());
+                // keep the number exactly as written
+                case NUMBER -> out.value(new LazilyParsedNumber(in.nextString()));
+                case BOOLEAN -> out.value(in.nextBoolean());
+                case NULL -> {
+                    in.nextNull();
+                    out.nullValue();
+                }
+                case END_DOCUMENT -> throw new EOFException("Unexpected end of document whilst copying a value.");
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     * Reads the next value straight from the token stream into the field's type
+     * using its cached {@link TypeAdapter}, without building an intermediate {@link JsonElement}.
+     *
+     * @return if the config should be marked as dirty
+     */
+    private boolean readValueStreaming(GsonReader gsonReader, ConfigField<?> field, FieldAccess<?> bufferAccess, String name) {
+        Object value;
+        try {
+            value = adapter(field).read(gsonReader);
+        } catch (Exception e) {
+            throw new StreamingReadException(name, e);
+        }
+
+        setValue(bufferAccess, value, name);
+        return false;
+    }
+
+    /**
+     * Reads the next value into a {@link JsonElement} before converting it to the field's type.
+     * This is slower than {@link #readValueStreaming(GsonReader, ConfigField, FieldAccess, String)}
+     * but a value of the wrong type can be skipped whilst leaving the reader in a valid state.
+     *
+     * @return if the config should be marked as dirty
+     */
+    private boolean readValueTree(GsonReader gsonReader, FieldAccess<?> bufferAccess, String name) throws IOException {
+        JsonElement element;
+        try {
+            element = gson.fromJson(gsonReader, JsonElement.class);
+        } catch (Exception e) {
+            throw new IOException("Failed to deserialize config field '%s'. Due to the error state this JSON reader cannot be re-used and loading will be aborted.".formatted(name), e);
+        }
+
+        Object value;
+        try {
+            value = gson.fromJson(element, bufferAccess.type());
+        } catch (Exception e) {
+            YACLConstants.LOGGER.error("Failed to deserialize config field '{}'. Leaving as default.", name, e);
+            return false;
+        }
+
+        setValue(bufferAccess, value, name);
         return false;
     }
 
+    private void setValue(FieldAccess<?> bufferAccess, Object value, String name) {
+        try {
+            ((FieldAccess<Object>) bufferAccess).set(value);
+        } catch (Exception e) {
+            YACLConstants.LOGGER.error("Failed to deserialize config field '{}'. Leaving as default.", name, e);
+        }
+    }
+
+    private TypeAdapter<?> adapter(ConfigField<?> field) {
+        return adapterCache.computeIfAbsent(field, f -> gson.getAdapter(TypeToken.get(f.defaultAccess().type())));
+    }
+
+    /**
+     * Fills a nested {@link SerialEntry} object field by field, straight from the token stream.
+     * The nested object already present in the buffer is reused, or one is created if it is null.
+     *
+     * @return if the config should be marked as dirty
+     */
+    private boolean fromJson(JsonReader jsonReader, GsonReader gsonReader, ConfigField<?> field, FieldAccess<?> bufferAccess, String name, boolean streaming) throws IOException {
+        Class<?> subclass = field.defaultAccess().typeClass();
+
+        if (jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
+            YACLConstants.LOGGER.warn("Expected an object for config field '{}' but found {}. Leaving field as default and marking as dirty.", name, jsonReader.peek());
+            jsonReader.skipValue();
+            return true;
+        }
+
+        Object subclassInstance = bufferAccess.get();
+        if (subclassInstance == null) {
+            try {
+                Constructor<?> constructor = subclass.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                subclassInstance = constructor.newInstance();
+            } catch (Exception e) {
+                YACLConstants.LOGGER.error("Failed to create instance of '{}' to deserialize config field '{}'. Leaving as default.", subclass.getName(), name, e);
+                jsonReader.skipValue();
+                return false;
+            }
+            setValue(bufferAccess, subclassInstance, name);
+        }
+
+        Object finalSubclassInstance = subclassInstance;
+        return readObject(jsonReader, gsonReader, config.subclassFields(subclass), subclassField -> accessOn(subclassField, finalSubclassInstance), name + ".", streaming);
+    }
+
+    private static FieldAccess<?> accessOn(ConfigField<?> field, Object instance) {
+        return ((ConfigFieldImpl<?>) field).access().withInstance(instance);
+    }
+
     @Override
     @Deprecated
     @SuppressWarnings("deprecation")
@@ -252,11 +688,21 @@ public class GsonConfigSerializer<T> extends ConfigSerializer<T> {
         }
     }
 
+    private static class StreamingReadException extends RuntimeException {
+        private final String fieldName;
+
+        private StreamingReadException(String fieldName, Throwable cause) {
+            super(cause);
+            this.fieldName = fieldName;
+        }
+    }
+
     @ApiStatus.Internal
     public static class Builder<T> implements GsonConfigSerializerBuilder<T> {
         private final ConfigClassHandler<T> config;
         private Path path;
         private boolean json5;
+        private boolean readJson5;
         private UnaryOperator<GsonBuilder> gsonBuilder = builder -> builder
                 .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
                 .serializeNulls()
@@ -300,9 +746,18 @@ public class GsonConfigSerializer<T> extends ConfigSerializer<T> {
             return this;
         }
 
+        /**
+         * Reads the file under JSON5 spec, even if it is written as plain JSON.
+         * This lets files which were read leniently by GSON, such as hand edited ones with comments, still load.
+         */
+        public Builder<T> setReadJson5(boolean readJson5) {
+            this.readJson5 = readJson5;
+            return this;
+        }
+
         @Override
         public GsonConfigSerializer<T> build() {
-            return new GsonConfigSerializer<>(config, path, gsonBuilder.apply(new GsonBuilder()).create(), json5);
+            return new GsonConfigSerializer<>(config, path, gsonBuilder.apply(new GsonBuilder()).create(), json5, readJson5);
         }
     }
 }
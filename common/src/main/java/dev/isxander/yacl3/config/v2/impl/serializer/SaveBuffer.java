@@ -0,0 +1,145 @@
+package dev.isxander.yacl3.config.v2.impl.serializer;
+
+import dev.isxander.yacl3.impl.utils.YACLConstants;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * A growable buffer that serialized config content is written into before it goes to disk.
+ * <p>
+ * Buffers are kept between saves along with the writer and digest used with them,
+ * so once a buffer has grown to fit the config, a save allocates next to nothing for its output.
+ * The content is written straight from the backing array to the file channel, without being copied.
+ */
+final class SaveBuffer extends OutputStream {
+    private static final int INITIAL_CAPACITY = 8192;
+    /** Larger buffers are dropped after use, so a one-off huge save doesn't keep its memory. */
+    private static final int MAX_RETAINED_CAPACITY = 1 << 22;
+
+    private final MessageDigest digest;
+    private Writer writer;
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private ByteBuffer view = ByteBuffer.wrap(bytes);
+    private int size;
+
+    private SaveBuffer(MessageDigest digest) {
+        this.digest = digest;
+        this.writer = newWriter();
+    }
+
+    private Writer newWriter() {
+        // never closed, it is flushed at the end of each save instead
+        return new OutputStreamWriter(this, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A UTF-8 writer into this buffer. It must be flushed before the content is used.
+     */
+    Writer writer() {
+        return writer;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(size + 1);
+        bytes[size++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        ensureCapacity(size + len);
+        System.arraycopy(b, off, bytes, size, len);
+        size += len;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new OutOfMemoryError("Config content is too large to buffer.");
+        }
+        if (capacity <= bytes.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, bytes.length << 1);
+        if (newCapacity < 0) {
+            newCapacity = Integer.MAX_VALUE - 8;
+        }
+        YACLConstants.LOGGER.debug("Growing config save buffer from {} to {} bytes.", bytes.length, newCapacity);
+        bytes = Arrays.copyOf(bytes, newCapacity);
+        view = ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * @return the hash of the content, from the same algorithm as {@link dev.isxander.yacl3.config.v2.api.ConfigSerializer}
+     */
+    byte[] contentHash() {
+        digest.reset();
+        digest.update(bytes, 0, size);
+        return digest.digest();
+    }
+
+    /**
+     * Writes the whole content to the channel.
+     */
+    void writeTo(WritableByteChannel channel) throws IOException {
+        view.clear().limit(size);
+        while (view.hasRemaining()) {
+            channel.write(view);
+        }
+    }
+
+    /**
+     * Holds a buffer for one serializer. A buffer is usually filled and written before the next save,
+     * but a save prepared whilst another is still waiting to be written simply gets a buffer of its own.
+     */
+    static final class Pool {
+        private final Supplier<MessageDigest> digestFactory;
+        private final AtomicReference<SaveBuffer> idle = new AtomicReference<>();
+
+        Pool(Supplier<MessageDigest> digestFactory) {
+            this.digestFactory = digestFactory;
+        }
+
+        /**
+         * @return an empty buffer
+         */
+        SaveBuffer acquire() {
+            SaveBuffer buffer = idle.getAndSet(null);
+            if (buffer == null) {
+                return new SaveBuffer(digestFactory.get());
+            }
+
+            buffer.size = 0;
+            return buffer;
+        }
+
+        /**
+         * Returns a buffer to the pool once its content has been fully serialized,
+         * whether or not it was then written. Use {@link #discard(SaveBuffer)} for a save that failed part way through.
+         */
+        void release(SaveBuffer buffer) {
+            if (buffer.bytes.length <= MAX_RETAINED_CAPACITY) {
+                idle.set(buffer);
+            }
+        }
+
+        /**
+         * Returns the buffer of a save that failed to serialize. Its writer may still hold
+         * part of the failed output, so it is replaced rather than leaking into the next save.
+         */
+        void discard(SaveBuffer buffer) {
+            buffer.writer = buffer.newWriter();
+            release(buffer);
+        }
+    }
+}
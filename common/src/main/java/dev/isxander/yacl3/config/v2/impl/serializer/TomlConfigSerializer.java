@@ -0,0 +1,72 @@
+package dev.isxander.yacl3.config.v2.impl.serializer;
+
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.codec.ConfigCodecRegistry;
+import dev.isxander.yacl3.config.v2.api.serializer.TomlConfigSerializerBuilder;
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+public class TomlConfigSerializer<T> extends CodecConfigSerializer<T> {
+    private TomlConfigSerializer(ConfigClassHandler<T> config, Path path, ConfigCodecRegistry codecs) {
+        super(config, path, codecs, false);
+    }
+
+    @Override
+    protected void write(OutputStream output, Map<String, Object> root, Map<List<String>, String> comments) throws IOException {
+        TomlWriter.write(new OutputStreamWriter(output, StandardCharsets.UTF_8), root, comments);
+    }
+
+    @Override
+    protected Map<String, Object> read(InputStream input) throws IOException {
+        return TomlReader.read(new String(input.readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    @ApiStatus.Internal
+    public static class Builder<T> implements TomlConfigSerializerBuilder<T> {
+        private final ConfigClassHandler<T> config;
+        private Path path;
+        private ConfigCodecRegistry codecs;
+        private UnaryOperator<ConfigCodecRegistry> appendCodecs = UnaryOperator.identity();
+
+        public Builder(ConfigClassHandler<T> config) {
+            this.config = config;
+        }
+
+        @Override
+        public Builder<T> setPath(Path path) {
+            this.path = path;
+            return this;
+        }
+
+        @Override
+        public Builder<T> overrideCodecs(ConfigCodecRegistry codecs) {
+            this.codecs = codecs;
+            return this;
+        }
+
+        @Override
+        public Builder<T> appendCodecs(UnaryOperator<ConfigCodecRegistry> codecs) {
+            UnaryOperator<ConfigCodecRegistry> prev = this.appendCodecs;
+            this.appendCodecs = registry -> codecs.apply(prev.apply(registry));
+            return this;
+        }
+
+        @Override
+        public TomlConfigSerializer<T> build() {
+            Validate.notNull(path, "path must not be null");
+
+            ConfigCodecRegistry codecs = this.codecs != null ? this.codecs : ConfigCodecRegistry.create();
+            return new TomlConfigSerializer<>(config, path, appendCodecs.apply(codecs));
+        }
+    }
+}
@@ -0,0 +1,537 @@
+package dev.isxander.yacl3.config.v2.impl.serializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Reads TOML into a tree of format-neutral values: {@link Boolean booleans}, {@link Long longs},
+ * {@link Double doubles}, {@link String strings}, {@link List lists} and {@link Map maps}.
+ * <p>
+ * All of TOML 1.0 is supported apart from dates and times, which no config field type is written as.
+ */
+final class TomlReader {
+    private static final Pattern INTEGER = Pattern.compile("[+-]?(0|[1-9](_?[0-9])*)");
+    private static final Pattern FLOAT = Pattern.compile("[+-]?(0|[1-9](_?[0-9])*)(\\.[0-9](_?[0-9])*)?([eE][+-]?[0-9](_?[0-9])*)?");
+    private static final Pattern DATE_TIME = Pattern.compile("\\d{4}-\\d{2}-\\d{2}.*|\\d{2}:\\d{2}.*");
+    private static final Pattern HEX = Pattern.compile("0x[0-9A-Fa-f](_?[0-9A-Fa-f])*");
+    private static final Pattern OCTAL = Pattern.compile("0o[0-7](_?[0-7])*");
+    private static final Pattern BINARY = Pattern.compile("0b[01](_?[01])*");
+
+    private final String input;
+    private int pos;
+
+    private final Map<String, Object> root = new LinkedHashMap<>();
+    /** Tables which have had a header, so cannot have another. */
+    private final Set<Map<String, Object>> definedTables = Collections.newSetFromMap(new IdentityHashMap<>());
+    /** Tables created by dotted keys, which cannot then have a header. */
+    private final Set<Map<String, Object>> dottedTables = Collections.newSetFromMap(new IdentityHashMap<>());
+    /** Inline tables are complete once written, so cannot be added to. */
+    private final Set<Map<String, Object>> inlineTables = Collections.newSetFromMap(new IdentityHashMap<>());
+    /** Arrays created by {@code [[headers]]}, which are the only arrays that can be appended to. */
+    private final Set<List<Object>> tableArrays = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private TomlReader(String input) {
+        this.input = input;
+    }
+
+    static Map<String, Object> read(String input) throws IOException {
+        TomlReader reader = new TomlReader(input);
+        reader.readDocument();
+        return reader.root;
+    }
+
+    private void readDocument() throws IOException {
+        // a byte order mark is allowed at the start of the document
+        if (input.startsWith("\uFEFF")) pos++;
+
+        Map<String, Object> table = root;
+        while (true) {
+            skipBlankLines();
+            if (pos >= input.length()) break;
+
+            if (input.startsWith("[[", pos)) {
+                pos += 2;
+                List<String> keys = readKey();
+                expect("]]");
+                table = appendTableArray(keys);
+            } else if (input.charAt(pos) == '[') {
+                pos++;
+                List<String> keys = readKey();
+                expect("]");
+                table = defineTable(keys);
+            } else {
+                List<String> keys = readKey();
+                expect("=");
+                skipSpaces();
+                put(table, keys, readValue());
+            }
+
+            endLine();
+        }
+    }
+
+    private Map<String, Object> defineTable(List<String> keys) throws IOException {
+        Map<String, Object> parent = root;
+        for (String key : keys.subList(0, keys.size() - 1)) {
+            parent = descend(parent, key);
+        }
+
+        String last = keys.get(keys.size() - 1);
+        Object existing = parent.get(last);
+        Map<String, Object> table;
+        if (existing == null) {
+            table = new LinkedHashMap<>();
+            parent.put(last, table);
+        } else if (existing instanceof Map<?, ?> map && !inlineTables.contains(map) && !dottedTables.contains(map)) {
+            table = (Map<String, Object>) map;
+        } else {
+            throw error("Key '%s' is already defined".formatted(String.join(".", keys)));
+        }
+
+        if (!definedTables.add(table)) {
+            throw error("Table '%s' is defined more than once".formatted(String.join(".", keys)));
+        }
+        return table;
+    }
+
+    private Map<String, Object> appendTableArray(List<String> keys) throws IOException {
+        Map<String, Object> parent = root;
+        for (String key : keys.subList(0, keys.size() - 1)) {
+            parent = descend(parent, key);
+        }
+
+        String last = keys.get(keys.size() - 1);
+        Object existing = parent.get(last);
+        List<Object> array;
+        if (existing == null) {
+            array = new ArrayList<>();
+            tableArrays.add(array);
+            parent.put(last, array);
+        } else if (existing instanceof List<?> list && tableArrays.contains(list)) {
+            array = (List<Object>) list;
+        } else {
+            throw error("Key '%s' is already defined".formatted(String.join(".", keys)));
+        }
+
+        Map<String, Object> table = new LinkedHashMap<>();
+        array.add(table);
+        definedTables.add(table);
+        return table;
+    }
+
+    private void put(Map<String, Object> table, List<String> keys, Object value) throws IOException {
+        Map<String, Object> parent = table;
+        for (String key : keys.subList(0, keys.size() - 1)) {
+            if (parent.get(key) instanceof Map<?, ?> map && definedTables.contains(map)) {
+                throw error("Table '%s' is defined more than once".formatted(String.join(".", keys)));
+            }
+            parent = descend(parent, key);
+            dottedTables.add(parent);
+        }
+
+        String last = keys.get(keys.size() - 1);
+        if (parent.containsKey(last)) {
+            throw error("Key '%s' is defined more than once".formatted(String.join(".", keys)));
+        }
+        parent.put(last, value);
+    }
+
+    /**
+     * @return the table under the key, creating it if it does not exist
+     */
+    private Map<String, Object> descend(Map<String, Object> parent, String key) throws IOException {
+        Object existing = parent.get(key);
+        if (existing == null) {
+            Map<String, Object> table = new LinkedHashMap<>();
+            parent.put(key, table);
+            return table;
+        } else if (existing instanceof Map<?, ?> map && !inlineTables.contains(map)) {
+            return (Map<String, Object>) map;
+        } else if (existing instanceof List<?> list && tableArrays.contains(list)) {
+            // keys under an array of tables belong to the last table in it
+            return (Map<String, Object>) list.get(list.size() - 1);
+        }
+        throw error("Key '%s' is not a table".formatted(key));
+    }
+
+    private List<String> readKey() throws IOException {
+        List<String> keys = new ArrayList<>();
+        while (true) {
+            skipSpaces();
+            keys.add(readSimpleKey());
+            skipSpaces();
+
+            if (pos < input.length() && input.charAt(pos) == '.') {
+                pos++;
+            } else {
+                return keys;
+            }
+        }
+    }
+
+    private String readSimpleKey() throws IOException {
+        if (pos >= input.length()) {
+            throw error("Expected a key");
+        }
+
+        char c = input.charAt(pos);
+        if (c == '"') {
+            pos++;
+            return readBasicString();
+        } else if (c == '\'') {
+            pos++;
+            return readLiteralString();
+        }
+
+        int start = pos;
+        while (pos < input.length() && isBareKeyChar(input.charAt(pos))) {
+            pos++;
+        }
+        if (start == pos) {
+            throw error("Expected a key but found '%s'".formatted(c));
+        }
+        return input.substring(start, pos);
+    }
+
+    private Object readValue() throws IOException {
+        if (pos >= input.length()) {
+            throw error("Expected a value");
+        }
+
+        char c = input.charAt(pos);
+        if (input.startsWith("\"\"\"", pos)) {
+            pos += 3;
+            return readMultilineBasicString();
+        } else if (c == '"') {
+            pos++;
+            return readBasicString();
+        } else if (input.startsWith("'''", pos)) {
+            pos += 3;
+            return readMultilineLiteralString();
+        } else if (c == '\'') {
+            pos++;
+            return readLiteralString();
+        } else if (c == '[') {
+            pos++;
+            return readArray();
+        } else if (c == '{') {
+            pos++;
+            return readInlineTable();
+        }
+
+        return readScalar();
+    }
+
+    private Object readScalar() throws IOException {
+        int start = pos;
+        while (pos < input.length() && isScalarChar(input.charAt(pos))) {
+            pos++;
+        }
+        String token = input.substring(start, pos);
+
+        Object keyword = switch (token) {
+            case "true" -> true;
+            case "false" -> false;
+            case "inf", "+inf" -> Double.POSITIVE_INFINITY;
+            case "-inf" -> Double.NEGATIVE_INFINITY;
+            case "nan", "+nan", "-nan" -> Double.NaN;
+            default -> null;
+        };
+        if (keyword != null) {
+            return keyword;
+        }
+
+        try {
+            if (HEX.matcher(token).matches()) {
+                return Long.parseLong(token.substring(2).replace("_", ""), 16);
+            } else if (OCTAL.matcher(token).matches()) {
+                return Long.parseLong(token.substring(2).replace("_", ""), 8);
+            } else if (BINARY.matcher(token).matches()) {
+                return Long.parseLong(token.substring(2).replace("_", ""), 2);
+            } else if (INTEGER.matcher(token).matches()) {
+                return Long.parseLong(token.replace("_", ""));
+            } else if (FLOAT.matcher(token).matches()) {
+                return Double.parseDouble(token.replace("_", ""));
+            }
+        } catch (NumberFormatException e) {
+            throw error("Number '%s' is out of range".formatted(token));
+        }
+
+        if (DATE_TIME.matcher(token).matches()) {
+            throw error("Dates and times are not supported");
+        }
+        pos = start;
+        throw error(token.isEmpty() ? "Expected a value" : "Invalid value '%s'".formatted(token));
+    }
+
+    private List<Object> readArray() throws IOException {
+        List<Object> array = new ArrayList<>();
+        while (true) {
+            skipBlankLines();
+            if (pos < input.length() && input.charAt(pos) == ']') {
+                pos++;
+                return array;
+            }
+
+            array.add(readValue());
+            skipBlankLines();
+
+            if (pos < input.length() && input.charAt(pos) == ',') {
+                pos++;
+            } else if (pos < input.length() && input.charAt(pos) == ']') {
+                pos++;
+                return array;
+            } else {
+                throw error("Expected ',' or ']' in array");
+            }
+        }
+    }
+
+    private Map<String, Object> readInlineTable() throws IOException {
+        Map<String, Object> table = new LinkedHashMap<>();
+        skipSpaces();
+        if (pos < input.length() && input.charAt(pos) == '}') {
+            pos++;
+            inlineTables.add(table);
+            return table;
+        }
+
+        while (true) {
+            List<String> keys = readKey();
+            expect("=");
+            skipSpaces();
+            put(table, keys, readValue());
+            skipSpaces();
+
+            if (pos < input.length() && input.charAt(pos) == ',') {
+                pos++;
+            } else if (pos < input.length() && input.charAt(pos) == '}') {
+                pos++;
+                // only sealed once complete, so dotted keys within it can still create tables
+                inlineTables.add(table);
+                return table;
+            } else {
+                throw error("Expected ',' or '}' in inline table");
+            }
+        }
+    }
+
+    private String readBasicString() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        while (true) {
+            if (pos >= input.length() || input.charAt(pos) == '\n' || input.charAt(pos) == '\r') {
+                throw error("Unterminated string");
+            }
+
+            char c = input.charAt(pos++);
+            if (c == '"') {
+                return builder.toString();
+            } else if (c == '\\') {
+                readEscape(builder);
+            } else {
+                builder.append(c);
+            }
+        }
+    }
+
+    private String readMultilineBasicString() throws IOException {
+        skipNewline();
+
+        StringBuilder builder = new StringBuilder();
+        while (true) {
+            if (pos >= input.length()) {
+                throw error("Unterminated string");
+            }
+
+            if (input.startsWith("\"\"\"", pos)) {
+                // up to two quotes may come right before the closing delimiter
+                int quotes = 3;
+                while (quotes < 5 && pos + quotes < input.length() && input.charAt(pos + quotes) == '"') {
+                    quotes++;
+                }
+                builder.append("\"".repeat(quotes - 3));
+                pos += quotes;
+                return builder.toString();
+            }
+
+            char c = input.charAt(pos++);
+            if (c == '\\') {
+                if (isLineEndingBackslash()) {
+                    // a backslash at the end of a line trims all whitespace up to the next non-whitespace character
+                    while (pos < input.length() && Character.isWhitespace(input.charAt(pos))) {
+                        pos++;
+                    }
+                } else {
+                    readEscape(builder);
+                }
+            } else if (c == '\r' && pos < input.length() && input.charAt(pos) == '\n') {
+                builder.append('\n');
+                pos++;
+            } else {
+                builder.append(c);
+            }
+        }
+    }
+
+    private boolean isLineEndingBackslash() {
+        int i = pos;
+        while (i < input.length() && (input.charAt(i) == ' ' || input.charAt(i) == '\t')) {
+            i++;
+        }
+        return i < input.length() && (input.charAt(i) == '\n' || input.startsWith("\r\n", i));
+    }
+
+    private String readLiteralString() throws IOException {
+        int end = pos;
+        while (end < input.length() && input.charAt(end) != '\'') {
+            if (input.charAt(end) == '\n' || input.charAt(end) == '\r') {
+                throw error("Unterminated string");
+            }
+            end++;
+        }
+        if (end >= input.length()) {
+            throw error("Unterminated string");
+        }
+
+        String string = input.substring(pos, end);
+        pos = end + 1;
+        return string;
+    }
+
+    private String readMultilineLiteralString() throws IOException {
+        skipNewline();
+
+        int end = input.indexOf("'''", pos);
+        if (end < 0) {
+            throw error("Unterminated string");
+        }
+        // up to two quotes may come right before the closing delimiter
+        int quotes = 3;
+        while (quotes < 5 && end + quotes < input.length() && input.charAt(end + quotes) == '\'') {
+            quotes++;
+        }
+
+        String string = input.substring(pos, end + quotes - 3).replace("\r\n", "\n");
+        pos = end + quotes;
+        return string;
+    }
+
+    private void readEscape(StringBuilder builder) throws IOException {
+        if (pos >= input.length()) {
+            throw error("Unterminated string");
+        }
+
+        char c = input.charAt(pos++);
+        switch (c) {
+            case 'b' -> builder.append('\b');
+            case 't' -> builder.append('\t');
+            case 'n' -> builder.append('\n');
+            case 'f' -> builder.append('\f');
+            case 'r' -> builder.append('\r');
+            case '"' -> builder.append('"');
+            case '\\' -> builder.append('\\');
+            case 'u' -> builder.appendCodePoint(readCodePoint(4));
+            case 'U' -> builder.appendCodePoint(readCodePoint(8));
+            default -> throw error("Invalid escape sequence '\\%s'".formatted(c));
+        }
+    }
+
+    private int readCodePoint(int digits) throws IOException {
+        if (pos + digits > input.length()) {
+            throw error("Unterminated unicode escape");
+        }
+
+        try {
+            int codePoint = Integer.parseUnsignedInt(input.substring(pos, pos + digits), 16);
+            if (!Character.isValidCodePoint(codePoint)) {
+                throw error("Invalid unicode escape");
+            }
+            pos += digits;
+            return codePoint;
+        } catch (NumberFormatException e) {
+            throw error("Invalid unicode escape");
+        }
+    }
+
+    private void expect(String expected) throws IOException {
+        skipSpaces();
+        if (!input.startsWith(expected, pos)) {
+            throw error("Expected '%s'".formatted(expected));
+        }
+        pos += expected.length();
+    }
+
+    /**
+     * Skips to the start of the next line, allowing only a comment before it.
+     */
+    private void endLine() throws IOException {
+        skipSpaces();
+        skipComment();
+
+        if (pos >= input.length()) return;
+        if (!skipNewline()) {
+            throw error("Expected a new line");
+        }
+    }
+
+    private void skipBlankLines() {
+        while (pos < input.length()) {
+            char c = input.charAt(pos);
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+                pos++;
+            } else if (c == '#') {
+                skipComment();
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void skipSpaces() {
+        while (pos < input.length() && (input.charAt(pos) == ' ' || input.charAt(pos) == '\t')) {
+            pos++;
+        }
+    }
+
+    private void skipComment() {
+        if (pos < input.length() && input.charAt(pos) == '#') {
+            while (pos < input.length() && input.charAt(pos) != '\n' && input.charAt(pos) != '\r') {
+                pos++;
+            }
+        }
+    }
+
+    private boolean skipNewline() {
+        if (input.startsWith("\n", pos)) {
+            pos++;
+            return true;
+        } else if (input.startsWith("\r\n", pos)) {
+            pos += 2;
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isBareKeyChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_' || c == '-';
+    }
+
+    private static boolean isScalarChar(char c) {
+        return isBareKeyChar(c) || c == '+' || c == '.' || c == ':';
+    }
+
+    private IOException error(String message) {
+        int line = 1;
+        for (int i = 0; i < pos && i < input.length(); i++) {
+            if (input.charAt(i) == '\n') line++;
+        }
+        return new IOException("%s at line %d of TOML.".formatted(message, line));
+    }
+}
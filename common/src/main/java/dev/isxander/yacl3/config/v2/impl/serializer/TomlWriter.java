@@ -0,0 +1,163 @@
+package dev.isxander.yacl3.config.v2.impl.serializer;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Writes a tree of format-neutral values as TOML.
+ * <p>
+ * Values are written before any tables at each level, and nested maps become {@code [tables]}.
+ * Maps inside lists are written as inline tables. Null values in maps are left out,
+ * as TOML has no null, and null values in lists cannot be written at all.
+ */
+final class TomlWriter {
+    private static final Pattern BARE_KEY = Pattern.compile("[A-Za-z0-9_-]+");
+    /** Lists of simple values longer than this are split over multiple lines. */
+    private static final int MAX_INLINE_LENGTH = 80;
+
+    private final Writer out;
+    private final Map<List<String>, String> comments;
+
+    private TomlWriter(Writer out, Map<List<String>, String> comments) {
+        this.out = out;
+        this.comments = comments;
+    }
+
+    static void write(Writer out, Map<String, Object> root, Map<List<String>, String> comments) throws IOException {
+        new TomlWriter(out, comments).writeTable(List.of(), root);
+        out.flush();
+    }
+
+    private void writeTable(List<String> path, Map<String, Object> table) throws IOException {
+        for (Map.Entry<String, Object> entry : table.entrySet()) {
+            Object value = entry.getValue();
+            if (value == null || value instanceof Map<?, ?>) continue;
+
+            List<String> valuePath = append(path, entry.getKey());
+            writeComment(valuePath);
+            out.write(key(entry.getKey()));
+            out.write(" = ");
+            out.write(value(value, valuePath, ""));
+            out.write('\n');
+        }
+
+        for (Map.Entry<String, Object> entry : table.entrySet()) {
+            if (!(entry.getValue() instanceof Map<?, ?> child)) continue;
+
+            List<String> tablePath = append(path, entry.getKey());
+            out.write('\n');
+            writeComment(tablePath);
+            out.write('[');
+            out.write(String.join(".", tablePath.stream().map(TomlWriter::key).toList()));
+            out.write("]\n");
+            writeTable(tablePath, (Map<String, Object>) child);
+        }
+    }
+
+    private void writeComment(List<String> path) throws IOException {
+        String comment = comments.get(path);
+        if (comment == null) return;
+
+        for (String line : comment.split("\\R", -1)) {
+            out.write(line.isEmpty() ? "#" : "# " + line);
+            out.write('\n');
+        }
+    }
+
+    private static String value(Object value, List<String> path, String indent) throws IOException {
+        if (value instanceof String string) {
+            return string(string);
+        } else if (value instanceof Boolean || value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return value.toString();
+        } else if (value instanceof Number number) {
+            double decimal = number.doubleValue();
+            if (Double.isNaN(decimal)) return "nan";
+            if (Double.isInfinite(decimal)) return decimal > 0 ? "inf" : "-inf";
+            return Double.toString(decimal);
+        } else if (value instanceof List<?> list) {
+            return array(list, path, indent);
+        } else if (value instanceof Map<?, ?> map) {
+            return inlineTable(map, path, indent);
+        }
+        throw new IOException("Cannot write %s in '%s' as TOML.".formatted(value == null ? "null" : value.getClass().getSimpleName(), String.join(".", path)));
+    }
+
+    private static String array(List<?> list, List<String> path, String indent) throws IOException {
+        List<String> elements = new ArrayList<>(list.size());
+        boolean multiline = false;
+        int length = 0;
+        for (Object element : list) {
+            if (element == null) {
+                throw new IOException("TOML cannot hold null values, but '%s' contains one.".formatted(String.join(".", path)));
+            }
+
+            String written = value(element, path, indent + "    ");
+            elements.add(written);
+            length += written.length() + 2;
+            multiline |= element instanceof List<?> || element instanceof Map<?, ?>;
+        }
+
+        if (elements.isEmpty()) {
+            return "[]";
+        }
+        if (!multiline && length <= MAX_INLINE_LENGTH) {
+            return "[" + String.join(", ", elements) + "]";
+        }
+
+        StringBuilder builder = new StringBuilder("[\n");
+        for (String element : elements) {
+            builder.append(indent).append("    ").append(element).append(",\n");
+        }
+        return builder.append(indent).append(']').toString();
+    }
+
+    private static String inlineTable(Map<?, ?> map, List<String> path, String indent) throws IOException {
+        List<String> entries = new ArrayList<>(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getValue() == null) continue;
+
+            String key = String.valueOf(entry.getKey());
+            entries.add(key(key) + " = " + value(entry.getValue(), append(path, key), indent));
+        }
+        return entries.isEmpty() ? "{}" : "{ " + String.join(", ", entries) + " }";
+    }
+
+    private static String key(String key) {
+        return BARE_KEY.matcher(key).matches() ? key : string(key);
+    }
+
+    private static String string(String string) {
+        StringBuilder builder = new StringBuilder(string.length() + 2).append('"');
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\b' -> builder.append("\\b");
+                case '\t' -> builder.append("\\t");
+                case '\n' -> builder.append("\\n");
+                case '\f' -> builder.append("\\f");
+                case '\r' -> builder.append("\\r");
+                default -> {
+                    if (c < 0x20 || c == 0x7F) {
+                        builder.append("\\u%04X".formatted((int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    private static List<String> append(List<String> path, String name) {
+        List<String> appended = new ArrayList<>(path.size() + 1);
+        appended.addAll(path);
+        appended.add(name);
+        return appended;
+    }
+}
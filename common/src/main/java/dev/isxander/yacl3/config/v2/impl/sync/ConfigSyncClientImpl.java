@@ -0,0 +1,121 @@
+package dev.isxander.yacl3.config.v2.impl.sync;
+
+import dev.isxander.yacl3.config.v2.api.ConfigChangeEvent;
+import dev.isxander.yacl3.config.v2.api.ConfigChangeListener;
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.ConfigDelta;
+import dev.isxander.yacl3.config.v2.api.ConfigField;
+import dev.isxander.yacl3.config.v2.api.ConfigSerializer;
+import dev.isxander.yacl3.config.v2.api.ConfigSnapshot;
+import dev.isxander.yacl3.config.v2.api.sync.ConfigSyncClient;
+import dev.isxander.yacl3.config.v2.impl.ConfigChangeEventImpl;
+import dev.isxander.yacl3.config.v2.impl.ConfigClassHandlerImpl;
+import dev.isxander.yacl3.config.v2.impl.ConfigDiff;
+import dev.isxander.yacl3.config.v2.impl.ConfigSnapshotImpl;
+import dev.isxander.yacl3.impl.utils.YACLConstants;
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@ApiStatus.Internal
+public class ConfigSyncClientImpl<T> implements ConfigSyncClient<T> {
+    private final ConfigClassHandlerImpl<T> handler;
+    private final List<ConfigChangeListener<T>> changeListeners = new CopyOnWriteArrayList<>();
+
+    /** The values synced from the server, kept apart from the handler so they are never saved to the client's file. */
+    private volatile ConfigSnapshot<T> synced;
+    private long syncedVersion;
+
+    public ConfigSyncClientImpl(ConfigClassHandler<T> handler) {
+        Validate.isInstanceOf(ConfigClassHandlerImpl.class, handler, "handler must be created by ConfigClassHandler.createBuilder");
+        this.handler = (ConfigClassHandlerImpl<T>) handler;
+    }
+
+    @Override
+    public ConfigClassHandler<T> handler() {
+        return this.handler;
+    }
+
+    @Override
+    public ConfigSnapshot<T> snapshot() {
+        ConfigSnapshot<T> synced = this.synced;
+        return synced != null ? synced : handler.snapshot();
+    }
+
+    @Override
+    public synchronized boolean receive(byte[] payload) {
+        SyncPayloads.Payload decoded;
+        try {
+            decoded = SyncPayloads.decode(payload);
+        } catch (IOException e) {
+            YACLConstants.LOGGER.error("Failed to read sync payload of config '{}'.", handler.configClass().getSimpleName(), e);
+            return false;
+        }
+
+        if (decoded.kind() == SyncPayloads.CHANGES && synced == null) {
+            YACLConstants.LOGGER.warn("Received changes to config '{}' before the whole config. Ignoring them.", handler.configClass().getSimpleName());
+            return false;
+        }
+
+        // the whole config holds every serial field, so it only inherits the client's values for fields that are not synced
+        T base = decoded.kind() == SyncPayloads.FULL ? handler.instance() : synced.instance();
+        ConfigClassHandlerImpl.BufferedLoad<T> load = handler.applyDeltaIntoBuffer(base, ConfigDelta.of(decoded.values()));
+        if (load.result() == ConfigSerializer.LoadResult.FAILURE) {
+            YACLConstants.LOGGER.error("Failed to apply sync payload of config '{}'.", handler.configClass().getSimpleName(), load.error());
+            return false;
+        }
+
+        publish(ConfigSnapshotImpl.of(handler, load.buffer().applyToCopyOf(base), ++syncedVersion));
+        return true;
+    }
+
+    @Override
+    public synchronized void disconnect() {
+        if (synced != null) {
+            publish(null);
+        }
+    }
+
+    @Override
+    public boolean isSynced() {
+        return synced != null;
+    }
+
+    @Override
+    public void addChangeListener(ConfigChangeListener<T> listener) {
+        changeListeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(ConfigChangeListener<T> listener) {
+        changeListeners.remove(listener);
+    }
+
+    private void publish(ConfigSnapshot<T> synced) {
+        T oldInstance = snapshot().instance();
+        this.synced = synced;
+        T newInstance = snapshot().instance();
+
+        // diffing every field is only worth it if someone is listening
+        if (changeListeners.isEmpty()) {
+            return;
+        }
+
+        List<ConfigField<?>> changedFields = ConfigDiff.changedFields(handler, oldInstance, newInstance);
+        if (changedFields.isEmpty()) {
+            return;
+        }
+
+        ConfigChangeEvent<T> event = new ConfigChangeEventImpl<>(handler, oldInstance, newInstance, List.copyOf(changedFields));
+        for (ConfigChangeListener<T> listener : changeListeners) {
+            try {
+                listener.onChange(event);
+            } catch (Exception e) {
+                YACLConstants.LOGGER.error("Sync change listener of '{}' threw an exception.", handler.configClass().getSimpleName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package dev.isxander.yacl3.config.v2.impl.sync;
+
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.ConfigSnapshot;
+import dev.isxander.yacl3.config.v2.api.sync.ConfigSyncConnection;
+import dev.isxander.yacl3.config.v2.api.sync.ConfigSyncServer;
+import dev.isxander.yacl3.config.v2.impl.ConfigDeltaImpl;
+import dev.isxander.yacl3.config.v2.impl.codec.ConfigTreeCodec;
+import dev.isxander.yacl3.impl.utils.YACLConstants;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@ApiStatus.Internal
+public class ConfigSyncServerImpl<T> implements ConfigSyncServer<T> {
+    private final ConfigClassHandler<T> handler;
+    private final ConfigTreeCodec tree;
+    private final Set<ConfigSyncConnection> connections = new LinkedHashSet<>();
+
+    /** The state every connected client has been sent. */
+    private ConfigSnapshot<T> sent;
+    /** The whole of {@link #sent}, encoded the first time a client connects after it changes. */
+    private byte[] fullPayload;
+
+    public ConfigSyncServerImpl(ConfigClassHandler<T> handler) {
+        this.handler = handler;
+        this.tree = new ConfigTreeCodec(handler, handler.codecs(), false);
+        this.sent = handler.snapshot();
+    }
+
+    @Override
+    public ConfigClassHandler<T> handler() {
+        return this.handler;
+    }
+
+    @Override
+    public synchronized void connect(ConfigSyncConnection connection) {
+        if (fullPayload == null) {
+            try {
+                fullPayload = SyncPayloads.encode(SyncPayloads.FULL, tree.encodeFields(handler.fields(), field -> ConfigTreeCodec.accessOn(field, sent.instance()), List.of(), null));
+            } catch (IOException e) {
+                YACLConstants.LOGGER.error("Failed to encode config '{}' to sync it.", handler.configClass().getSimpleName(), e);
+                return;
+            }
+        }
+
+        connections.add(connection);
+        send(connection, fullPayload);
+    }
+
+    @Override
+    public synchronized void disconnect(ConfigSyncConnection connection) {
+        connections.remove(connection);
+    }
+
+    @Override
+    public synchronized void tick() {
+        ConfigSnapshot<T> current = handler.snapshot();
+        if (current.version() == sent.version()) {
+            return;
+        }
+
+        ConfigSnapshot<T> previous = sent;
+        sent = current;
+        fullPayload = null;
+        if (connections.isEmpty()) {
+            // a client connecting later is sent the whole config anyway
+            return;
+        }
+
+        byte[] payload;
+        try {
+            ConfigDeltaImpl changes = ConfigDeltaImpl.diff(handler, tree, previous.instance(), current.instance());
+            if (changes.isEmpty()) {
+                return;
+            }
+            payload = SyncPayloads.encode(SyncPayloads.CHANGES, changes.changes());
+        } catch (IOException e) {
+            YACLConstants.LOGGER.error("Failed to encode changes of config '{}' to sync them. Resending the whole config.", handler.configClass().getSimpleName(), e);
+            resendAll();
+            return;
+        }
+
+        // encoded once, however many clients there are
+        for (ConfigSyncConnection connection : connections) {
+            send(connection, payload);
+        }
+    }
+
+    private void resendAll() {
+        List<ConfigSyncConnection> resync = List.copyOf(connections);
+        connections.clear();
+        resync.forEach(this::connect);
+    }
+
+    private void send(ConfigSyncConnection connection, byte[] payload) {
+        try {
+            connection.send(payload);
+        } catch (RuntimeException e) {
+            YACLConstants.LOGGER.error("Failed to send sync payload of config '{}'.", handler.configClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package dev.isxander.yacl3.config.v2.impl.sync;
+
+import dev.isxander.yacl3.config.v2.impl.codec.BinaryValues;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * The format of sync payloads: a protocol version, the kind of payload, then the values by serial name
+ * written by {@link BinaryValues}. A change payload holds only the fields which changed, and nested
+ * objects within it only their own fields which changed.
+ */
+final class SyncPayloads {
+    private static final int PROTOCOL_VERSION = 1;
+
+    static final byte FULL = 0;
+    static final byte CHANGES = 1;
+
+    private SyncPayloads() {
+    }
+
+    static byte[] encode(byte kind, Map<String, Object> values) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(PROTOCOL_VERSION);
+        out.writeByte(kind);
+        BinaryValues.writeValue(out, values);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    static Payload decode(byte[] payload) throws IOException {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(payload);
+            int version = buffer.get();
+            if (version != PROTOCOL_VERSION) {
+                throw new IOException("Unsupported config sync protocol version %d.".formatted(version));
+            }
+
+            byte kind = buffer.get();
+            if (kind != FULL && kind != CHANGES) {
+                throw new IOException("Unknown config sync payload kind %d.".formatted(kind));
+            }
+
+            Object values = BinaryValues.readValue(buffer);
+            if (!(values instanceof Map<?, ?>)) {
+                throw new IOException("Config sync payload does not hold an object.");
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException("Config sync payload has unexpected trailing data.");
+            }
+            return new Payload(kind, (Map<String, Object>) values);
+        } catch (RuntimeException e) {
+            throw new IOException("Config sync payload is corrupt.", e);
+        }
+    }
+
+    record Payload(byte kind, Map<String, Object> values) {
+    }
+}
@@ -29,7 +29,10 @@ import net.minecraft.network.chat.CommonComponents;
 import net.minecraft.network.chat.Component;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
@@ -47,7 +50,9 @@ public class YACLScreen extends Screen {
     public Tooltip saveButtonTooltipMessage;
     private int saveButtonMessageTime;
 
-    private boolean pendingChanges;
+    /** The options whose pending value differs from their binding, kept up to date by their listeners. */
+    private final Set<Option<?>> changedOptions = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean batching;
 
     public YACLScreen(YetAnotherConfigLib config, Screen parent) {
         super(config.title());
@@ -95,11 +100,12 @@ public class YACLScreen extends Screen {
 
         if (pendingChanges()) {
             Set<OptionFlag> flags = new HashSet<>();
-            OptionUtils.forEachOptions(config, option -> {
+            // applying a value does not notify listeners, so iterate over a copy
+            for (Option<?> option : List.copyOf(changedOptions)) {
                 if (option.applyValue()) {
                     flags.addAll(option.flags());
                 }
-            });
+            }
             OptionUtils.forEachOptions(config, option -> {
                 if (option.changed()) {
                     // if still changed after applying, reset to the current value from binding
@@ -108,7 +114,9 @@ public class YACLScreen extends Screen {
                     YACLConstants.LOGGER.error("Option '{}' value mismatch after applying! Reset to binding's getter.", option.name().getString());
                 }
             });
+            changedOptions.removeIf(option -> !option.changed());
             config.saveFunction().run();
+            updateButtons();
 
             flags.forEach(flag -> flag.accept(minecraft));
         } else onClose();
@@ -116,15 +124,29 @@ public class YACLScreen extends Screen {
 
     protected void cancelOrReset() {
         if (pendingChanges()) { // if pending changes, button acts as a cancel button
-            OptionUtils.forEachOptions(config, Option::forgetPendingValue);
+            undo();
             onClose();
         } else { // if not, button acts as a reset button
-            OptionUtils.forEachOptions(config, Option::requestSetDefault);
+            batch(() -> OptionUtils.forEachOptions(config, Option::requestSetDefault));
         }
     }
 
     protected void undo() {
-        OptionUtils.forEachOptions(config, Option::forgetPendingValue);
+        // options which are not changed already hold the value of their binding
+        batch(() -> List.copyOf(changedOptions).forEach(Option::forgetPendingValue));
+    }
+
+    /**
+     * Changes many options at once, updating the buttons once rather than for every option.
+     */
+    private void batch(Runnable changes) {
+        batching = true;
+        try {
+            Option.batch(changes);
+        } finally {
+            batching = false;
+        }
+        updateButtons();
     }
 
     @Override
@@ -157,17 +179,23 @@ public class YACLScreen extends Screen {
     }
 
     private boolean pendingChanges() {
-        return pendingChanges;
+        return !changedOptions.isEmpty();
     }
 
     private void onOptionChanged(Option<?> option) {
-        pendingChanges = false;
+        // only the option that changed can have gained or lost a pending change
+        if (option.changed()) {
+            changedOptions.add(option);
+        } else {
+            changedOptions.remove(option);
+        }
 
-        OptionUtils.consumeOptions(config, opt -> {
-            pendingChanges |= opt.changed();
-            return pendingChanges;
-        });
+        if (!batching) {
+            updateButtons();
+        }
+    }
 
+    private void updateButtons() {
         if (tabManager.getCurrentTab() instanceof CategoryTab categoryTab) {
             categoryTab.updateButtons();
         }
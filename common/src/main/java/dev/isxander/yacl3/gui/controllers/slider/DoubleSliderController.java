@@ -1,5 +1,6 @@
 package dev.isxander.yacl3.gui.controllers.slider;
 
+import dev.isxander.yacl3.api.DoubleOption;
 import dev.isxander.yacl3.api.Option;
 import dev.isxander.yacl3.api.controller.ValueFormatter;
 import net.minecraft.network.chat.Component;
@@ -105,7 +106,11 @@ public class DoubleSliderController implements ISliderController<Double> {
      */
     @Override
     public void setPendingValue(double value) {
-        option().requestSet(value);
+        if (option() instanceof DoubleOption doubleOption) {
+            doubleOption.requestSetDouble(value);
+        } else {
+            option().requestSet(value);
+        }
     }
 
     /**
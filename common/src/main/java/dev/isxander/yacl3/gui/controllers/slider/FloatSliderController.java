@@ -1,5 +1,6 @@
 package dev.isxander.yacl3.gui.controllers.slider;
 
+import dev.isxander.yacl3.api.FloatOption;
 import dev.isxander.yacl3.api.Option;
 import dev.isxander.yacl3.api.controller.ValueFormatter;
 import net.minecraft.network.chat.Component;
@@ -105,7 +106,11 @@ public class FloatSliderController implements ISliderController<Float> {
      */
     @Override
     public void setPendingValue(double value) {
-        option().requestSet((float) value);
+        if (option() instanceof FloatOption floatOption) {
+            floatOption.requestSetFloat((float) value);
+        } else {
+            option().requestSet((float) value);
+        }
     }
 
     /**
@@ -1,5 +1,6 @@
 package dev.isxander.yacl3.gui.controllers.slider;
 
+import dev.isxander.yacl3.api.IntOption;
 import dev.isxander.yacl3.api.Option;
 import dev.isxander.yacl3.api.controller.ValueFormatter;
 import net.minecraft.network.chat.Component;
@@ -102,7 +103,11 @@ public class IntegerSliderController implements ISliderController<Integer> {
      */
     @Override
     public void setPendingValue(double value) {
-        option().requestSet((int) value);
+        if (option() instanceof IntOption intOption) {
+            intOption.requestSetInt((int) value);
+        } else {
+            option().requestSet((int) value);
+        }
     }
 
     /**
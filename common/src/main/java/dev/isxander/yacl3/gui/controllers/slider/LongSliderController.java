@@ -1,5 +1,6 @@
 package dev.isxander.yacl3.gui.controllers.slider;
 
+import dev.isxander.yacl3.api.LongOption;
 import dev.isxander.yacl3.api.Option;
 import dev.isxander.yacl3.api.controller.ValueFormatter;
 import net.minecraft.network.chat.Component;
@@ -102,7 +103,11 @@ public class LongSliderController implements ISliderController<Long> {
      */
     @Override
     public void setPendingValue(double value) {
-        option().requestSet((long) value);
+        if (option() instanceof LongOption longOption) {
+            longOption.requestSetLong((long) value);
+        } else {
+            option().requestSet((long) value);
+        }
     }
 
     /**
@@ -1,5 +1,6 @@
 package dev.isxander.yacl3.gui.controllers.string.number;
 
+import dev.isxander.yacl3.api.DoubleOption;
 import dev.isxander.yacl3.api.Option;
 import dev.isxander.yacl3.api.controller.ValueFormatter;
 import dev.isxander.yacl3.gui.controllers.slider.DoubleSliderController;
@@ -98,7 +99,11 @@ public class DoubleFieldController extends NumberFieldController<Double> {
      */
     @Override
     public void setPendingValue(double value) {
-        option().requestSet(value);
+        if (option() instanceof DoubleOption doubleOption) {
+            doubleOption.requestSetDouble(value);
+        } else {
+            option().requestSet(value);
+        }
     }
 
     /**
@@ -1,5 +1,6 @@
 package dev.isxander.yacl3.gui.controllers.string.number;
 
+import dev.isxander.yacl3.api.FloatOption;
 import dev.isxander.yacl3.api.Option;
 import dev.isxander.yacl3.api.controller.ValueFormatter;
 import dev.isxander.yacl3.gui.controllers.slider.FloatSliderController;
@@ -98,7 +99,11 @@ public class FloatFieldController extends NumberFieldController<Float> {
      */
     @Override
     public void setPendingValue(double value) {
-        option().requestSet((float) value);
+        if (option() instanceof FloatOption floatOption) {
+            floatOption.requestSetFloat((float) value);
+        } else {
+            option().requestSet((float) value);
+        }
     }
 
     /**
@@ -1,5 +1,6 @@
 package dev.isxander.yacl3.gui.controllers.string.number;
 
+import dev.isxander.yacl3.api.IntOption;
 import dev.isxander.yacl3.api.Option;
 import dev.isxander.yacl3.api.controller.ValueFormatter;
 import dev.isxander.yacl3.gui.controllers.slider.IntegerSliderController;
@@ -98,7 +99,11 @@ public class IntegerFieldController extends NumberFieldController<Integer> {
      */
     @Override
     public void setPendingValue(double value) {
-        option().requestSet((int) value);
+        if (option() instanceof IntOption intOption) {
+            intOption.requestSetInt((int) value);
+        } else {
+            option().requestSet((int) value);
+        }
     }
 
     /**
@@ -1,5 +1,6 @@
 package dev.isxander.yacl3.gui.controllers.string.number;
 
+import dev.isxander.yacl3.api.LongOption;
 import dev.isxander.yacl3.api.Option;
 import dev.isxander.yacl3.api.controller.ValueFormatter;
 import dev.isxander.yacl3.gui.controllers.slider.LongSliderController;
@@ -98,7 +99,11 @@ public class LongFieldController extends NumberFieldController<Long> {
      */
     @Override
     public void setPendingValue(double value) {
-        option().requestSet((long) value);
+        if (option() instanceof LongOption longOption) {
+            longOption.requestSetLong((long) value);
+        } else {
+            option().requestSet((long) value);
+        }
     }
 
     /**
@@ -0,0 +1,79 @@
+package dev.isxander.yacl3.impl;
+
+import com.google.common.collect.ImmutableSet;
+import dev.isxander.yacl3.api.*;
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+@ApiStatus.Internal
+public final class DoubleOptionImpl extends OptionImpl<Double> implements DoubleOption {
+    // set by the super constructor through setPendingValue, so it must not have an initializer
+    private double pendingDouble;
+
+    public DoubleOptionImpl(
+            @NotNull Component name,
+            @NotNull Function<Double, OptionDescription> descriptionFunction,
+            @NotNull Function<Option<Double>, Controller<Double>> controlGetter,
+            @NotNull DoubleBinding binding,
+            boolean available,
+            ImmutableSet<OptionFlag> flags,
+            @NotNull Collection<BiConsumer<Option<Double>, Double>> listeners
+    ) {
+        super(name, descriptionFunction, controlGetter, binding, available, flags, listeners);
+    }
+
+    @Override
+    public double pendingDouble() {
+        return pendingDouble;
+    }
+
+    @Override
+    public void requestSetDouble(double value) {
+        // listeners are not notified if it did not change, and it is only boxed if they need it
+        if (Double.compare(value, pendingDouble) != 0) {
+            pendingDouble = value;
+            requestSetUnboxed();
+        }
+    }
+
+    @Override
+    protected void setPendingValue(@NotNull Double value) {
+        super.setPendingValue(value);
+        this.pendingDouble = value;
+    }
+
+    @Override
+    protected Double boxPendingValue() {
+        return pendingDouble;
+    }
+
+    @Override
+    public boolean changed() {
+        return Double.compare(binding().getDouble(), pendingDouble) != 0;
+    }
+
+    @Override
+    public boolean applyValue() {
+        if (changed()) {
+            binding().setDouble(pendingDouble);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isPendingValueDefault() {
+        return Double.compare(binding().defaultDouble(), pendingDouble) == 0;
+    }
+
+    @Override
+    public @NotNull DoubleBinding binding() {
+        // bindings to primitives are never wrapped, as they cannot return null
+        return (DoubleBinding) super.binding();
+    }
+}
@@ -0,0 +1,79 @@
+package dev.isxander.yacl3.impl;
+
+import com.google.common.collect.ImmutableSet;
+import dev.isxander.yacl3.api.*;
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+@ApiStatus.Internal
+public final class FloatOptionImpl extends OptionImpl<Float> implements FloatOption {
+    // set by the super constructor through setPendingValue, so it must not have an initializer
+    private float pendingFloat;
+
+    public FloatOptionImpl(
+            @NotNull Component name,
+            @NotNull Function<Float, OptionDescription> descriptionFunction,
+            @NotNull Function<Option<Float>, Controller<Float>> controlGetter,
+            @NotNull FloatBinding binding,
+            boolean available,
+            ImmutableSet<OptionFlag> flags,
+            @NotNull Collection<BiConsumer<Option<Float>, Float>> listeners
+    ) {
+        super(name, descriptionFunction, controlGetter, binding, available, flags, listeners);
+    }
+
+    @Override
+    public float pendingFloat() {
+        return pendingFloat;
+    }
+
+    @Override
+    public void requestSetFloat(float value) {
+        // listeners are not notified if it did not change, and it is only boxed if they need it
+        if (Float.compare(value, pendingFloat) != 0) {
+            pendingFloat = value;
+            requestSetUnboxed();
+        }
+    }
+
+    @Override
+    protected void setPendingValue(@NotNull Float value) {
+        super.setPendingValue(value);
+        this.pendingFloat = value;
+    }
+
+    @Override
+    protected Float boxPendingValue() {
+        return pendingFloat;
+    }
+
+    @Override
+    public boolean changed() {
+        return Float.compare(binding().getFloat(), pendingFloat) != 0;
+    }
+
+    @Override
+    public boolean applyValue() {
+        if (changed()) {
+            binding().setFloat(pendingFloat);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isPendingValueDefault() {
+        return Float.compare(binding().defaultFloat(), pendingFloat) == 0;
+    }
+
+    @Override
+    public @NotNull FloatBinding binding() {
+        // bindings to primitives are never wrapped, as they cannot return null
+        return (FloatBinding) super.binding();
+    }
+}
@@ -0,0 +1,79 @@
+package dev.isxander.yacl3.impl;
+
+import com.google.common.collect.ImmutableSet;
+import dev.isxander.yacl3.api.*;
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+@ApiStatus.Internal
+public final class IntOptionImpl extends OptionImpl<Integer> implements IntOption {
+    // set by the super constructor through setPendingValue, so it must not have an initializer
+    private int pendingInt;
+
+    public IntOptionImpl(
+            @NotNull Component name,
+            @NotNull Function<Integer, OptionDescription> descriptionFunction,
+            @NotNull Function<Option<Integer>, Controller<Integer>> controlGetter,
+            @NotNull IntBinding binding,
+            boolean available,
+            ImmutableSet<OptionFlag> flags,
+            @NotNull Collection<BiConsumer<Option<Integer>, Integer>> listeners
+    ) {
+        super(name, descriptionFunction, controlGetter, binding, available, flags, listeners);
+    }
+
+    @Override
+    public int pendingInt() {
+        return pendingInt;
+    }
+
+    @Override
+    public void requestSetInt(int value) {
+        // listeners are not notified if it did not change, and it is only boxed if they need it
+        if (value != pendingInt) {
+            pendingInt = value;
+            requestSetUnboxed();
+        }
+    }
+
+    @Override
+    protected void setPendingValue(@NotNull Integer value) {
+        super.setPendingValue(value);
+        this.pendingInt = value;
+    }
+
+    @Override
+    protected Integer boxPendingValue() {
+        return pendingInt;
+    }
+
+    @Override
+    public boolean changed() {
+        return binding().getInt() != pendingInt;
+    }
+
+    @Override
+    public boolean applyValue() {
+        if (changed()) {
+            binding().setInt(pendingInt);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isPendingValueDefault() {
+        return binding().defaultInt() == pendingInt;
+    }
+
+    @Override
+    public @NotNull IntBinding binding() {
+        // bindings to primitives are never wrapped, as they cannot return null
+        return (IntBinding) super.binding();
+    }
+}
@@ -34,7 +34,14 @@ public final class ListOptionImpl<T> implements ListOption<T> {
 
     private final List<BiConsumer<Option<List<T>>, List<T>>> listeners;
     private final List<Runnable> refreshListeners;
-    private int listenerTriggerDepth = 0;
+    private final OptionChangePropagator.Node listenerNode = new OptionChangePropagator.Node(() -> name().getString(), this::notifyListeners);
+
+    /** Incremented whenever an entry is added, removed or changes value. */
+    private int modCount;
+    private ImmutableList<ListOptionEntry<T>> optionsView;
+    private ImmutableList<T> pendingValueView;
+    private final PendingComparison changedComparison = new PendingComparison();
+    private final PendingComparison defaultComparison = new PendingComparison();
 
     public ListOptionImpl(@NotNull Component name, @NotNull OptionDescription description, @NotNull Binding<List<T>> binding, @NotNull Supplier<T> initialValue, @NotNull Function<ListOptionEntry<T>, Controller<T>> controllerFunction, ImmutableSet<OptionFlag> flags, boolean collapsed, boolean available, int minimumNumberOfEntries, int maximumNumberOfEntries, boolean insertEntriesAtEnd, Collection<BiConsumer<Option<List<T>>, List<T>>> listeners) {
         this.name = name;
@@ -52,7 +59,7 @@ public final class ListOptionImpl<T> implements ListOption<T> {
         this.listeners = new ArrayList<>();
         this.listeners.addAll(listeners);
         this.refreshListeners = new ArrayList<>();
-        callListeners(true);
+        notifyListeners();
     }
 
     @Override
@@ -72,7 +79,10 @@ public final class ListOptionImpl<T> implements ListOption<T> {
 
     @Override
     public @NotNull ImmutableList<ListOptionEntry<T>> options() {
-        return ImmutableList.copyOf(entries);
+        if (optionsView == null) {
+            optionsView = ImmutableList.copyOf(entries);
+        }
+        return optionsView;
     }
 
     @Override
@@ -97,7 +107,15 @@ public final class ListOptionImpl<T> implements ListOption<T> {
 
     @Override
     public @NotNull ImmutableList<T> pendingValue() {
-        return ImmutableList.copyOf(entries.stream().map(Option::pendingValue).toList());
+        // built at most once per modification, however many listeners and widgets ask for it
+        if (pendingValueView == null) {
+            ImmutableList.Builder<T> builder = ImmutableList.builderWithExpectedSize(entries.size());
+            for (ListOptionEntry<T> entry : entries) {
+                builder.add(entry.pendingValue());
+            }
+            pendingValueView = builder.build();
+        }
+        return pendingValueView;
     }
 
     @Override
@@ -139,7 +157,7 @@ public final class ListOptionImpl<T> implements ListOption<T> {
 
     @Override
     public boolean changed() {
-        return !binding().getValue().equals(pendingValue());
+        return !changedComparison.equalsPending(binding().getValue());
     }
 
     @Override
@@ -163,7 +181,7 @@ public final class ListOptionImpl<T> implements ListOption<T> {
 
     @Override
     public boolean isPendingValueDefault() {
-        return binding().defaultValue().equals(pendingValue());
+        return defaultComparison.equalsPending(binding().defaultValue());
     }
 
     @Override
@@ -213,32 +231,62 @@ public final class ListOptionImpl<T> implements ListOption<T> {
         return values.stream().map(entryFactory::create).collect(Collectors.toList());
     }
 
-    void callListeners(boolean bypass) {
-        List<T> pendingValue = pendingValue();
-        if (bypass || listenerTriggerDepth == 0) {
-            if (listenerTriggerDepth > 10) {
-                throw new IllegalStateException("Listener trigger depth exceeded 10! This means a listener triggered a listener etc etc 10 times deep. This is likely a bug in the mod using YACL!");
-            }
+    private void callListeners(boolean bypass) {
+        // without bypass, an option whose own listeners changed it does not notify them again
+        if (!bypass && listenerNode.isNotifying()) {
+            return;
+        }
 
-            this.listenerTriggerDepth++;
+        listenerNode.changed();
+    }
 
-            for (BiConsumer<Option<List<T>>, List<T>> listener : listeners) {
-                try {
-                    listener.accept(this, pendingValue);
-                } catch (Exception e) {
-                    YACLConstants.LOGGER.error("Exception whilst triggering listener for option '%s'".formatted(name.getString()), e);
-                }
+    private void notifyListeners() {
+        List<T> pendingValue = pendingValue();
+        for (BiConsumer<Option<List<T>>, List<T>> listener : listeners) {
+            try {
+                listener.accept(this, pendingValue);
+            } catch (Exception e) {
+                YACLConstants.LOGGER.error("Exception whilst triggering listener for option '%s'".formatted(name.getString()), e);
             }
-
-            this.listenerTriggerDepth--;
         }
     }
 
+    void onEntryChanged() {
+        modCount++;
+        pendingValueView = null;
+        callListeners(true);
+    }
+
     private void onRefresh() {
+        modCount++;
+        optionsView = null;
+        pendingValueView = null;
         refreshListeners.forEach(Runnable::run);
         callListeners(true);
     }
 
+    /**
+     * Remembers the result of comparing a list with the pending value, until either changes.
+     * Only immutable lists can be trusted not to have changed since, so any other list is compared again.
+     */
+    private class PendingComparison {
+        private List<T> comparedTo;
+        private int comparedAt;
+        private boolean equal;
+
+        private boolean equalsPending(List<T> value) {
+            if (value == comparedTo && comparedAt == modCount && value instanceof ImmutableList<?>) {
+                return equal;
+            }
+
+            ImmutableList<T> pendingValue = pendingValue();
+            equal = value == pendingValue || value.equals(pendingValue);
+            comparedTo = value;
+            comparedAt = modCount;
+            return equal;
+        }
+    }
+
     private class EntryFactory {
         private final Function<ListOptionEntry<T>, Controller<T>> controllerFunction;
 
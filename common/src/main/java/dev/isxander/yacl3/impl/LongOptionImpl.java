@@ -0,0 +1,79 @@
+package dev.isxander.yacl3.impl;
+
+import com.google.common.collect.ImmutableSet;
+import dev.isxander.yacl3.api.*;
+import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+@ApiStatus.Internal
+public final class LongOptionImpl extends OptionImpl<Long> implements LongOption {
+    // set by the super constructor through setPendingValue, so it must not have an initializer
+    private long pendingLong;
+
+    public LongOptionImpl(
+            @NotNull Component name,
+            @NotNull Function<Long, OptionDescription> descriptionFunction,
+            @NotNull Function<Option<Long>, Controller<Long>> controlGetter,
+            @NotNull LongBinding binding,
+            boolean available,
+            ImmutableSet<OptionFlag> flags,
+            @NotNull Collection<BiConsumer<Option<Long>, Long>> listeners
+    ) {
+        super(name, descriptionFunction, controlGetter, binding, available, flags, listeners);
+    }
+
+    @Override
+    public long pendingLong() {
+        return pendingLong;
+    }
+
+    @Override
+    public void requestSetLong(long value) {
+        // listeners are not notified if it did not change, and it is only boxed if they need it
+        if (value != pendingLong) {
+            pendingLong = value;
+            requestSetUnboxed();
+        }
+    }
+
+    @Override
+    protected void setPendingValue(@NotNull Long value) {
+        super.setPendingValue(value);
+        this.pendingLong = value;
+    }
+
+    @Override
+    protected Long boxPendingValue() {
+        return pendingLong;
+    }
+
+    @Override
+    public boolean changed() {
+        return binding().getLong() != pendingLong;
+    }
+
+    @Override
+    public boolean applyValue() {
+        if (changed()) {
+            binding().setLong(pendingLong);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isPendingValueDefault() {
+        return binding().defaultLong() == pendingLong;
+    }
+
+    @Override
+    public @NotNull LongBinding binding() {
+        // bindings to primitives are never wrapped, as they cannot return null
+        return (LongBinding) super.binding();
+    }
+}
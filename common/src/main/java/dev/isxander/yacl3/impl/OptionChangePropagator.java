@@ -0,0 +1,227 @@
+package dev.isxander.yacl3.impl;
+
+import dev.isxander.yacl3.impl.utils.YACLConstants;
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Runs the listeners of options as a queue, rather than recursing from one option's listeners into the next.
+ * <p>
+ * A change notifies the listeners of its option straight away, unless listeners are already being
+ * notified on this thread, in which case the option is queued until they finish. Whenever a listener
+ * changes another option, the second option is recorded as depending on the first. Queued options are
+ * notified in the topological order of these dependencies, so an option is only notified once every
+ * queued option it depends on has settled. An option changed several times before it is notified,
+ * such as a child of a master tick box, is notified once with its latest value.
+ * <p>
+ * A dependency which would close a cycle is reported as soon as it is first recorded. Options caught
+ * in a cycle stop being notified after {@link #MAX_NOTIFICATIONS} rounds of a single change.
+ * <p>
+ * A {@link #batch(Runnable) batch} queues every change made within it the same way,
+ * so each option it changes is notified once after all of them are made.
+ */
+@ApiStatus.Internal
+public final class OptionChangePropagator {
+    private static final int MAX_NOTIFICATIONS = 10;
+    private static final ThreadLocal<Propagation> CURRENT = new ThreadLocal<>();
+
+    private OptionChangePropagator() {
+    }
+
+    /**
+     * Makes the changes, then notifies every option they changed once.
+     * Within a listener or another batch, the changes join the notifications already under way.
+     *
+     * @see dev.isxander.yacl3.api.Option#batch(Runnable)
+     */
+    public static void batch(Runnable changes) {
+        Validate.notNull(changes, "`changes` must not be null");
+
+        if (CURRENT.get() != null) {
+            changes.run();
+            return;
+        }
+
+        Propagation propagation = new Propagation();
+        CURRENT.set(propagation);
+        try {
+            try {
+                changes.run();
+            } finally {
+                // options changed before a failure are still notified, so nothing is left out of date
+                propagation.drain();
+            }
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * An option in the dependency graph. Dependencies are held by the options themselves,
+     * so the graph is dropped along with the screen the options belong to.
+     */
+    public static final class Node {
+        private final Supplier<String> name;
+        private final Runnable listeners;
+        private Set<Node> dependents;
+
+        /**
+         * @param name the name of the option, only used when reporting problems
+         * @param listeners notifies every listener of the option of its current value
+         */
+        public Node(Supplier<String> name, Runnable listeners) {
+            this.name = name;
+            this.listeners = listeners;
+        }
+
+        /**
+         * Notifies the listeners of this option, now or once the listeners currently being notified finish.
+         */
+        public void changed() {
+            Propagation propagation = CURRENT.get();
+            if (propagation != null) {
+                propagation.enqueue(this);
+                return;
+            }
+
+            propagation = new Propagation();
+            CURRENT.set(propagation);
+            try {
+                propagation.enqueue(this);
+                propagation.drain();
+            } finally {
+                CURRENT.remove();
+            }
+        }
+
+        /**
+         * @return if the listeners of this option are being notified right now
+         */
+        public boolean isNotifying() {
+            Propagation propagation = CURRENT.get();
+            return propagation != null && propagation.notifying == this;
+        }
+
+        private Set<Node> dependents() {
+            return dependents != null ? dependents : Collections.emptySet();
+        }
+
+        private boolean hasDependents() {
+            return dependents != null && !dependents.isEmpty();
+        }
+
+        /**
+         * @return if the dependency was not already known
+         */
+        private boolean addDependent(Node node) {
+            if (dependents == null) {
+                dependents = Collections.newSetFromMap(new IdentityHashMap<>());
+            }
+            return dependents.add(node);
+        }
+
+        /**
+         * @return if the target can be reached by following dependencies from this node
+         */
+        private boolean reaches(Node target) {
+            Set<Node> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            Deque<Node> stack = new ArrayDeque<>();
+            stack.push(this);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                if (node == target) {
+                    return true;
+                }
+                if (visited.add(node)) {
+                    node.dependents().forEach(stack::push);
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Propagation {
+        private final Set<Node> queued = new LinkedHashSet<>();
+        /** The queued nodes which other nodes depend on, the only ones which can hold back another. */
+        private final Set<Node> queuedWithDependents = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Map<Node, Integer> notifications = new IdentityHashMap<>();
+        private Node notifying;
+
+        private void enqueue(Node node) {
+            if (notifying != null && notifying != node) {
+                recordDependency(notifying, node);
+            }
+            if (queued.add(node) && node.hasDependents()) {
+                queuedWithDependents.add(node);
+            }
+        }
+
+        private void recordDependency(Node from, Node to) {
+            if (from.addDependent(to)) {
+                if (queued.contains(from)) {
+                    queuedWithDependents.add(from);
+                }
+                if (to.reaches(from)) {
+                    YACLConstants.LOGGER.warn("Listeners of options '{}' and '{}' change each other. This is likely a bug in the mod using YACL!", from.name.get(), to.name.get());
+                }
+            }
+        }
+
+        private void drain() {
+            while (!queued.isEmpty()) {
+                Node node = next();
+                queued.remove(node);
+                queuedWithDependents.remove(node);
+
+                int count = notifications.merge(node, 1, Integer::sum);
+                if (count > MAX_NOTIFICATIONS) {
+                    if (count == MAX_NOTIFICATIONS + 1) {
+                        YACLConstants.LOGGER.error("Option '{}' was notified more than {} times by a single change, as its listeners form a cycle. Its listeners will not be notified again until the next change.", node.name.get(), MAX_NOTIFICATIONS);
+                    }
+                    continue;
+                }
+
+                notifying = node;
+                try {
+                    node.listeners.run();
+                } finally {
+                    notifying = null;
+                }
+            }
+        }
+
+        /**
+         * @return the first queued node which no other queued node depends on, or the first queued node if there is a cycle
+         */
+        private Node next() {
+            Node first = queued.iterator().next();
+            // without dependencies between them, such as in a batch, nodes are notified in the order they were changed
+            if (queued.size() == 1 || queuedWithDependents.isEmpty()) {
+                return first;
+            }
+
+            for (Node candidate : queued) {
+                boolean ready = true;
+                for (Node other : queuedWithDependents) {
+                    if (other != candidate && other.reaches(candidate)) {
+                        ready = false;
+                        break;
+                    }
+                }
+                if (ready) {
+                    return candidate;
+                }
+            }
+            return first;
+        }
+    }
+}
@@ -17,8 +17,9 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 @ApiStatus.Internal
-public final class OptionImpl<T> implements Option<T> {
+public class OptionImpl<T> implements Option<T> {
     private final Component name;
+    private final Function<T, OptionDescription> descriptionFunction;
     private OptionDescription description;
     private final Controller<T> controller;
     private final Binding<T> binding;
@@ -26,10 +27,11 @@ public final class OptionImpl<T> implements Option<T> {
 
     private final ImmutableSet<OptionFlag> flags;
 
+    // null while an option specialised to a primitive holds it unboxed
     private T pendingValue;
 
     private final List<BiConsumer<Option<T>, T>> listeners;
-    private int listenerTriggerDepth = 0;
+    private final OptionChangePropagator.Node listenerNode = new OptionChangePropagator.Node(() -> name().getString(), this::notifyListeners);
 
     public OptionImpl(
             @NotNull Component name,
@@ -41,16 +43,17 @@ public final class OptionImpl<T> implements Option<T> {
             @NotNull Collection<BiConsumer<Option<T>, T>> listeners
     ) {
         this.name = name;
-        this.binding = new SafeBinding<>(binding);
+        this.descriptionFunction = descriptionFunction;
+        this.binding = SafeBinding.wrap(binding);
         this.available = available;
         this.flags = flags;
         this.listeners = new ArrayList<>(listeners);
 
-        this.pendingValue = binding.getValue();
+        // options specialised to a primitive set their unboxed pending value here, before any listener can read it
+        setPendingValue(binding.getValue());
         this.controller = controlGetter.apply(this);
 
-        addListener((opt, pending) -> description = descriptionFunction.apply(pending));
-        triggerListeners(true);
+        notifyListeners();
     }
 
     @Override
@@ -60,12 +63,16 @@ public final class OptionImpl<T> implements Option<T> {
 
     @Override
     public @NotNull OptionDescription description() {
+        // created on demand, so changing the pending value does not need to box it for the description
+        if (this.description == null) {
+            this.description = descriptionFunction.apply(pendingValue());
+        }
         return this.description;
     }
 
     @Override
     public @NotNull Component tooltip() {
-        return description.text();
+        return description().text();
     }
 
     @Override
@@ -91,7 +98,7 @@ public final class OptionImpl<T> implements Option<T> {
 
         if (changed) {
             if (!available) {
-                this.pendingValue = binding().getValue();
+                setPendingValue(binding().getValue());
             }
             this.triggerListeners(!available);
         }
@@ -104,11 +111,14 @@ public final class OptionImpl<T> implements Option<T> {
 
     @Override
     public boolean changed() {
-        return !binding().getValue().equals(pendingValue);
+        return !binding().getValue().equals(pendingValue());
     }
 
     @Override
     public @NotNull T pendingValue() {
+        if (pendingValue == null) {
+            pendingValue = boxPendingValue();
+        }
         return pendingValue;
     }
 
@@ -116,14 +126,38 @@ public final class OptionImpl<T> implements Option<T> {
     public void requestSet(@NotNull T value) {
         Validate.notNull(value, "`value` cannot be null");
 
-        pendingValue = value;
+        setPendingValue(value);
         this.triggerListeners(true);
     }
 
+    /**
+     * Sets the pending value without notifying listeners.
+     * Options specialised to a primitive override this to keep their unboxed pending value in step.
+     */
+    protected void setPendingValue(@NotNull T value) {
+        this.pendingValue = value;
+    }
+
+    /**
+     * Notifies listeners of a pending value an option specialised to a primitive has set without boxing it.
+     * It is only boxed again by {@link #boxPendingValue()} if {@link #pendingValue()} is called or there are listeners to notify.
+     */
+    protected final void requestSetUnboxed() {
+        this.pendingValue = null;
+        this.triggerListeners(true);
+    }
+
+    /**
+     * @return the boxed pending value of an option specialised to a primitive, which holds it unboxed
+     */
+    protected T boxPendingValue() {
+        throw new IllegalStateException("Only options specialised to a primitive hold their pending value unboxed");
+    }
+
     @Override
     public boolean applyValue() {
         if (changed()) {
-            binding().setValue(pendingValue);
+            binding().setValue(pendingValue());
             return true;
         }
         return false;
@@ -150,22 +184,32 @@ public final class OptionImpl<T> implements Option<T> {
     }
 
     private void triggerListeners(boolean bypass) {
-        if (bypass || listenerTriggerDepth == 0) {
-            if (listenerTriggerDepth > 10) {
-                throw new IllegalStateException("Listener trigger depth exceeded 10! This means a listener triggered a listener etc etc 10 times deep. This is likely a bug in the mod using YACL!");
-            }
+        // without bypass, an option whose own listeners changed it does not notify them again
+        if (!bypass && listenerNode.isNotifying()) {
+            return;
+        }
+        // with nothing to notify, no other option can be changed in turn, so there is nothing to propagate
+        if (listeners.isEmpty()) {
+            this.description = null;
+            return;
+        }
 
-            this.listenerTriggerDepth++;
+        listenerNode.changed();
+    }
 
-            for (BiConsumer<Option<T>, T> listener : listeners) {
-                try {
-                    listener.accept(this, pendingValue);
-                } catch (Exception e) {
-                    YACLConstants.LOGGER.error("Exception whilst triggering listener for option '%s'".formatted(name.getString()), e);
-                }
-            }
+    private void notifyListeners() {
+        this.description = null;
+        if (listeners.isEmpty()) {
+            return;
+        }
 
-            this.listenerTriggerDepth--;
+        T pendingValue = pendingValue();
+        for (BiConsumer<Option<T>, T> listener : listeners) {
+            try {
+                listener.accept(this, pendingValue);
+            } catch (Exception e) {
+                YACLConstants.LOGGER.error("Exception whilst triggering listener for option '%s'".formatted(name.getString()), e);
+            }
         }
     }
 
@@ -289,7 +333,23 @@ public final class OptionImpl<T> implements Option<T> {
                 listeners.add((opt, pendingValue) -> opt.applyValue());
             }
 
-            return new OptionImpl<>(name, descriptionFunction, controlGetter, binding, available, ImmutableSet.copyOf(flags), listeners);
+            return create(ImmutableSet.copyOf(flags));
+        }
+
+        /**
+         * Options bound to primitives are specialised, so controllers can set them without boxing.
+         */
+        private Option<T> create(ImmutableSet<OptionFlag> flags) {
+            if (binding instanceof IntBinding intBinding)
+                return (Option<T>) new IntOptionImpl(name, (Function) descriptionFunction, (Function) controlGetter, intBinding, available, flags, (Collection) listeners);
+            if (binding instanceof LongBinding longBinding)
+                return (Option<T>) new LongOptionImpl(name, (Function) descriptionFunction, (Function) controlGetter, longBinding, available, flags, (Collection) listeners);
+            if (binding instanceof FloatBinding floatBinding)
+                return (Option<T>) new FloatOptionImpl(name, (Function) descriptionFunction, (Function) controlGetter, floatBinding, available, flags, (Collection) listeners);
+            if (binding instanceof DoubleBinding doubleBinding)
+                return (Option<T>) new DoubleOptionImpl(name, (Function) descriptionFunction, (Function) controlGetter, doubleBinding, available, flags, (Collection) listeners);
+
+            return new OptionImpl<>(name, descriptionFunction, controlGetter, binding, available, flags, listeners);
         }
     }
 }
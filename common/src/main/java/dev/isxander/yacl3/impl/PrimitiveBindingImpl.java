@@ -0,0 +1,68 @@
+package dev.isxander.yacl3.impl;
+
+import dev.isxander.yacl3.api.DoubleBinding;
+import dev.isxander.yacl3.api.FloatBinding;
+import dev.isxander.yacl3.api.IntBinding;
+import dev.isxander.yacl3.api.LongBinding;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+@ApiStatus.Internal
+public final class PrimitiveBindingImpl {
+    private PrimitiveBindingImpl() {
+    }
+
+    public record IntImpl(int defaultInt, IntSupplier getter, IntConsumer setter) implements IntBinding {
+        @Override
+        public int getInt() {
+            return getter.getAsInt();
+        }
+
+        @Override
+        public void setInt(int value) {
+            setter.accept(value);
+        }
+    }
+
+    public record LongImpl(long defaultLong, LongSupplier getter, LongConsumer setter) implements LongBinding {
+        @Override
+        public long getLong() {
+            return getter.getAsLong();
+        }
+
+        @Override
+        public void setLong(long value) {
+            setter.accept(value);
+        }
+    }
+
+    public record FloatImpl(float defaultFloat, FloatBinding.Getter getter, FloatBinding.Setter setter) implements FloatBinding {
+        @Override
+        public float getFloat() {
+            return getter.get();
+        }
+
+        @Override
+        public void setFloat(float value) {
+            setter.set(value);
+        }
+    }
+
+    public record DoubleImpl(double defaultDouble, DoubleSupplier getter, DoubleConsumer setter) implements DoubleBinding {
+        @Override
+        public double getDouble() {
+            return getter.getAsDouble();
+        }
+
+        @Override
+        public void setDouble(double value) {
+            setter.accept(value);
+        }
+    }
+}
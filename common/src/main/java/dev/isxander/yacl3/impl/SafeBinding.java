@@ -1,6 +1,10 @@
 package dev.isxander.yacl3.impl;
 
 import dev.isxander.yacl3.api.Binding;
+import dev.isxander.yacl3.api.DoubleBinding;
+import dev.isxander.yacl3.api.FloatBinding;
+import dev.isxander.yacl3.api.IntBinding;
+import dev.isxander.yacl3.api.LongBinding;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
@@ -12,6 +16,17 @@ public class SafeBinding<T> implements Binding<T> {
         this.binding = binding;
     }
 
+    /**
+     * Wraps the binding unless it is bound to a primitive, which can never be null.
+     * These are kept as they are so they can still be accessed without boxing.
+     */
+    public static <T> Binding<T> wrap(Binding<T> binding) {
+        if (binding instanceof IntBinding || binding instanceof LongBinding || binding instanceof FloatBinding || binding instanceof DoubleBinding) {
+            return binding;
+        }
+        return new SafeBinding<>(binding);
+    }
+
     @Override
     public @NotNull T getValue() {
         return Objects.requireNonNull(binding.getValue());
@@ -0,0 +1,62 @@
+package dev.isxander.yacl3.config;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("deprecation")
+class GsonConfigInstanceTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void loadsFilesGsonReadLeniently() throws IOException {
+        Path path = dir.resolve("legacy.json");
+        Files.writeString(path, """
+                {
+                    // written by hand
+                    enabled: false,
+                    /* single quotes */
+                    'display_name': 'edited'
+                }
+                """);
+
+        GsonConfigInstance<LegacyConfig> config = new GsonConfigInstance<>(LegacyConfig.class, path);
+        config.load();
+
+        assertFalse(config.getConfig().enabled);
+        assertEquals("edited", config.getConfig().displayName);
+    }
+
+    @Test
+    void savesThroughTheHandler() throws IOException {
+        Path path = dir.resolve("legacy.json");
+        GsonConfigInstance<LegacyConfig> config = new GsonConfigInstance<>(LegacyConfig.class, path);
+        ConfigClassHandler<LegacyConfig> handler = config.getHandler();
+        long saves = handler.metrics().saveCount();
+
+        config.getConfig().displayName = "saved";
+        config.save();
+
+        // written by the time save returns, as a handler save is
+        JsonObject json = JsonParser.parseString(Files.readString(path)).getAsJsonObject();
+        assertEquals("saved", json.get("display_name").getAsString());
+        assertEquals(saves + 1, handler.metrics().saveCount());
+        assertEquals("saved", handler.snapshot().instance().displayName);
+    }
+
+    public static class LegacyConfig {
+        @ConfigEntry
+        public boolean enabled = true;
+        @ConfigEntry
+        public String displayName = "default";
+    }
+}
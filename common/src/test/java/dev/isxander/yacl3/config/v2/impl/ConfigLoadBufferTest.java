@@ -0,0 +1,193 @@
+package dev.isxander.yacl3.config.v2.impl;
+
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.ConfigField;
+import dev.isxander.yacl3.config.v2.api.SerialEntry;
+import dev.isxander.yacl3.config.v2.api.serializer.GsonConfigSerializerBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Loads into the current instance through a {@link ConfigLoadBuffer}, and checks snapshots never share what can be modified.
+ */
+class ConfigLoadBufferTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void loadSetsWrittenFieldsAndResetsTheRest() throws IOException {
+        Path path = dir.resolve("config.json");
+        Files.writeString(path, "{\"count\": 5, \"nested\": {\"enabled\": false}}");
+        ConfigClassHandler<BufferedConfig> handler = handler(path);
+        BufferedConfig instance = handler.instance();
+
+        Nested nested = instance.nested;
+        instance.names.add("edited");
+        instance.nested.label = "edited";
+        assertTrue(handler.load());
+
+        assertSame(instance, handler.instance());
+        assertEquals(5, instance.count);
+        assertEquals(List.of("a", "b"), instance.names);
+        assertFalse(instance.nested.enabled);
+        assertEquals("nested", instance.nested.label);
+        assertSame(nested, instance.nested);
+
+        // reset fields get their own copies, which can still be modified
+        instance.names.add("c");
+        assertEquals(List.of("a", "b"), handler.defaults().names);
+    }
+
+    @Test
+    void nestedFieldsAreBoundToTheWorkingInstance() throws IOException {
+        Path path = dir.resolve("config.json");
+        Files.writeString(path, "{\"nested\": {\"enabled\": false}}");
+        ConfigClassHandler<BufferedConfig> handler = handler(path);
+        ConfigField<Boolean> enabled = (ConfigField<Boolean>) handler.subclassFields(Nested.class)[0];
+
+        assertTrue(handler.load());
+        assertFalse(enabled.access().get());
+
+        enabled.access().set(true);
+        assertTrue(handler.instance().nested.enabled);
+        assertTrue(handler.defaults().nested.enabled);
+    }
+
+    @Test
+    void resetsArraysAndOtherCollectionsToCopiesOfTheDefaults() throws IOException {
+        Path path = dir.resolve("config.json");
+        Files.writeString(path, "{}");
+        ConfigClassHandler<CollectionConfig> handler = ConfigClassHandler.createBuilder(CollectionConfig.class)
+                .serializer(config -> GsonConfigSerializerBuilder.create(config).setPath(path).build())
+                .build();
+        CollectionConfig instance = handler.instance();
+
+        instance.ids[0] = 9;
+        instance.ranks.put("edited", 9);
+        assertTrue(handler.load());
+
+        assertArrayEquals(new int[]{1, 2, 3}, instance.ids);
+        assertEquals(Map.of("a", 1, "b", 2), instance.ranks);
+        assertNotSame(handler.defaults().ids, instance.ids);
+        assertNotSame(handler.defaults().ranks, instance.ranks);
+        assertEquals("b", instance.ranks.firstKey());
+
+        instance.ids[0] = 7;
+        instance.ranks.put("c", 3);
+        assertArrayEquals(new int[]{1, 2, 3}, handler.defaults().ids);
+        assertEquals(Map.of("a", 1, "b", 2), handler.defaults().ranks);
+    }
+
+    @Test
+    void snapshotsCopyArraysAndOtherCollections() throws IOException {
+        ConfigClassHandler<CollectionConfig> handler = ConfigClassHandler.createBuilder(CollectionConfig.class)
+                .serializer(config -> GsonConfigSerializerBuilder.create(config).setPath(dir.resolve("config.json")).build())
+                .build();
+        CollectionConfig snapshot = handler.snapshot().instance();
+
+        assertNotSame(handler.instance().ids, snapshot.ids);
+        assertNotSame(handler.defaults().ids, snapshot.ids);
+        assertNotSame(handler.instance().ranks, snapshot.ranks);
+
+        handler.instance().ids[0] = 9;
+        handler.instance().ranks.put("c", 3);
+        handler.save();
+        assertArrayEquals(new int[]{1, 2, 3}, snapshot.ids);
+        assertEquals(Map.of("a", 1, "b", 2), snapshot.ranks);
+        assertArrayEquals(new int[]{9, 2, 3}, handler.snapshot().instance().ids);
+    }
+
+    @Test
+    void defaultsCannotBeModified() throws IOException {
+        ConfigClassHandler<BufferedConfig> handler = handler(dir.resolve("config.json"));
+
+        assertThrows(UnsupportedOperationException.class, () -> handler.defaults().names.add("c"));
+        assertThrows(UnsupportedOperationException.class, () -> handler.defaults().nested.tags.add("c"));
+    }
+
+    @Test
+    void snapshotIsNeverTheDefaults() throws IOException {
+        ConfigClassHandler<BufferedConfig> handler = handler(dir.resolve("config.json"));
+        handler.save();
+
+        BufferedConfig snapshot = handler.snapshot().instance();
+        assertNotSame(handler.defaults(), snapshot);
+        assertNotSame(handler.defaults().nested, snapshot.nested);
+        assertNotSame(handler.instance(), snapshot);
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.names.add("c"));
+
+        handler.instance().names.add("c");
+        assertEquals(List.of("a", "b"), snapshot.names);
+    }
+
+    @Test
+    void deltaLeavesTheBaseUntouched() throws IOException {
+        ConfigClassHandler<BufferedConfig> handler = handler(dir.resolve("config.json"));
+        BufferedConfig base = handler.instance();
+        base.count = 2;
+
+        ConfigClassHandler<BufferedConfig> other = handler(dir.resolve("other.json"));
+        other.instance().nested.enabled = false;
+        ConfigClassHandlerImpl.BufferedLoad<BufferedConfig> load = ((ConfigClassHandlerImpl<BufferedConfig>) handler)
+                .applyDeltaIntoBuffer(base, other.exportDelta());
+        BufferedConfig applied = load.buffer().applyToCopyOf(base);
+
+        assertTrue(base.nested.enabled);
+        assertFalse(applied.nested.enabled);
+        assertEquals(2, applied.count);
+        assertNotSame(base.names, applied.names);
+    }
+
+    private static ConfigClassHandler<BufferedConfig> handler(Path path) {
+        return ConfigClassHandler.createBuilder(BufferedConfig.class)
+                .serializer(config -> GsonConfigSerializerBuilder.create(config).setPath(path).build())
+                .build();
+    }
+
+    public static class BufferedConfig {
+        @SerialEntry(required = false)
+        public int count = 1;
+
+        @SerialEntry(required = false)
+        public List<String> names = new ArrayList<>(List.of("a", "b"));
+
+        @SerialEntry(required = false)
+        public Nested nested = new Nested();
+    }
+
+    public static class CollectionConfig {
+        @SerialEntry(required = false)
+        public int[] ids = {1, 2, 3};
+
+        @SerialEntry(required = false)
+        public TreeMap<String, Integer> ranks = new TreeMap<>(Comparator.reverseOrder());
+
+        {
+            ranks.put("a", 1);
+            ranks.put("b", 2);
+        }
+    }
+
+    @SerialEntry
+    public static class Nested {
+        @SerialEntry(required = false)
+        public boolean enabled = true;
+
+        @SerialEntry(required = false)
+        public String label = "nested";
+
+        @SerialEntry(required = false)
+        public List<String> tags = new ArrayList<>();
+    }
+}
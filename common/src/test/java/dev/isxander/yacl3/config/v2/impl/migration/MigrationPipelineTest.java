@@ -0,0 +1,104 @@
+package dev.isxander.yacl3.config.v2.impl.migration;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import dev.isxander.yacl3.config.v2.api.migration.ConfigSchema;
+import org.junit.jupiter.api.Test;
+import org.quiltmc.parsers.json.JsonReader;
+import org.quiltmc.parsers.json.gson.GsonReader;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MigrationPipelineTest {
+    private static final ConfigSchema SCHEMA = ConfigSchema.builder()
+            // version 0 -> 1
+            .step(step -> step
+                    .rename("enable_thing", "thing_enabled")
+                    .retype("volume", value -> new JsonPrimitive(value.getAsInt() / 100f)))
+            // version 1 -> 2
+            .step(step -> step
+                    .split("size", Map.of(
+                            "width", value -> value.getAsJsonObject().get("w"),
+                            "height", value -> value.getAsJsonObject().get("h")))
+                    .merge(List.of("first", "last"), "name", values -> {
+                        JsonElement first = values.get("first");
+                        JsonElement last = values.get("last");
+                        return new JsonPrimitive((first != null ? first.getAsString() : "?") + " " + (last != null ? last.getAsString() : "?"));
+                    }))
+            .build();
+
+    @Test
+    void renamesWithoutReadingTheValue() throws IOException {
+        JsonReader jsonReader = JsonReader.json(new StringReader("{\"enable_thing\": true}"));
+        jsonReader.beginObject();
+        String name = jsonReader.nextName();
+
+        Map<String, JsonElement> migrated = new LinkedHashMap<>();
+        new MigrationPipeline(SCHEMA, 0).accept(name, new GsonReader(jsonReader), (migratedName, element) -> {
+            // the value is left for the field to stream in
+            assertNull(element);
+            migrated.put(migratedName, JsonParser.parseReader(new GsonReader(jsonReader)));
+        });
+
+        assertEquals(Map.of("thing_enabled", new JsonPrimitive(true)), migrated);
+    }
+
+    @Test
+    void retypesAValue() throws IOException {
+        Map<String, JsonElement> migrated = migrate(0, Map.of("volume", new JsonPrimitive(50)));
+
+        assertEquals(Map.of("volume", new JsonPrimitive(0.5f)), migrated);
+    }
+
+    @Test
+    void splitsAValue() throws IOException {
+        JsonObject size = new JsonObject();
+        size.addProperty("w", 3);
+        size.addProperty("h", 4);
+        Map<String, JsonElement> migrated = migrate(1, Map.of("size", size));
+
+        assertEquals(Map.of("width", new JsonPrimitive(3), "height", new JsonPrimitive(4)), migrated);
+    }
+
+    @Test
+    void mergesValuesOnceAllAreRead() throws IOException {
+        Map<String, JsonElement> migrated = migrate(1, Map.of("first", new JsonPrimitive("Ada"), "last", new JsonPrimitive("Lovelace")));
+
+        assertEquals(Map.of("name", new JsonPrimitive("Ada Lovelace")), migrated);
+    }
+
+    @Test
+    void finishesMergesMissingValues() throws IOException {
+        Map<String, JsonElement> migrated = migrate(1, Map.of("first", new JsonPrimitive("Ada")));
+
+        assertEquals(Map.of("name", new JsonPrimitive("Ada ?")), migrated);
+    }
+
+    @Test
+    void appliesOnlyTheStepsAfterTheFileVersion() throws IOException {
+        assertTrue(new MigrationPipeline(SCHEMA, 0).migrates());
+        assertFalse(new MigrationPipeline(SCHEMA, SCHEMA.version()).migrates());
+
+        // already at version 1, so the 0 -> 1 retype is not applied again
+        assertEquals(Map.of("volume", new JsonPrimitive(50)), migrate(1, Map.of("volume", new JsonPrimitive(50))));
+        assertEquals(Map.of("untouched", new JsonPrimitive(1)), migrate(0, Map.of("untouched", new JsonPrimitive(1))));
+    }
+
+    private static Map<String, JsonElement> migrate(int fromVersion, Map<String, JsonElement> values) throws IOException {
+        MigrationPipeline pipeline = new MigrationPipeline(SCHEMA, fromVersion);
+        Map<String, JsonElement> migrated = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonElement> entry : values.entrySet()) {
+            pipeline.accept(entry.getKey(), entry.getValue(), migrated::put);
+        }
+        pipeline.finish(migrated::put);
+        return migrated;
+    }
+}
@@ -0,0 +1,98 @@
+package dev.isxander.yacl3.config.v2.impl.serializer;
+
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.ConfigSerializer;
+import dev.isxander.yacl3.config.v2.api.SerialEntry;
+import dev.isxander.yacl3.config.v2.api.migration.ConfigSchema;
+import dev.isxander.yacl3.config.v2.api.serializer.GsonConfigSerializerBuilder;
+import dev.isxander.yacl3.config.v2.api.serializer.TomlConfigSerializerBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Loads files written under older and newer schema versions than the config's.
+ */
+class SchemaVersionTest {
+    private static final ConfigSchema SCHEMA = ConfigSchema.builder()
+            .step(step -> step.retype("volume", value -> new JsonPrimitive(value.getAsInt() / 100f)))
+            .build();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void migratesAndStampsAnOlderJsonFile() throws IOException {
+        Path path = dir.resolve("config.json");
+        Files.writeString(path, "{\"volume\": 50}");
+
+        ConfigClassHandler<VersionedConfig> handler = handler(config -> GsonConfigSerializerBuilder.create(config).setPath(path).build());
+        assertTrue(handler.load());
+
+        assertEquals(0.5f, handler.instance().volume);
+        assertEquals(1, JsonParser.parseString(Files.readString(path)).getAsJsonObject().get(ConfigSchema.VERSION_KEY).getAsInt());
+    }
+
+    @Test
+    void doesNotDowngradeANewerJsonFile() throws IOException {
+        Path path = dir.resolve("config.json");
+        String newer = "{\"$version\": 2, \"volume\": 0.25, \"added_later\": true}";
+        Files.writeString(path, newer);
+
+        ConfigClassHandler<VersionedConfig> handler = handler(config -> GsonConfigSerializerBuilder.create(config).setPath(path).build());
+        assertTrue(handler.load());
+        assertEquals(0.25f, handler.instance().volume);
+
+        handler.instance().volume = 1f;
+        handler.save();
+        assertEquals(newer, Files.readString(path));
+    }
+
+    @Test
+    void doesNotDowngradeANewerTomlFile() throws IOException {
+        Path path = dir.resolve("config.toml");
+        String newer = "\"$version\" = 2\nvolume = 0.25\n";
+        Files.writeString(path, newer);
+
+        ConfigClassHandler<VersionedConfig> handler = handler(config -> TomlConfigSerializerBuilder.create(config).setPath(path).build());
+        assertTrue(handler.load());
+        assertEquals(0.25f, handler.instance().volume);
+
+        handler.instance().volume = 1f;
+        handler.save();
+        assertEquals(newer, Files.readString(path));
+    }
+
+    @Test
+    void savesOnceTheFileIsGone() throws IOException {
+        Path path = dir.resolve("config.json");
+        Files.writeString(path, "{\"$version\": 2, \"volume\": 0.25}");
+
+        ConfigClassHandler<VersionedConfig> handler = handler(config -> GsonConfigSerializerBuilder.create(config).setPath(path).build());
+        assertTrue(handler.load());
+
+        Files.delete(path);
+        handler.save();
+        assertEquals(1, JsonParser.parseString(Files.readString(path)).getAsJsonObject().get(ConfigSchema.VERSION_KEY).getAsInt());
+    }
+
+    private static ConfigClassHandler<VersionedConfig> handler(Function<ConfigClassHandler<VersionedConfig>, ConfigSerializer<VersionedConfig>> serializer) {
+        return ConfigClassHandler.createBuilder(VersionedConfig.class)
+                .schema(SCHEMA)
+                .serializer(serializer)
+                .build();
+    }
+
+    public static class VersionedConfig {
+        @SerialEntry
+        public float volume = 1f;
+    }
+}
@@ -0,0 +1,132 @@
+package dev.isxander.yacl3.config.v2.impl.serializer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TomlReaderTest {
+    @Test
+    void readsMultilineStrings() throws IOException {
+        Map<String, Object> root = TomlReader.read("""
+                basic = \"""
+                first
+                second\"""
+                trimmed = \"""
+                one \\
+                    two\"""
+                quoted = \"""say ""hi""\"""
+                literal = '''
+                C:\\no\\escapes
+                here'''
+                """);
+
+        assertEquals("first\nsecond", root.get("basic"));
+        assertEquals("one two", root.get("trimmed"));
+        assertEquals("say \"\"hi\"\"", root.get("quoted"));
+        assertEquals("C:\\no\\escapes\nhere", root.get("literal"));
+    }
+
+    @Test
+    void readsEscapedStrings() throws IOException {
+        Map<String, Object> root = TomlReader.read("""
+                escapes = "tab\\t quote\\" backslash\\\\ newline\\n"
+                unicode = "\\u00E9 \\U0001F600"
+                literal = 'raw \\n'
+                "quoted key" = 1
+                """);
+
+        assertEquals("tab\t quote\" backslash\\ newline\n", root.get("escapes"));
+        assertEquals("\u00E9 \uD83D\uDE00", root.get("unicode"));
+        assertEquals("raw \\n", root.get("literal"));
+        assertEquals(1L, root.get("quoted key"));
+
+        assertThrows(IOException.class, () -> TomlReader.read("bad = \"\\q\""));
+        assertThrows(IOException.class, () -> TomlReader.read("bad = \"unterminated\nvalue\""));
+    }
+
+    @Test
+    void readsDottedKeysAndTableHeadersIntoTheSameTree() throws IOException {
+        Map<String, Object> dotted = TomlReader.read("""
+                fruit.apple.color = "red"
+                fruit.apple.size = 3
+                """);
+        Map<String, Object> headers = TomlReader.read("""
+                [fruit.apple]
+                color = "red"
+                size = 3
+                """);
+
+        assertEquals(Map.of("fruit", Map.of("apple", Map.of("color", "red", "size", 3L))), dotted);
+        assertEquals(dotted, headers);
+
+        // a table created by a header's path can still have a header of its own
+        Map<String, Object> implicit = TomlReader.read("""
+                [a.b]
+                x = 1
+                [a]
+                y = 2
+                """);
+        assertEquals(Map.of("a", Map.of("b", Map.of("x", 1L), "y", 2L)), implicit);
+    }
+
+    @Test
+    void readsArraysOfTables() throws IOException {
+        Map<String, Object> root = TomlReader.read("""
+                [[fruit]]
+                name = "apple"
+                [fruit.physical]
+                color = "red"
+
+                [[fruit]]
+                name = "banana"
+                """);
+
+        assertEquals(Map.of("fruit", List.of(
+                Map.of("name", "apple", "physical", Map.of("color", "red")),
+                Map.of("name", "banana")
+        )), root);
+
+        // only arrays made by [[headers]] can be appended to
+        assertThrows(IOException.class, () -> TomlReader.read("fruit = []\n[[fruit]]"));
+    }
+
+    @Test
+    void rejectsDuplicateKeys() {
+        assertThrows(IOException.class, () -> TomlReader.read("a = 1\na = 2"));
+        assertThrows(IOException.class, () -> TomlReader.read("[a]\n[a]"));
+        assertThrows(IOException.class, () -> TomlReader.read("a = 1\n[a]"));
+        assertThrows(IOException.class, () -> TomlReader.read("a = { b = 1 }\n[a]"));
+        assertThrows(IOException.class, () -> TomlReader.read("a = { b = 1 }\na.c = 2"));
+        assertThrows(IOException.class, () -> TomlReader.read("a.b = 1\n[a]"));
+        assertThrows(IOException.class, () -> TomlReader.read("[a.b]\nz = 1\n[a]\nb.y = 2"));
+    }
+
+    @Test
+    void readsWhatTheWriterWrites() throws IOException {
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("ratio", 0.5);
+        nested.put("names", List.of("a", "b \"quoted\"", "multi\nline"));
+
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("$version", 2L);
+        root.put("enabled", true);
+        root.put("count", -12L);
+        root.put("infinite", Double.POSITIVE_INFINITY);
+        root.put("empty", List.of());
+        root.put("points", List.of(Map.of("x", 1L), Map.of("x", 2L)));
+        root.put("matrix", List.of(List.of(1L, 2L), List.of(3L)));
+        root.put("long list", List.of("a long value to push the array over the line limit", "so it is written over several lines"));
+        root.put("nested", nested);
+
+        StringWriter writer = new StringWriter();
+        TomlWriter.write(writer, root, Map.of(List.of("count"), "A comment\nover two lines", List.of("nested"), "A table"));
+
+        assertEquals(root, TomlReader.read(writer.toString()));
+    }
+}
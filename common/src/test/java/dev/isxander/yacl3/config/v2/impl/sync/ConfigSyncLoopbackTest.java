@@ -0,0 +1,182 @@
+package dev.isxander.yacl3.config.v2.impl.sync;
+
+import dev.isxander.yacl3.config.v2.api.ConfigChangeEvent;
+import dev.isxander.yacl3.config.v2.api.ConfigClassHandler;
+import dev.isxander.yacl3.config.v2.api.ConfigDelta;
+import dev.isxander.yacl3.config.v2.api.ConfigField;
+import dev.isxander.yacl3.config.v2.api.ConfigSerializer;
+import dev.isxander.yacl3.config.v2.api.SerialEntry;
+import dev.isxander.yacl3.config.v2.api.sync.ConfigSyncClient;
+import dev.isxander.yacl3.config.v2.api.sync.ConfigSyncConnection;
+import dev.isxander.yacl3.config.v2.api.sync.ConfigSyncServer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives a server and its clients through {@link ConfigSyncConnection#loopback(ConfigSyncClient)}.
+ */
+class ConfigSyncLoopbackTest {
+    @Test
+    void syncsConnectChangeAndLateJoin() {
+        ConfigClassHandler<SyncedConfig> server = handler();
+        server.instance().count = 5;
+        server.instance().name = "server";
+        server.save();
+        ConfigSyncServer<SyncedConfig> sync = ConfigSyncServer.create(server);
+
+        // connect: the whole config is sent straight away
+        ConfigClassHandler<SyncedConfig> early = handler();
+        early.instance().count = 1;
+        early.instance().name = "local";
+        ConfigSyncClient<SyncedConfig> earlyClient = ConfigSyncClient.create(early);
+        RecordingConnection earlyConnection = new RecordingConnection(earlyClient);
+        sync.connect(earlyConnection);
+
+        assertTrue(earlyClient.isSynced());
+        assertEquals(1, earlyConnection.payloads);
+        assertEquals(5, earlyClient.snapshot().instance().count);
+        assertEquals("server", earlyClient.snapshot().instance().name);
+
+        // a change: only the changed fields are sent, once per tick
+        List<ConfigChangeEvent<SyncedConfig>> events = new ArrayList<>();
+        earlyClient.addChangeListener(events::add);
+        server.instance().count = 7;
+        server.instance().tags.add("new");
+        server.save();
+        sync.tick();
+        sync.tick();
+
+        assertEquals(2, earlyConnection.payloads);
+        assertEquals(7, earlyClient.snapshot().instance().count);
+        assertEquals(List.of("new"), earlyClient.snapshot().instance().tags);
+        assertEquals(1, events.size());
+        assertEquals(List.of("count", "tags"), names(events.get(0).changedFields()));
+
+        // a late join: the whole config as it is now, and nothing already sent to others
+        ConfigSyncClient<SyncedConfig> lateClient = ConfigSyncClient.create(handler());
+        RecordingConnection lateConnection = new RecordingConnection(lateClient);
+        sync.connect(lateConnection);
+        sync.tick();
+
+        assertEquals(1, lateConnection.payloads);
+        assertEquals(2, earlyConnection.payloads);
+        assertEquals(7, lateClient.snapshot().instance().count);
+        assertEquals("server", lateClient.snapshot().instance().name);
+        assertEquals(List.of("new"), lateClient.snapshot().instance().tags);
+    }
+
+    @Test
+    void keepsSyncedValuesOutOfTheClientFile() {
+        ConfigClassHandler<SyncedConfig> server = handler();
+        server.instance().count = 5;
+        server.instance().name = "server";
+        server.save();
+        ConfigSyncServer<SyncedConfig> sync = ConfigSyncServer.create(server);
+
+        ConfigClassHandler<SyncedConfig> client = handler();
+        client.instance().count = 1;
+        ConfigSyncClient<SyncedConfig> syncClient = ConfigSyncClient.create(client);
+        RecordingConnection connection = new RecordingConnection(syncClient);
+        sync.connect(connection);
+
+        // the synced config is a copy, so local edits never show through it
+        client.instance().tags.add("local");
+        assertNotSame(client.instance(), syncClient.snapshot().instance());
+        assertEquals(List.of(), syncClient.snapshot().instance().tags);
+        client.instance().tags.clear();
+
+        client.save();
+        assertEquals(1, client.instance().count);
+        ConfigDelta saved = ((MemorySerializer<SyncedConfig>) client.serializer()).saved;
+        assertEquals(Set.of("count"), saved.changes().keySet());
+
+        // leaving the server restores the client's own values
+        List<ConfigChangeEvent<SyncedConfig>> events = new ArrayList<>();
+        syncClient.addChangeListener(events::add);
+        sync.disconnect(connection);
+        syncClient.disconnect();
+
+        assertFalse(syncClient.isSynced());
+        assertEquals(1, syncClient.snapshot().instance().count);
+        assertEquals("default", syncClient.snapshot().instance().name);
+        assertEquals(List.of("count", "name"), names(events.get(0).changedFields()));
+
+        server.instance().count = 9;
+        server.save();
+        sync.tick();
+        assertEquals(1, connection.payloads);
+    }
+
+    @Test
+    void sendsArraysChangedInPlace() {
+        ConfigClassHandler<SyncedConfig> server = handler();
+        ConfigSyncServer<SyncedConfig> sync = ConfigSyncServer.create(server);
+        ConfigSyncClient<SyncedConfig> client = ConfigSyncClient.create(handler());
+        RecordingConnection connection = new RecordingConnection(client);
+        sync.connect(connection);
+
+        server.instance().levels[0] = 9;
+        server.save();
+        sync.tick();
+
+        assertEquals(2, connection.payloads);
+        assertArrayEquals(new int[]{9, 2}, client.snapshot().instance().levels);
+    }
+
+    private static ConfigClassHandler<SyncedConfig> handler() {
+        return ConfigClassHandler.createBuilder(SyncedConfig.class)
+                .serializer(MemorySerializer::new)
+                .build();
+    }
+
+    private static List<String> names(List<ConfigField<?>> fields) {
+        return fields.stream().map(field -> field.access().name()).toList();
+    }
+
+    public static class SyncedConfig {
+        @SerialEntry
+        public int count = 0;
+        @SerialEntry
+        public String name = "default";
+        @SerialEntry
+        public List<String> tags = new ArrayList<>();
+        @SerialEntry
+        public int[] levels = {1, 2};
+    }
+
+    /**
+     * Keeps what would have been written to the file, as the fields which differ from the defaults.
+     */
+    private static final class MemorySerializer<T> extends ConfigSerializer<T> {
+        private ConfigDelta saved = ConfigDelta.EMPTY;
+
+        private MemorySerializer(ConfigClassHandler<T> config) {
+            super(config);
+        }
+
+        @Override
+        public void save() {
+            saved = config.exportDelta();
+        }
+    }
+
+    private static final class RecordingConnection implements ConfigSyncConnection {
+        private final ConfigSyncConnection loopback;
+        private int payloads;
+
+        private RecordingConnection(ConfigSyncClient<?> client) {
+            this.loopback = ConfigSyncConnection.loopback(client);
+        }
+
+        @Override
+        public void send(byte[] payload) {
+            payloads++;
+            loopback.send(payload);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+plugins {
+    `java-library`
+}
+
+java {
+    withSourcesJar()
+}
+
+tasks {
+    withType<JavaCompile> {
+        options.release.set(17)
+    }
+
+    jar {
+        from(rootProject.file("LICENSE"))
+    }
+}
+
+publishing {
+    publications {
+        create<MavenPublication>("processor") {
+            groupId = "dev.isxander.yacl"
+            artifactId = "yet-another-config-lib-processor"
+
+            from(components["java"])
+        }
+    }
+}
+tasks.findByPath("publishProcessorPublicationToReleasesRepository")?.let {
+    rootProject.tasks["releaseMod"].dependsOn(it)
+}
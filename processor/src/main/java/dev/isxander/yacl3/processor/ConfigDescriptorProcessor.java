@@ -0,0 +1,405 @@
+package dev.isxander.yacl3.processor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Generates a {@code ConfigClassDescriptor} for every class with fields annotated
+ * with {@code @SerialEntry} or {@code @AutoGen}, so {@code ConfigClassHandler} does not
+ * have to discover them with reflection at runtime.
+ * <p>
+ * This processor does not depend on YACL itself, all annotations are matched by name.
+ */
+@SupportedAnnotationTypes({
+        ConfigDescriptorProcessor.SERIAL_ENTRY,
+        ConfigDescriptorProcessor.AUTO_GEN
+})
+public class ConfigDescriptorProcessor extends AbstractProcessor {
+    static final String API_PACKAGE = "dev.isxander.yacl3.config.v2.api";
+    static final String AUTOGEN_PACKAGE = API_PACKAGE + ".autogen";
+    static final String SERIAL_ENTRY = API_PACKAGE + ".SerialEntry";
+    static final String AUTO_GEN = AUTOGEN_PACKAGE + ".AutoGen";
+    static final String CONFIG_ENTRY = "dev.isxander.yacl3.config.ConfigEntry";
+    static final String DESCRIPTOR = API_PACKAGE + ".ConfigClassDescriptor";
+    static final String DESCRIPTOR_SUFFIX = "_YACLDescriptor";
+
+    /** Option factory annotations that ship with YACL. */
+    private static final Set<String> BUILT_IN_FACTORIES = Set.of(
+            "TickBox", "Boolean", "IntSlider", "LongSlider", "FloatSlider", "DoubleSlider",
+            "IntField", "LongField", "FloatField", "DoubleField", "EnumCycler", "StringField",
+            "ColorField", "Dropdown", "ItemField", "Label", "ListGroup", "MasterTickBox"
+    ).stream().map(name -> AUTOGEN_PACKAGE + "." + name).collect(Collectors.toUnmodifiableSet());
+
+    /** YACL annotations that can appear on a field alongside its option factory. */
+    private static final Set<String> NON_FACTORY_ANNOTATIONS = Set.of(
+            SERIAL_ENTRY, AUTO_GEN,
+            AUTOGEN_PACKAGE + ".CustomName",
+            AUTOGEN_PACKAGE + ".CustomDescription",
+            AUTOGEN_PACKAGE + ".CustomImage",
+            AUTOGEN_PACKAGE + ".CustomFormat",
+            AUTOGEN_PACKAGE + ".FormatTranslation"
+    );
+
+    private final Set<String> generated = new HashSet<>();
+    private Elements elements;
+    private Types types;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> configClasses = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD) {
+                    configClasses.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+
+        for (TypeElement configClass : configClasses) {
+            if (generated.add(configClass.getQualifiedName().toString())) {
+                generate(configClass);
+            }
+        }
+
+        // other processors may also be interested in these annotations
+        return false;
+    }
+
+    private void generate(TypeElement configClass) {
+        List<VariableElement> fields = ElementFilter.fieldsIn(configClass.getEnclosedElements());
+
+        for (VariableElement field : fields) {
+            if (findAnnotation(field, CONFIG_ENTRY) != null) {
+                error(field, "Field is still annotated with the deprecated @ConfigEntry annotation. This is incorrect. Use @SerialEntry.");
+                return;
+            }
+        }
+
+        // inner classes need an outer instance to be constructed, so cannot be described either
+        boolean innerClass = configClass.getNestingKind() == NestingKind.MEMBER && !configClass.getModifiers().contains(Modifier.STATIC);
+        if (!configClass.getTypeParameters().isEmpty() || innerClass || !isAccessible(configClass)) {
+            note(configClass, "Skipping config descriptor generation as the class cannot be referenced from its package. Fields will be discovered with reflection.");
+            return;
+        }
+
+        List<VariableElement> configFields = fields.stream()
+                .filter(field -> findAnnotation(field, SERIAL_ENTRY) != null || findAnnotation(field, AUTO_GEN) != null)
+                .toList();
+
+        for (VariableElement field : configFields) {
+            if (!isExpressible(field.asType())) {
+                note(field, "Skipping config descriptor generation as the type of this field cannot be referenced from its package. Fields will be discovered with reflection.");
+                return;
+            }
+        }
+
+        String packageName = elements.getPackageOf(configClass).getQualifiedName().toString();
+        String descriptorName = nestedName(configClass) + DESCRIPTOR_SUFFIX;
+        String qualifiedDescriptorName = packageName.isEmpty() ? descriptorName : packageName + "." + descriptorName;
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedDescriptorName, configClass).openWriter()) {
+            writer.write(writeDescriptor(configClass, packageName, descriptorName, configFields));
+        } catch (IOException e) {
+            error(configClass, "Failed to write config descriptor: " + e.getMessage());
+        }
+    }
+
+    private String writeDescriptor(TypeElement configClass, String packageName, String descriptorName, List<VariableElement> fields) {
+        String configType = configClass.getQualifiedName().toString();
+        String fieldDescriptor = DESCRIPTOR + ".FieldDescriptor";
+
+        StringBuilder sb = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        sb.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        sb.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        sb.append("public final class ").append(descriptorName).append(" implements ").append(DESCRIPTOR).append("<").append(configType).append("> {\n");
+        sb.append("    private static final java.util.List<").append(fieldDescriptor).append("<").append(configType).append(", ?>> FIELDS = java.util.List.of(");
+
+        for (int i = 0; i < fields.size(); i++) {
+            VariableElement field = fields.get(i);
+            String name = field.getSimpleName().toString();
+            TypeMirror type = field.asType();
+            Set<Modifier> modifiers = field.getModifiers();
+            boolean directAccess = !modifiers.contains(Modifier.PRIVATE) && !modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.FINAL);
+
+            sb.append(i == 0 ? "\n" : ",\n");
+            sb.append("            new ").append(fieldDescriptor).append("<").append(configType).append(", ").append(typeName(boxed(type))).append(">(\n");
+            sb.append("                    ").append(literal(name)).append(",\n");
+            sb.append("                    ").append(classLiteral(type)).append(",\n");
+            sb.append("                    ").append(typeExpression(type)).append(",\n");
+            sb.append("                    ").append(serialExpression(field)).append(",\n");
+            sb.append("                    ").append(autoGenExpression(field)).append(",\n");
+            sb.append("                    ").append(factoryExpression(field)).append(",\n");
+            if (directAccess) {
+                sb.append("                    instance -> instance.").append(name).append(",\n");
+                sb.append("                    (instance, value) -> instance.").append(name).append(" = value,\n");
+                sb.append("                    ").append(primitiveAccessorsExpression(configType, name, type)).append("\n");
+            } else {
+                sb.append("                    null,\n");
+                sb.append("                    null,\n");
+                sb.append("                    null\n");
+            }
+            sb.append("            )");
+        }
+
+        sb.append("\n    );\n\n");
+        sb.append("    @Override\n");
+        sb.append("    public Class<").append(configType).append("> configClass() {\n");
+        sb.append("        return ").append(configType).append(".class;\n");
+        sb.append("    }\n\n");
+        sb.append("    @Override\n");
+        sb.append("    public java.util.List<").append(fieldDescriptor).append("<").append(configType).append(", ?>> fields() {\n");
+        sb.append("        return FIELDS;\n");
+        sb.append("    }\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    /**
+     * Primitive fields get accessors of their own type, so reading or writing them never boxes.
+     */
+    private String primitiveAccessorsExpression(String configType, String name, TypeMirror type) {
+        String accessor = switch (type.getKind()) {
+            case INT -> "Int";
+            case LONG -> "Long";
+            case FLOAT -> "Float";
+            case DOUBLE -> "Double";
+            case BOOLEAN -> "Boolean";
+            default -> null;
+        };
+        if (accessor == null) {
+            return "null";
+        }
+
+        String primitive = typeName(type);
+        return "new " + DESCRIPTOR + ".PrimitiveAccessors<" + configType + ">() {\n"
+                + "                        @Override\n"
+                + "                        public " + primitive + " get" + accessor + "(" + configType + " instance) {\n"
+                + "                            return instance." + name + ";\n"
+                + "                        }\n\n"
+                + "                        @Override\n"
+                + "                        public void set" + accessor + "(" + configType + " instance, " + primitive + " value) {\n"
+                + "                            instance." + name + " = value;\n"
+                + "                        }\n"
+                + "                    }";
+    }
+
+    private String serialExpression(VariableElement field) {
+        AnnotationMirror serialEntry = findAnnotation(field, SERIAL_ENTRY);
+        if (serialEntry == null) {
+            return "null";
+        }
+
+        String serialName = (String) value(serialEntry, "value");
+        if (serialName.isEmpty()) {
+            serialName = field.getSimpleName().toString();
+        }
+
+        return DESCRIPTOR + ".serial(%s, %s, %s, %s, %s)".formatted(
+                literal(serialName),
+                literal((String) value(serialEntry, "comment")),
+                value(serialEntry, "required"),
+                value(serialEntry, "nullable"),
+                value(serialEntry, "lazy")
+        );
+    }
+
+    private String autoGenExpression(VariableElement field) {
+        AnnotationMirror autoGen = findAnnotation(field, AUTO_GEN);
+        if (autoGen == null) {
+            return "null";
+        }
+
+        return DESCRIPTOR + ".autoGen(%s, %s)".formatted(
+                literal((String) value(autoGen, "category")),
+                literal((String) value(autoGen, "group"))
+        );
+    }
+
+    /**
+     * The factory annotation is only recorded when there is no doubt which it is.
+     * If the field has any other annotation it could be a custom factory,
+     * in which case YACL scans the field's annotations at runtime as usual.
+     */
+    private String factoryExpression(VariableElement field) {
+        String factory = null;
+        for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            String name = ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+
+            if (BUILT_IN_FACTORIES.contains(name)) {
+                if (factory != null) {
+                    return "null";
+                }
+                factory = name;
+            } else if (!NON_FACTORY_ANNOTATIONS.contains(name) && !name.startsWith("java.") && !name.startsWith("javax.") && !name.startsWith("org.jetbrains.annotations.")) {
+                return "null";
+            }
+        }
+
+        return factory == null ? "null" : factory + ".class";
+    }
+
+    private String classLiteral(TypeMirror type) {
+        TypeMirror erasure = types.erasure(type);
+        String literal = typeName(erasure) + ".class";
+        return isParameterized(type) ? "(Class) " + literal : literal;
+    }
+
+    private String typeExpression(TypeMirror type) {
+        if (isParameterized(type)) {
+            return "new com.google.gson.reflect.TypeToken<" + typeName(type) + ">() {}.getType()";
+        }
+        return typeName(types.erasure(type)) + ".class";
+    }
+
+    private boolean isParameterized(TypeMirror type) {
+        if (type instanceof ArrayType arrayType) {
+            return isParameterized(arrayType.getComponentType());
+        }
+        return type instanceof DeclaredType declaredType && !declaredType.getTypeArguments().isEmpty();
+    }
+
+    private TypeMirror boxed(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass((PrimitiveType) type).asType();
+        }
+        return type;
+    }
+
+    /**
+     * Prints a type as source, without any type-use annotations.
+     */
+    private String typeName(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN, BYTE, SHORT, INT, LONG, CHAR, FLOAT, DOUBLE -> type.getKind().name().toLowerCase(Locale.ROOT);
+            case ARRAY -> typeName(((ArrayType) type).getComponentType()) + "[]";
+            case WILDCARD -> {
+                WildcardType wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null) yield "? extends " + typeName(wildcard.getExtendsBound());
+                if (wildcard.getSuperBound() != null) yield "? super " + typeName(wildcard.getSuperBound());
+                yield "?";
+            }
+            case DECLARED -> {
+                DeclaredType declared = (DeclaredType) type;
+                String name = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+                List<? extends TypeMirror> arguments = declared.getTypeArguments();
+                if (arguments.isEmpty() || ((TypeElement) declared.asElement()).getTypeParameters().isEmpty()) yield name;
+                yield name + arguments.stream().map(this::typeName).collect(Collectors.joining(", ", "<", ">"));
+            }
+            default -> throw new IllegalArgumentException("Cannot express type " + type);
+        };
+    }
+
+    private boolean isExpressible(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN, BYTE, SHORT, INT, LONG, CHAR, FLOAT, DOUBLE -> true;
+            case ARRAY -> isExpressible(((ArrayType) type).getComponentType());
+            case WILDCARD -> {
+                WildcardType wildcard = (WildcardType) type;
+                yield (wildcard.getExtendsBound() == null || isExpressible(wildcard.getExtendsBound()))
+                        && (wildcard.getSuperBound() == null || isExpressible(wildcard.getSuperBound()));
+            }
+            case DECLARED -> isAccessible((TypeElement) ((DeclaredType) type).asElement())
+                    && ((DeclaredType) type).getTypeArguments().stream().allMatch(this::isExpressible);
+            default -> false;
+        };
+    }
+
+    /**
+     * @return if the type can be referenced from its own package
+     */
+    private boolean isAccessible(TypeElement type) {
+        Element element = type;
+        while (element instanceof TypeElement) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * @return the name of a type relative to its package, with nested classes joined by underscores
+     */
+    private String nestedName(TypeElement type) {
+        Deque<String> names = new ArrayDeque<>();
+        Element element = type;
+        while (element instanceof TypeElement) {
+            names.addFirst(element.getSimpleName().toString());
+            element = element.getEnclosingElement();
+        }
+        return String.join("_", names);
+    }
+
+    private AnnotationMirror findAnnotation(Element element, String name) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(name)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private Object value(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements.getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        throw new IllegalArgumentException("Annotation " + annotation + " has no value " + name);
+    }
+
+    private static String literal(String value) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append("\\u%04x".formatted((int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private void note(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message, element);
+    }
+}
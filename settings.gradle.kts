@@ -20,6 +20,7 @@ rootProject.name = "YetAnotherConfigLib"
 val enabledLoaders = settings.extra.properties["loaders"].toString().split(",").map { it.trim() }
 
 include("common")
+include("processor")
 include("test-common")
 
 if ("fabric" in enabledLoaders) {
@@ -22,4 +22,5 @@ dependencies {
     modImplementation(libs.fabric.loader)
 
     implementation(project(path = ":common", configuration = "namedElements"))
+    annotationProcessor(project(":processor"))
 }